@@ -0,0 +1,60 @@
+package com.saunderscox.taskolotl.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reorders items on position-ordered boards of {@code size} items. Each invocation moves the last
+ * item to the top and back again, so the board is unchanged between invocations and both shifting
+ * directions are measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int size;
+
+  private Board board;
+  private BoardItem lastItem;
+
+  @Setup
+  public void setUp() {
+    List<BoardItem> boardItems = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      boardItems.add(Task.builder().id(UUID.randomUUID()).title("Task " + i).position(i).build());
+    }
+    board = Board.builder()
+        .id(UUID.randomUUID())
+        .title("Benchmark Board")
+        .boardType(BoardType.TASK)
+        .boardItems(boardItems)
+        .build();
+    lastItem = boardItems.get(size - 1);
+  }
+
+  @Benchmark
+  public int moveItemToTopAndBack() {
+    board.moveItemToPosition(lastItem, 0);
+    board.moveItemToPosition(lastItem, size - 1);
+    return lastItem.getPosition();
+  }
+}
@@ -0,0 +1,92 @@
+package com.saunderscox.taskolotl.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up persisted entities in hash sets of {@code size} elements, as the relationship collections
+ * and membership checks do. {@link User} compares by ID only through {@link BaseEntity}, while
+ * {@link Task} also compares all of its own and {@link BoardItem}'s fields.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityEqualityBenchmark {
+
+  @Param({"100", "10000"})
+  private int size;
+
+  private Set<User> users;
+  private Set<Task> tasks;
+  private User presentUser;
+  private User absentUser;
+  private Task presentTask;
+  private Task absentTask;
+
+  @Setup
+  public void setUp() {
+    users = new HashSet<>();
+    tasks = new HashSet<>();
+    for (int i = 0; i < size; i++) {
+      users.add(user(i));
+      tasks.add(task(i));
+    }
+    // Equal copies rather than the same instances, so lookups cannot short-circuit on identity
+    presentUser = User.builder().id(users.iterator().next().getId()).username("copy").build();
+    Task someTask = tasks.iterator().next();
+    presentTask = Task.builder().id(someTask.getId()).title(someTask.getTitle()).position(someTask.getPosition())
+        .build();
+    absentUser = user(size);
+    absentTask = task(size);
+  }
+
+  @Benchmark
+  public boolean containsUser() {
+    return users.contains(presentUser);
+  }
+
+  @Benchmark
+  public boolean containsAbsentUser() {
+    return users.contains(absentUser);
+  }
+
+  @Benchmark
+  public boolean containsTask() {
+    return tasks.contains(presentTask);
+  }
+
+  @Benchmark
+  public boolean containsAbsentTask() {
+    return tasks.contains(absentTask);
+  }
+
+  @Benchmark
+  public int hashTask() {
+    return presentTask.hashCode();
+  }
+
+  private static User user(int i) {
+    return User.builder().id(UUID.randomUUID()).username("user" + i).build();
+  }
+
+  private static Task task(int i) {
+    return Task.builder().id(UUID.randomUUID()).title("Task " + i).position(i).build();
+  }
+}
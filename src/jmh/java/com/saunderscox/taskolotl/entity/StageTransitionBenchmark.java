@@ -0,0 +1,61 @@
+package com.saunderscox.taskolotl.entity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Walks a {@link Task} and a {@link Study} through every stage and back to the first one, so each
+ * invocation covers all transitions including setting and clearing {@code completedAt}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StageTransitionBenchmark {
+
+  private Task task;
+  private Study study;
+
+  @Setup
+  public void setUp() {
+    task = Task.builder().id(UUID.randomUUID()).title("Task").build();
+    study = Study.builder().id(UUID.randomUUID()).title("Study").build();
+  }
+
+  @Benchmark
+  public int taskRoundTrip() {
+    int transitions = 0;
+    while (task.advanceStage()) {
+      transitions++;
+    }
+    while (task.regressStage()) {
+      transitions++;
+    }
+    return transitions;
+  }
+
+  @Benchmark
+  public int studyRoundTrip() {
+    int transitions = 0;
+    while (study.advanceStage()) {
+      transitions++;
+    }
+    while (study.regressStage()) {
+      transitions++;
+    }
+    return transitions;
+  }
+}
@@ -0,0 +1,86 @@
+package com.saunderscox.taskolotl.mapper;
+
+import com.saunderscox.taskolotl.dto.BoardResponse;
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardItem;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.Role;
+import com.saunderscox.taskolotl.entity.Skill;
+import com.saunderscox.taskolotl.entity.Task;
+import com.saunderscox.taskolotl.entity.User;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps a board with {@code size} items and members to a {@link BoardResponse}, the cost paid by
+ * every single-board read that goes through {@link BoardMapper} rather than {@link BoardBatchMapper}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoardMapperBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int size;
+
+  private final BoardMapper boardMapper = Mappers.getMapper(BoardMapper.class);
+
+  private Board board;
+
+  @Setup
+  public void setUp() {
+    Set<User> owners = new HashSet<>();
+    Set<User> members = new LinkedHashSet<>();
+    List<BoardItem> boardItems = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      members.add(User.builder().id(UUID.randomUUID()).username("member" + i).build());
+      boardItems.add(Task.builder().id(UUID.randomUUID()).title("Task " + i).position(i).build());
+    }
+    owners.add(User.builder().id(UUID.randomUUID()).username("owner").build());
+
+    Set<Role> roles = new HashSet<>();
+    Set<Skill> skills = new HashSet<>();
+    for (int i = 0; i < 10; i++) {
+      roles.add(Role.builder().id(UUID.randomUUID()).name("Role " + i).build());
+      skills.add(Skill.builder().id(UUID.randomUUID()).name("Skill " + i).build());
+    }
+
+    board = Board.builder()
+        .id(UUID.randomUUID())
+        .title("Benchmark Board")
+        .boardType(BoardType.TASK)
+        .visible(true)
+        .owners(owners)
+        .members(members)
+        .boardItems(boardItems)
+        .roles(roles)
+        .skills(skills)
+        .build();
+  }
+
+  @Benchmark
+  public BoardResponse toResponseDto() {
+    return boardMapper.toResponseDto(board);
+  }
+}
@@ -0,0 +1,66 @@
+package com.saunderscox.taskolotl.service;
+
+import com.saunderscox.taskolotl.config.security.TokenProps;
+import com.saunderscox.taskolotl.dto.AuthResponse;
+import com.saunderscox.taskolotl.entity.Permission;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issues and parses tokens with {@link AuthService}. Parsing is what every authenticated request
+ * pays on a {@link com.saunderscox.taskolotl.config.security.VerifiedTokenCache} miss; issuing is
+ * paid on every login and refresh. The collaborators these paths do not touch are left null.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthServiceBenchmark {
+
+  private AuthService authService;
+  private UUID userId;
+  private String accessToken;
+
+  @Setup
+  public void setUp() {
+    byte[] secret = new byte[64];
+    new SecureRandom().nextBytes(secret);
+
+    TokenProps tokenProps = new TokenProps();
+    tokenProps.setJwtSecret(Base64.getEncoder().encodeToString(secret));
+    tokenProps.setAccessTokenExpiration(TimeUnit.HOURS.toMillis(1));
+    tokenProps.setRefreshTokenExpiration(TimeUnit.DAYS.toMillis(7));
+
+    authService = new AuthService(null, tokenProps, null, null);
+    authService.initSigningKey();
+
+    userId = UUID.randomUUID();
+    accessToken = authService.userIdToAuthResponse(userId, Permission.USER).getAccessToken();
+  }
+
+  @Benchmark
+  public Claims getClaims() {
+    return authService.getClaims(accessToken, "access");
+  }
+
+  @Benchmark
+  public AuthResponse userIdToAuthResponse() {
+    return authService.userIdToAuthResponse(userId, Permission.USER);
+  }
+}
@@ -0,0 +1,94 @@
+package com.saunderscox.taskolotl.service;
+
+import com.saunderscox.taskolotl.config.cache.CacheProps;
+import com.saunderscox.taskolotl.config.cache.CacheRegistry;
+import com.saunderscox.taskolotl.config.security.TokenProps;
+import com.saunderscox.taskolotl.config.security.TokenRevocationStore;
+import com.saunderscox.taskolotl.config.security.VerifiedToken;
+import com.saunderscox.taskolotl.config.security.VerifiedTokenCache;
+import com.saunderscox.taskolotl.entity.Permission;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of verifying one bearer token before and after
+ * {@link com.saunderscox.taskolotl.config.security.TokenFilter} became the only verifier. Before, its
+ * jjwt check was followed by the resource server's {@link NimbusJwtDecoder}, configured here as the
+ * removed {@code jwtDecoder} bean was; after, only the jjwt check runs. Both are measured with the
+ * verified-token cache warm, as on repeat requests, and bypassed, as on the first request with a token.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenVerificationBenchmark {
+
+  private AuthService authService;
+  private JwtDecoder jwtDecoder;
+  private String accessToken;
+
+  @Setup
+  public void setUp() {
+    // A 256-bit key makes jjwt sign with HS256, the algorithm the removed decoder expected
+    byte[] secret = new byte[32];
+    new SecureRandom().nextBytes(secret);
+
+    TokenProps tokenProps = new TokenProps();
+    tokenProps.setJwtSecret(Base64.getEncoder().encodeToString(secret));
+    tokenProps.setAccessTokenExpiration(TimeUnit.HOURS.toMillis(1));
+    tokenProps.setRefreshTokenExpiration(TimeUnit.DAYS.toMillis(7));
+
+    VerifiedTokenCache verifiedTokenCache =
+        new VerifiedTokenCache(new CacheRegistry(new CacheProps(), new SimpleMeterRegistry()));
+    // Only isRevoked is called, which never reads the repository
+    TokenRevocationStore tokenRevocationStore = new TokenRevocationStore(null, tokenProps);
+    authService = new AuthService(null, tokenProps, verifiedTokenCache, tokenRevocationStore);
+    authService.initSigningKey();
+    jwtDecoder = NimbusJwtDecoder.withSecretKey(new SecretKeySpec(secret, "HmacSHA256")).build();
+
+    accessToken = authService.userIdToAuthResponse(UUID.randomUUID(), Permission.USER).getAccessToken();
+  }
+
+  @Benchmark
+  public void twoPassesCached(Blackhole blackhole) {
+    blackhole.consume(authService.verifyAccessToken(accessToken));
+    blackhole.consume(jwtDecoder.decode(accessToken));
+  }
+
+  @Benchmark
+  public VerifiedToken singlePassCached() {
+    return authService.verifyAccessToken(accessToken);
+  }
+
+  @Benchmark
+  public void twoPassesUncached(Blackhole blackhole) {
+    blackhole.consume(authService.getClaims(accessToken, "access"));
+    blackhole.consume(jwtDecoder.decode(accessToken));
+  }
+
+  @Benchmark
+  public Claims singlePassUncached() {
+    return authService.getClaims(accessToken, "access");
+  }
+}
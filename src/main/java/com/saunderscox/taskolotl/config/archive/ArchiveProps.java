@@ -0,0 +1,49 @@
+package com.saunderscox.taskolotl.config.archive;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.archive")
+@Getter
+@Setter
+public class ArchiveProps {
+
+  /**
+   * Run the background archiver.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Time between archiver runs.
+   */
+  private Duration interval = Duration.ofHours(1);
+
+  /**
+   * Tasks completed longer ago than this are archived with their comments.
+   */
+  private Duration completedTaskAge = Duration.ofDays(180);
+
+  /**
+   * Comments not updated for longer than this are archived on their own.
+   */
+  private Duration commentAge = Duration.ofDays(730);
+
+  /**
+   * Rows archived per transaction.
+   */
+  private int batchSize = 200;
+
+  /**
+   * Pause between batches, keeping the archiver from competing with request traffic.
+   */
+  private Duration batchPause = Duration.ofSeconds(1);
+
+  /**
+   * Batches per kind of row in one run; the rest waits for the next run.
+   */
+  private int maxBatchesPerRun = 50;
+}
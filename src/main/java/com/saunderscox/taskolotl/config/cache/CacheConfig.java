@@ -0,0 +1,18 @@
+package com.saunderscox.taskolotl.config.cache;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Replaces Spring Boot's auto-configured cache manager with the one owned by {@link CacheRegistry},
+ * so {@code @Cacheable} caches get the same bounds and instrumentation as programmatic ones.
+ */
+@Configuration
+public class CacheConfig {
+
+  @Bean(name = CacheRegistry.CACHE_MANAGER_NAME)
+  public CacheManager cacheManager(CacheRegistry cacheRegistry) {
+    return cacheRegistry.getCacheManager();
+  }
+}
@@ -0,0 +1,51 @@
+package com.saunderscox.taskolotl.config.cache;
+
+import java.util.List;
+
+/**
+ * Every cache the application uses. A cache has to be listed here, and may be given bounds under
+ * {@code app.cache.specs.<name>}, before it can be used.
+ */
+public final class CacheNames {
+
+  /**
+   * Board responses by board ID, filled by {@code @Cacheable}.
+   */
+  public static final String BOARDS = "boardCache";
+
+  /**
+   * Access decisions by (board, user), loaded by {@code BoardAccessService}.
+   */
+  public static final String BOARD_ACCESS = "boardAccessCache";
+
+  /**
+   * Verified access tokens by token digest, loaded by {@code VerifiedTokenCache}.
+   */
+  public static final String VERIFIED_TOKENS = "verifiedTokenCache";
+
+  /**
+   * Hibernate second-level cache regions of read-mostly reference entities, and of those of their
+   * collections that are only ever changed through JPA. Created by {@link HibernateCacheConfig}.
+   */
+  public static final String SKILL_ENTITIES = "skillEntityCache";
+  public static final String SKILL_CONCEPTS = "skillConceptsCache";
+  public static final String ROLE_ENTITIES = "roleEntityCache";
+  public static final String CONCEPT_ENTITIES = "conceptEntityCache";
+  public static final String HUB_ENTITIES = "hubEntityCache";
+  public static final String HUB_TEAMS = "hubTeamsCache";
+  public static final String TEAM_ENTITIES = "teamEntityCache";
+  public static final String TEAM_USERS = "teamUsersCache";
+
+  /**
+   * Caches filled through Spring's caching annotations. They are created up front; caches backed by
+   * a loader are registered by their owner through {@link CacheRegistry}.
+   */
+  static final List<String> ANNOTATED = List.of(BOARDS);
+
+  static final List<String> HIBERNATE_REGIONS = List.of(
+      SKILL_ENTITIES, SKILL_CONCEPTS, ROLE_ENTITIES, CONCEPT_ENTITIES, HUB_ENTITIES, HUB_TEAMS, TEAM_ENTITIES,
+      TEAM_USERS);
+
+  private CacheNames() {
+  }
+}
@@ -0,0 +1,44 @@
+package com.saunderscox.taskolotl.config.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.cache")
+@Getter
+@Setter
+public class CacheProps {
+
+  /**
+   * Bounds for caches without their own entry in {@link #specs}.
+   */
+  private Spec defaults = new Spec();
+
+  /**
+   * Bounds per cache name. An entry replaces the defaults entirely rather than being merged with them.
+   */
+  private Map<String, Spec> specs = new LinkedHashMap<>();
+
+  public Spec specFor(String cacheName) {
+    return specs.getOrDefault(cacheName, defaults);
+  }
+
+  @Getter
+  @Setter
+  public static class Spec {
+
+    private long maximumSize = 10_000;
+    private Duration expireAfterWrite;
+    private Duration expireAfterAccess;
+
+    /**
+     * Reload entries in the background once they are this old. Only caches with a loader support it.
+     */
+    private Duration refreshAfterWrite;
+  }
+}
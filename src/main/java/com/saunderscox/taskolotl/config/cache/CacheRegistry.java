@@ -0,0 +1,149 @@
+package com.saunderscox.taskolotl.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds every Caffeine cache from its {@link CacheProps} spec, records statistics for it and
+ * publishes it both to Micrometer and to the Spring {@link CaffeineCacheManager}, so all caches show
+ * up under {@code /actuator/caches} and the {@code cache.*} metrics. Unknown cache names are rejected
+ * instead of silently creating an unbounded cache.
+ */
+@Component
+@Slf4j
+public class CacheRegistry {
+
+  static final String CACHE_MANAGER_NAME = "cacheManager";
+
+  private final CacheProps cacheProps;
+  private final MeterRegistry meterRegistry;
+  private final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+  public CacheRegistry(CacheProps cacheProps, MeterRegistry meterRegistry) {
+    this.cacheProps = cacheProps;
+    this.meterRegistry = meterRegistry;
+
+    // A fixed set of names turns off on-demand creation of caches nobody declared
+    cacheManager.setCacheNames(List.of());
+    for (String name : CacheNames.ANNOTATED) {
+      if (cacheProps.specFor(name).getRefreshAfterWrite() != null) {
+        throw new IllegalStateException("Cache " + name + " has no loader and cannot use refresh-after-write");
+      }
+      register(name, builder(name).build());
+    }
+  }
+
+  /**
+   * Creates and registers a cache that loads missing entries itself and, if its spec asks for it,
+   * refreshes them in the background.
+   *
+   * @param name   one of {@link CacheNames}
+   * @param loader loads the value for a key
+   * @return the registered cache
+   */
+  public <K, V> LoadingCache<K, V> loadingCache(String name, CacheLoader<K, V> loader) {
+    return register(name, builder(name).build(loader));
+  }
+
+  /**
+   * Creates and registers a loading cache that reports entries dropped for size or expiry. The
+   * listener runs atomically with the eviction and is not called for explicit invalidation, so callers
+   * can keep their own index of the keys in step.
+   *
+   * @param name             one of {@link CacheNames}
+   * @param loader           loads the value for a key
+   * @param evictionListener called for each entry evicted by the cache
+   * @return the registered cache
+   */
+  public <K, V> LoadingCache<K, V> loadingCache(String name, CacheLoader<K, V> loader,
+      RemovalListener<K, V> evictionListener) {
+    return register(name, builder(name).evictionListener(evictionListener).build(loader));
+  }
+
+  /**
+   * Creates and registers a cache whose entries each expire at their own time. Only the size bound
+   * of the spec applies; a spec for this cache that also sets a fixed expiry or refresh is rejected,
+   * and the fixed expiry of the defaults is ignored.
+   *
+   * @param name   one of {@link CacheNames}
+   * @param expiry computes the lifetime of each entry
+   * @return the registered cache
+   */
+  public <K, V> Cache<K, V> variableExpiryCache(String name, Expiry<? super K, ? super V> expiry) {
+    CacheProps.Spec spec = cacheProps.getSpecs().get(name);
+    if (spec != null && (spec.getExpireAfterWrite() != null || spec.getExpireAfterAccess() != null
+        || spec.getRefreshAfterWrite() != null)) {
+      throw new IllegalStateException("Cache " + name
+          + " expires entries individually; remove expire-after-write, expire-after-access and refresh-after-write"
+          + " from app.cache.specs." + name);
+    }
+    Cache<K, V> cache = Caffeine.newBuilder()
+        .maximumSize(cacheProps.specFor(name).getMaximumSize())
+        .recordStats()
+        .expireAfter(expiry)
+        .build();
+    return register(name, cache);
+  }
+
+  /**
+   * Starts a builder with the size and expiry bounds of a cache's spec.
+   *
+   * @param name one of {@link CacheNames}
+   * @return a builder with statistics recording on
+   */
+  private Caffeine<Object, Object> builder(String name) {
+    CacheProps.Spec spec = cacheProps.specFor(name);
+    Caffeine<Object, Object> builder = Caffeine.newBuilder()
+        .maximumSize(spec.getMaximumSize())
+        .recordStats();
+    if (spec.getExpireAfterWrite() != null) {
+      builder.expireAfterWrite(spec.getExpireAfterWrite());
+    }
+    if (spec.getExpireAfterAccess() != null) {
+      builder.expireAfterAccess(spec.getExpireAfterAccess());
+    }
+    if (spec.getRefreshAfterWrite() != null) {
+      builder.refreshAfterWrite(spec.getRefreshAfterWrite());
+    }
+    return builder;
+  }
+
+  /**
+   * Publishes a cache to Micrometer and to the cache manager.
+   *
+   * @param name  one of {@link CacheNames}
+   * @param cache the cache
+   * @return the same cache
+   */
+  public <C extends Cache<?, ?>> C register(String name, C cache) {
+    if (cacheManager.getCacheNames().contains(name)) {
+      throw new IllegalStateException("Cache " + name + " is already registered");
+    }
+    @SuppressWarnings("unchecked")
+    Cache<Object, Object> untyped = (Cache<Object, Object>) cache;
+    cacheManager.registerCustomCache(name, untyped);
+    // Same tags as Spring Boot's cache metrics binder, so binding the cache twice is harmless
+    CaffeineCacheMetrics.monitor(meterRegistry, untyped, name, Tags.of("cache.manager", CACHE_MANAGER_NAME));
+
+    CacheProps.Spec spec = cacheProps.specFor(name);
+    log.debug("Registered cache {} (maximumSize={}, expireAfterWrite={}, expireAfterAccess={}, refreshAfterWrite={})",
+        name, spec.getMaximumSize(), spec.getExpireAfterWrite(), spec.getExpireAfterAccess(),
+        spec.getRefreshAfterWrite());
+    return cache;
+  }
+
+  CaffeineCacheManager getCacheManager() {
+    return cacheManager;
+  }
+}
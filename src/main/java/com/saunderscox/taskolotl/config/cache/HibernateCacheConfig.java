@@ -0,0 +1,68 @@
+package com.saunderscox.taskolotl.config.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import java.util.OptionalLong;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Backs Hibernate's second-level cache with Caffeine through JCache. Each region in
+ * {@link CacheNames#HIBERNATE_REGIONS} is created up front with the bounds of its {@link CacheProps}
+ * spec and published to Micrometer under the {@code cache.*} metrics. Hibernate is configured to fail
+ * on any region not created here, so no region can be unbounded.
+ */
+@Configuration
+@Slf4j
+public class HibernateCacheConfig {
+
+  static final String CACHE_MANAGER_NAME = "hibernateCacheManager";
+
+  @Bean(name = CACHE_MANAGER_NAME)
+  public CacheManager hibernateCacheManager(CacheProps cacheProps, MeterRegistry meterRegistry) {
+    CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+    for (String region : CacheNames.HIBERNATE_REGIONS) {
+      // The provider's default manager outlives application contexts, e.g. between test contexts
+      Cache<Object, Object> cache = cacheManager.getCache(region);
+      if (cache == null) {
+        cache = cacheManager.createCache(region, configuration(region, cacheProps.specFor(region)));
+      }
+      JCacheMetrics.monitor(meterRegistry, cache, Tags.of("cache.manager", CACHE_MANAGER_NAME));
+    }
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+    return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+  }
+
+  private static CaffeineConfiguration<Object, Object> configuration(String region, CacheProps.Spec spec) {
+    if (spec.getRefreshAfterWrite() != null) {
+      throw new IllegalStateException("Cache region " + region + " cannot use refresh-after-write");
+    }
+
+    CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+    configuration.setMaximumSize(OptionalLong.of(spec.getMaximumSize()));
+    if (spec.getExpireAfterWrite() != null) {
+      configuration.setExpireAfterWrite(OptionalLong.of(spec.getExpireAfterWrite().toNanos()));
+    }
+    if (spec.getExpireAfterAccess() != null) {
+      configuration.setExpireAfterAccess(OptionalLong.of(spec.getExpireAfterAccess().toNanos()));
+    }
+    configuration.setStatisticsEnabled(true);
+
+    log.debug("Created cache region {} (maximumSize={}, expireAfterWrite={}, expireAfterAccess={})",
+        region, spec.getMaximumSize(), spec.getExpireAfterWrite(), spec.getExpireAfterAccess());
+    return configuration;
+  }
+}
@@ -0,0 +1,35 @@
+package com.saunderscox.taskolotl.config.events;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.board-events")
+@Getter
+@Setter
+public class BoardEventProps {
+
+  /**
+   * Changes to a board within this window after the first are sent as one event.
+   */
+  private Duration coalesceWindow = Duration.ofMillis(250);
+
+  /**
+   * Events buffered per subscriber. A subscriber that falls this far behind has its buffer dropped and
+   * is told to resync.
+   */
+  private int subscriberBuffer = 32;
+
+  /**
+   * How long a subscription stays open before the client has to reconnect.
+   */
+  private Duration emitterTimeout = Duration.ofMinutes(30);
+
+  /**
+   * How often idle subscriptions get a comment line to keep proxies from closing them.
+   */
+  private Duration heartbeatInterval = Duration.ofSeconds(15);
+}
@@ -0,0 +1,35 @@
+package com.saunderscox.taskolotl.config.search;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.search")
+@Getter
+@Setter
+public class SearchProps {
+
+  /**
+   * Directory holding the Lucene index. When blank the index is kept in memory and rebuilt on every
+   * start.
+   */
+  private String indexDir;
+
+  /**
+   * How often pending index changes are committed to disk.
+   */
+  private Duration commitInterval = Duration.ofSeconds(10);
+
+  /**
+   * Rebuild the index from the database at startup even if it already has documents.
+   */
+  private boolean reindexOnStartup = false;
+
+  /**
+   * Entities read per transaction while rebuilding the index.
+   */
+  private int reindexBatchSize = 500;
+}
@@ -55,7 +55,7 @@ public class SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
       response.setContentType("application/json");
       response.setCharacterEncoding("UTF-8");
-      objectMapper.writeValue(response.getWriter(), authService.userIdToAuthResponse(userId));
+      objectMapper.writeValue(response.getWriter(), authService.userIdToAuthResponse(userId, user.getPermission()));
 
       log.info("Authenticated [name:{}][email:{}][id:{}][provider:{}]",
           name, email, userId, provider);
@@ -1,7 +1,7 @@
 package com.saunderscox.taskolotl.config.security;
 
+import com.saunderscox.taskolotl.entity.Permission;
 import com.saunderscox.taskolotl.service.AuthService;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,24 +9,38 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 
 /**
- * Authorizes users with User ID as the Security Context principal per request using JWT
+ * Authorizes users with User ID as the Security Context principal per request using JWT. This is the
+ * only component that verifies bearer tokens; each token is verified at most once per request.
+ * Roles come from the permission the token was issued with, so a permission change takes effect
+ * once the user's current access token expires.
  */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class TokenFilter extends OncePerRequestFilter {
 
+  // Every user has ROLE_USER; moderators and admins also get the role of their permission
+  private static final Map<Permission, List<GrantedAuthority>> AUTHORITIES = Arrays.stream(Permission.values())
+      .collect(Collectors.toUnmodifiableMap(Function.identity(), permission -> permission == Permission.USER
+          ? List.of(new SimpleGrantedAuthority("ROLE_USER"))
+          : List.of(new SimpleGrantedAuthority("ROLE_USER"),
+              new SimpleGrantedAuthority("ROLE_" + permission.getAuthority()))));
+
   private final AuthService authService;
 
   @Override
@@ -41,12 +55,12 @@ public class TokenFilter extends OncePerRequestFilter {
     }
 
     String token = authHeader.substring(7);
-    Claims claims = authService.getClaims(token, "access");
 
     try {
-      UUID userId = UUID.fromString(claims.getSubject());
-      UsernamePasswordAuthenticationToken authentication =
-          new UsernamePasswordAuthenticationToken(userId, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+      VerifiedToken verifiedToken = authService.verifyAccessToken(token);
+      UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+          new TokenPrincipal(verifiedToken.userId()), null, AUTHORITIES.get(verifiedToken.permission()));
+      authentication.setDetails(verifiedToken);
 
       SecurityContextHolder.getContext().setAuthentication(authentication);
 
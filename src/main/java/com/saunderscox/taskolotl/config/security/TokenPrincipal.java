@@ -0,0 +1,25 @@
+package com.saunderscox.taskolotl.config.security;
+
+import java.security.Principal;
+import java.util.UUID;
+import lombok.Value;
+
+/**
+ * Security Context principal for requests authenticated with an access token. Exposes the user ID
+ * as {@code id} for {@code @PreAuthorize} expressions and as the authentication name.
+ */
+@Value
+public class TokenPrincipal implements Principal {
+
+  UUID id;
+
+  @Override
+  public String getName() {
+    return id.toString();
+  }
+
+  @Override
+  public String toString() {
+    return getName();
+  }
+}
@@ -15,4 +15,6 @@ public class TokenProps {
   private String issuer;
   private Long accessTokenExpiration;
   private Long refreshTokenExpiration;
+  private long revocationBucketWidth = 900_000;
+  private int revocationExpectedInsertions = 100_000;
 }
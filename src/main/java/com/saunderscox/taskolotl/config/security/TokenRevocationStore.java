@@ -0,0 +1,196 @@
+package com.saunderscox.taskolotl.config.security;
+
+import com.saunderscox.taskolotl.entity.RevokedToken;
+import com.saunderscox.taskolotl.entity.UuidV7Generator;
+import com.saunderscox.taskolotl.repository.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory denylist of revoked token IDs ({@code jti}). A Bloom filter answers the common "not
+ * revoked" case without touching the exact set, and entries are grouped into expiry buckets so a
+ * whole bucket is dropped once every token in it would have expired anyway.
+ * <p>
+ * Revocations are persisted first and only enter the in-memory set once their transaction commits.
+ * The set is per instance: {@link #isRevoked} only sees revocations made on this instance until the
+ * next startup reloads them from the database. {@link #revoke} checks the database, so a refresh
+ * token rotated on one instance cannot be reused on another.
+ */
+@Component
+@Slf4j
+public class TokenRevocationStore {
+
+  private final RevokedTokenRepository revokedTokenRepository;
+  private final long bucketWidthMillis;
+  private final int expectedInsertions;
+
+  private final Set<UUID> revoked = ConcurrentHashMap.newKeySet();
+  private final ConcurrentSkipListMap<Long, Set<UUID>> buckets = new ConcurrentSkipListMap<>();
+  private volatile BloomFilter bloomFilter;
+
+  public TokenRevocationStore(RevokedTokenRepository revokedTokenRepository, TokenProps tokenProps) {
+    this.revokedTokenRepository = revokedTokenRepository;
+    this.bucketWidthMillis = tokenProps.getRevocationBucketWidth();
+    this.expectedInsertions = tokenProps.getRevocationExpectedInsertions();
+    this.bloomFilter = new BloomFilter(expectedInsertions);
+  }
+
+  @PostConstruct
+  void load() {
+    Instant now = Instant.now();
+    for (RevokedToken revokedToken : revokedTokenRepository.findByExpiresAtAfter(now)) {
+      add(revokedToken.getTokenId(), revokedToken.getExpiresAt());
+    }
+    log.info("Loaded {} token revocations", revoked.size());
+  }
+
+  /**
+   * Checks whether a token ID has been revoked. Does not allocate.
+   *
+   * @param tokenId the token {@code jti}
+   * @return true if the token was revoked
+   */
+  public boolean isRevoked(UUID tokenId) {
+    return bloomFilter.mightContain(tokenId) && revoked.contains(tokenId);
+  }
+
+  /**
+   * Revokes a token ID until its expiration. Must run inside a transaction; the revocation is
+   * persisted immediately and applied in memory once the transaction commits, so a rollback leaves
+   * the token valid. Tokens that have already expired are not stored.
+   *
+   * @param tokenId   the token {@code jti}
+   * @param expiresAt the token {@code exp}
+   * @return true if the token was revoked by this call, false if it was already revoked
+   */
+  public boolean revoke(UUID tokenId, Instant expiresAt) {
+    Instant now = Instant.now();
+    if (!expiresAt.isAfter(now)) {
+      return true;
+    }
+    if (isRevoked(tokenId)
+        || revokedTokenRepository.insertIfAbsent(UuidV7Generator.next(), tokenId, expiresAt, now) == 0) {
+      return false;
+    }
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          add(tokenId, expiresAt);
+        }
+      });
+    } else {
+      add(tokenId, expiresAt);
+    }
+    return true;
+  }
+
+  /**
+   * Drops buckets whose tokens have all expired, rebuilds the Bloom filter from what remains and
+   * deletes the expired rows.
+   */
+  @Scheduled(fixedDelayString = "${app.token.revocation-purge-interval:PT15M}")
+  public void purgeExpired() {
+    Instant now = Instant.now();
+    int dropped = dropExpiredBuckets(now);
+    int deleted = revokedTokenRepository.deleteExpired(now);
+    log.debug("Purged {} expired token revocations from memory and {} from the database", dropped, deleted);
+  }
+
+  private synchronized int dropExpiredBuckets(Instant now) {
+    Map<Long, Set<UUID>> expired = buckets.headMap(bucketOf(now));
+    int dropped = 0;
+    for (Iterator<Set<UUID>> it = expired.values().iterator(); it.hasNext(); ) {
+      Set<UUID> bucket = it.next();
+      revoked.removeAll(bucket);
+      dropped += bucket.size();
+      it.remove();
+    }
+
+    if (dropped > 0) {
+      BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revoked.size()));
+      revoked.forEach(rebuilt::put);
+      bloomFilter = rebuilt;
+    }
+    return dropped;
+  }
+
+  // Writers are rare and serialized with the purge so a rebuilt filter never misses an ID
+  private synchronized void add(UUID tokenId, Instant expiresAt) {
+    if (revoked.add(tokenId)) {
+      bloomFilter.put(tokenId);
+      buckets.computeIfAbsent(bucketOf(expiresAt), key -> ConcurrentHashMap.newKeySet()).add(tokenId);
+    }
+  }
+
+  private long bucketOf(Instant instant) {
+    return instant.toEpochMilli() / bucketWidthMillis;
+  }
+
+  /**
+   * Fixed-size Bloom filter over UUIDs using double hashing of the two halves of the UUID, sized
+   * for a 1% false-positive rate at the expected number of insertions.
+   */
+  static final class BloomFilter {
+
+    private static final int HASH_FUNCTIONS = 7;
+    private static final double BITS_PER_ENTRY = 9.6;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+
+    BloomFilter(int expectedInsertions) {
+      long bits = Math.max(64, (long) (expectedInsertions * BITS_PER_ENTRY));
+      int wordCount = (int) ((bits + 63) / 64);
+      this.words = new AtomicLongArray(wordCount);
+      this.bitCount = (long) wordCount * 64;
+    }
+
+    void put(UUID id) {
+      long h1 = mix(id.getMostSignificantBits());
+      long h2 = mix(id.getLeastSignificantBits()) | 1;
+      for (int i = 0; i < HASH_FUNCTIONS; i++) {
+        long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+        int word = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long current;
+        while (((current = words.get(word)) & mask) == 0
+            && !words.compareAndSet(word, current, current | mask)) {
+          // Retry until the bit is set
+        }
+      }
+    }
+
+    boolean mightContain(UUID id) {
+      long h1 = mix(id.getMostSignificantBits());
+      long h2 = mix(id.getLeastSignificantBits()) | 1;
+      for (int i = 0; i < HASH_FUNCTIONS; i++) {
+        long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+        if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    // SplitMix64 finalizer; random UUID bits are already uniform but version/variant bits are not
+    private static long mix(long z) {
+      z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+      z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+      return z ^ (z >>> 31);
+    }
+  }
+}
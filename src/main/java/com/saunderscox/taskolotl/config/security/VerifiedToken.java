@@ -0,0 +1,20 @@
+package com.saunderscox.taskolotl.config.security;
+
+import com.saunderscox.taskolotl.entity.Permission;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims of an access token whose signature, type and expiration have already been verified.
+ *
+ * @param userId     the token subject
+ * @param tokenId    the token {@code jti}
+ * @param expiresAt  the token {@code exp}
+ * @param permission the user's permission when the token was issued
+ */
+public record VerifiedToken(UUID userId, UUID tokenId, Instant expiresAt, Permission permission) {
+
+  public boolean isExpired(Instant now) {
+    return !expiresAt.isAfter(now);
+  }
+}
@@ -0,0 +1,79 @@
+package com.saunderscox.taskolotl.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.saunderscox.taskolotl.config.cache.CacheNames;
+import com.saunderscox.taskolotl.config.cache.CacheRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of access tokens that already passed signature verification. Entries are keyed by a
+ * SHA-256 digest of the raw token so the token itself is never retained, and each entry is evicted
+ * at the token's own expiration.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  private final Cache<String, VerifiedToken> cache;
+
+  public VerifiedTokenCache(CacheRegistry cacheRegistry) {
+    // Size comes from the cache spec; expiry always follows the token
+    this.cache = cacheRegistry.variableExpiryCache(CacheNames.VERIFIED_TOKENS, new TokenExpiry());
+  }
+
+  /**
+   * Returns the cached verification result for the token, verifying and caching it on a miss.
+   * Failed verifications propagate and are never cached.
+   *
+   * @param token    the raw compact JWT
+   * @param verifier full verification used on a cache miss
+   * @return the verified token
+   */
+  public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+    VerifiedToken verified = cache.get(digest(token), key -> verifier.apply(token));
+    if (verified.isExpired(Instant.now())) {
+      // Guards the window between expiry and Caffeine's lazy eviction
+      throw new CredentialsExpiredException("Token expired");
+    }
+    return verified;
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private static String digest(String token) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getEncoder().withoutPadding().encodeToString(hash);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+      return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
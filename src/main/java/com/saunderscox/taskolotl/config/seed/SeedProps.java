@@ -0,0 +1,72 @@
+package com.saunderscox.taskolotl.config.seed;
+
+import java.time.Duration;
+import java.time.Instant;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Volumes of the synthetic dataset written by {@link com.saunderscox.taskolotl.service.seed.DatasetSeeder}
+ * when the {@code seed} profile is active. Per-user and per-board counts are averages; the actual
+ * counts are skewed so a few users and boards are much larger than the rest.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.seed")
+@Getter
+@Setter
+public class SeedProps {
+
+  /**
+   * Seed of the random generator. The same seed, volumes and {@link #end} produce the same rows and
+   * IDs, regardless of {@link #threads}.
+   */
+  private long seed = 42;
+
+  /**
+   * Creation time of the newest rows. Defaults to the start of the current UTC day.
+   */
+  private Instant end;
+
+  /**
+   * Creation times are spread over this period before {@link #end}.
+   */
+  private Duration history = Duration.ofDays(730);
+
+  private int users = 100_000;
+
+  private int boards = 50_000;
+
+  private int skills = 500;
+
+  private int conceptsPerSkill = 10;
+
+  private int skillsPerUser = 5;
+
+  private int friendsPerUser = 20;
+
+  /**
+   * Members besides the owner.
+   */
+  private int membersPerBoard = 5;
+
+  private int itemsPerBoard = 100;
+
+  private int commentsPerItem = 4;
+
+  /**
+   * Users written per transaction.
+   */
+  private int usersPerChunk = 1000;
+
+  /**
+   * Boards written per transaction, with their items and comments.
+   */
+  private int boardsPerChunk = 20;
+
+  /**
+   * Chunks written in parallel. Keep at or below the connection pool size.
+   */
+  private int threads = 4;
+}
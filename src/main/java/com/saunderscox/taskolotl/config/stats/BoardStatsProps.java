@@ -0,0 +1,25 @@
+package com.saunderscox.taskolotl.config.stats;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.board-stats")
+@Getter
+@Setter
+public class BoardStatsProps {
+
+  /**
+   * Time between runs of the job that recomputes every board's stage counts from its items. Also the
+   * delay before the first run.
+   */
+  private Duration repairInterval = Duration.ofDays(1);
+
+  /**
+   * Boards recomputed per repair transaction.
+   */
+  private int repairBatchSize = 500;
+}
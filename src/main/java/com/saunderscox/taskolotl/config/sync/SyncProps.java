@@ -0,0 +1,30 @@
+package com.saunderscox.taskolotl.config.sync;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.sync")
+@Getter
+@Setter
+public class SyncProps {
+
+  /**
+   * How far the returned watermark trails the server clock, covering transactions that stamped
+   * {@code updatedAt} before the query but committed after it. Rows in the overlap are sent twice.
+   */
+  private Duration commitLag = Duration.ofSeconds(5);
+
+  /**
+   * How long deletions are remembered. Clients with an older watermark must resync in full.
+   */
+  private Duration tombstoneRetention = Duration.ofDays(30);
+
+  /**
+   * How often expired tombstones, and those of deleted boards, are purged.
+   */
+  private Duration tombstonePurgeInterval = Duration.ofHours(1);
+}
@@ -27,6 +27,14 @@ public class AuthController {
     return ResponseEntity.ok(authResponse);
   }
 
+  @PostMapping("/logout")
+  @Operation(summary = "Revoke the refresh token and current access token")
+  public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest refreshTokenRequest) {
+
+    authService.logout(refreshTokenRequest.getRefreshToken());
+    return ResponseEntity.noContent().build();
+  }
+
   @GetMapping("/me")
   @Operation(summary = "Get current user profile")
   public ResponseEntity<UserResponse> getCurrentUser() {
@@ -1,12 +1,28 @@
 package com.saunderscox.taskolotl.controller;
 
+import com.saunderscox.taskolotl.config.security.TokenPrincipal;
+import com.saunderscox.taskolotl.dto.ArchiveEntryResponse;
+import com.saunderscox.taskolotl.dto.BoardCloneRequest;
 import com.saunderscox.taskolotl.dto.BoardCreateRequest;
+import com.saunderscox.taskolotl.dto.BoardDelta;
+import com.saunderscox.taskolotl.dto.BoardItemReorderRequest;
 import com.saunderscox.taskolotl.dto.BoardResponse;
+import com.saunderscox.taskolotl.dto.BoardStatsResponse;
 import com.saunderscox.taskolotl.dto.BoardUpdateRequest;
+import com.saunderscox.taskolotl.dto.CursorPage;
 import com.saunderscox.taskolotl.service.BoardService;
+import com.saunderscox.taskolotl.service.BoardSnapshotService;
+import com.saunderscox.taskolotl.service.BoardTransferService;
+import com.saunderscox.taskolotl.service.ETags;
+import com.saunderscox.taskolotl.service.archive.ArchiveService;
+import com.saunderscox.taskolotl.service.events.BoardEventBroadcaster;
+import com.saunderscox.taskolotl.service.stats.BoardStatsService;
+import com.saunderscox.taskolotl.service.sync.BoardSyncService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -14,12 +30,19 @@ import lombok.RequiredArgsConstructor;
 import org.springdoc.core.converters.models.PageableAsQueryParam;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.Instant;
 import java.util.UUID;
 
 @RestController
@@ -29,7 +52,15 @@ import java.util.UUID;
 @Validated
 public class BoardController {
 
+  static final String NDJSON = "application/x-ndjson";
+
   private final BoardService boardService;
+  private final BoardSnapshotService boardSnapshotService;
+  private final BoardTransferService boardTransferService;
+  private final BoardEventBroadcaster boardEventBroadcaster;
+  private final BoardSyncService boardSyncService;
+  private final ArchiveService archiveService;
+  private final BoardStatsService boardStatsService;
 
   // Basic CRUD Operations
   @GetMapping
@@ -37,16 +68,32 @@ public class BoardController {
   @Tag(name = "Board - CRUD")
   @PageableAsQueryParam
   public ResponseEntity<Page<BoardResponse>> getAllBoards(
-    Pageable pageable) {
-    return ResponseEntity.ok(boardService.getAllBoards(pageable));
+    Pageable pageable,
+    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    return ConditionalResponses.of(boardService.getAllBoards(pageable, ifNoneMatch));
+  }
+
+  @GetMapping("/scroll")
+  @Operation(summary = "Get all boards with cursor pagination")
+  @Tag(name = "Board - CRUD")
+  public ResponseEntity<CursorPage<BoardResponse>> scrollBoards(
+    @RequestParam(required = false) String cursor,
+    @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+    return ResponseEntity.ok(boardService.scrollBoards(cursor, size));
   }
 
   @GetMapping("/{id}")
   @Operation(summary = "Get a board by ID")
   @Tag(name = "Board - CRUD")
   public ResponseEntity<BoardResponse> getBoardById(
-    @PathVariable UUID id) {
-    return ResponseEntity.ok(boardService.getBoardById(id));
+    @PathVariable UUID id,
+    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    String eTag = boardService.getBoardETag(id);
+    if (ETags.matches(ifNoneMatch, eTag)) {
+      return ConditionalResponses.notModified(eTag);
+    }
+    BoardResponse board = boardService.getBoardById(id);
+    return ResponseEntity.ok().eTag(ETags.of(board)).body(board);
   }
 
   @PostMapping
@@ -58,18 +105,116 @@ public class BoardController {
     return ResponseEntity.status(HttpStatus.CREATED).body(result);
   }
 
+  @PostMapping("/{id}/clone")
+  @PreAuthorize("@boardService.hasAccess(#id, authentication.principal.id)")
+  @Operation(summary = "Create a new board from a template board and its items")
+  @Tag(name = "Board - CRUD")
+  public ResponseEntity<BoardResponse> cloneBoard(
+    @PathVariable UUID id,
+    @Valid @RequestBody BoardCloneRequest dto,
+    @AuthenticationPrincipal TokenPrincipal principal) {
+    BoardResponse result = boardService.cloneBoard(id, dto, principal.getId());
+    return ResponseEntity.status(HttpStatus.CREATED).body(result);
+  }
+
+  @GetMapping(value = "/{id}/snapshot", produces = MediaType.APPLICATION_JSON_VALUE)
+  @PreAuthorize("@boardService.hasAccess(#id, authentication.principal.id)")
+  @Operation(summary = "Get a board with all of its items and their comment counts")
+  @Tag(name = "Board - CRUD")
+  public ResponseEntity<StreamingResponseBody> getBoardSnapshot(
+    @PathVariable UUID id) {
+    return ResponseEntity.ok()
+      .contentType(MediaType.APPLICATION_JSON)
+      .body(out -> boardSnapshotService.writeSnapshot(id, out));
+  }
+
+  @GetMapping("/{id}/stats")
+  @PreAuthorize("@boardService.hasAccess(#id, authentication.principal.id)")
+  @Operation(summary = "Get a board's item counts per stage, overdue tasks and hour totals")
+  @Tag(name = "Board - Stats")
+  public ResponseEntity<BoardStatsResponse> getBoardStats(
+    @PathVariable UUID id) {
+    return ResponseEntity.ok(boardStatsService.getStats(id));
+  }
+
+  @GetMapping("/{id}/changes")
+  @PreAuthorize("@boardService.hasAccess(#id, authentication.principal.id)")
+  @Operation(summary = "Get a board's metadata, items, comments and deletions changed since a watermark")
+  @Tag(name = "Board - Sync")
+  public ResponseEntity<BoardDelta> getBoardChanges(
+    @PathVariable UUID id,
+    @RequestParam Instant since) {
+    return ResponseEntity.ok(boardSyncService.getChanges(id, since));
+  }
+
+  @GetMapping("/{id}/archive")
+  @PreAuthorize("@boardService.hasAccess(#id, authentication.principal.id)")
+  @Operation(summary = "List or search a board's archived items and comments by title")
+  @Tag(name = "Board - Archive")
+  @PageableAsQueryParam
+  public ResponseEntity<Page<ArchiveEntryResponse>> getArchive(
+    @PathVariable UUID id,
+    @RequestParam(required = false) @Size(max = 100) String query,
+    Pageable pageable) {
+    return ResponseEntity.ok(archiveService.getArchive(id, query, pageable));
+  }
+
+  @PostMapping("/{id}/archive/{entryId}/restore")
+  @PreAuthorize("@boardService.hasAccess(#id, authentication.principal.id)")
+  @Operation(summary = "Restore an archived item or comment to the board")
+  @Tag(name = "Board - Archive")
+  public ResponseEntity<Void> restoreArchiveEntry(
+    @PathVariable UUID id,
+    @PathVariable UUID entryId) {
+    archiveService.restore(id, entryId);
+    return ResponseEntity.noContent().build();
+  }
+
+  @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @PreAuthorize("@boardService.hasAccess(#id, authentication.principal.id)")
+  @Operation(summary = "Subscribe to a board's changes as server-sent events")
+  @Tag(name = "Board - Events")
+  public SseEmitter subscribeToBoardEvents(
+    @PathVariable UUID id) {
+    return boardEventBroadcaster.subscribe(id);
+  }
+
+  @GetMapping(value = "/{id}/export", produces = NDJSON)
+  @PreAuthorize("@boardService.hasAccess(#id, authentication.principal.id)")
+  @Operation(summary = "Export a board with its items and comments as NDJSON")
+  @Tag(name = "Board - Transfer")
+  public ResponseEntity<StreamingResponseBody> exportBoard(
+    @PathVariable UUID id) {
+    return ResponseEntity.ok()
+      .contentType(MediaType.parseMediaType(NDJSON))
+      .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"board-" + id + ".ndjson\"")
+      .body(out -> boardTransferService.exportBoard(id, out));
+  }
+
+  @PostMapping(value = "/import", consumes = NDJSON)
+  @PreAuthorize("hasRole('ADMIN')")
+  @Operation(summary = "Import a board exported as NDJSON, keeping its IDs")
+  @Tag(name = "Board - Transfer")
+  public ResponseEntity<BoardResponse> importBoard(
+    HttpServletRequest request) throws IOException {
+    BoardResponse result = boardTransferService.importBoard(request.getInputStream());
+    return ResponseEntity.status(HttpStatus.CREATED).body(result);
+  }
+
   @PutMapping("/{id}")
   @PreAuthorize("@boardService.hasAccess(#id, authentication.principal.id)")
   @Operation(summary = "Update a board")
   @Tag(name = "Board - CRUD")
   public ResponseEntity<BoardResponse> updateBoard(
     @PathVariable UUID id,
-    @Valid @RequestBody BoardUpdateRequest dto) {
-    return ResponseEntity.ok(boardService.updateBoard(id, dto));
+    @Valid @RequestBody BoardUpdateRequest dto,
+    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    BoardResponse board = boardService.updateBoard(id, dto, ifMatch);
+    return ResponseEntity.ok().eTag(ETags.of(board)).body(board);
   }
 
   @DeleteMapping("/{id}")
-  @PreAuthorize("@boardService.hasValue(#id, authentication.principal.id)")
+  @PreAuthorize("@boardService.hasAccess(#id, authentication.principal.id)")
   @Operation(summary = "Delete a board")
   @Tag(name = "Board - CRUD")
   public ResponseEntity<Void> deleteBoard(
@@ -87,8 +232,21 @@ public class BoardController {
     @RequestParam @NotBlank(message = "Search query cannot be empty")
     @Size(min = 3, max = 100, message = "Search query must be between 3 and 100 characters")
     String query,
-    Pageable pageable) {
-    return ResponseEntity.ok(boardService.searchBoards(query, pageable));
+    Pageable pageable,
+    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    return ConditionalResponses.of(boardService.searchBoards(query, pageable, ifNoneMatch));
+  }
+
+  @GetMapping("/search/scroll")
+  @Operation(summary = "Search boards with cursor pagination")
+  @Tag(name = "Board - Search")
+  public ResponseEntity<CursorPage<BoardResponse>> scrollSearchBoards(
+    @RequestParam @NotBlank(message = "Search query cannot be empty")
+    @Size(min = 3, max = 100, message = "Search query must be between 3 and 100 characters")
+    String query,
+    @RequestParam(required = false) String cursor,
+    @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+    return ResponseEntity.ok(boardService.scrollSearchBoards(query, cursor, size));
   }
 
   // User-Related Queries
@@ -98,8 +256,9 @@ public class BoardController {
   @PageableAsQueryParam
   public ResponseEntity<Page<BoardResponse>> getBoardsByOwner(
     @PathVariable UUID userId,
-    Pageable pageable) {
-    return ResponseEntity.ok(boardService.getBoardsByOwner(userId, pageable));
+    Pageable pageable,
+    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    return ConditionalResponses.of(boardService.getBoardsByOwner(userId, pageable, ifNoneMatch));
   }
 
   @GetMapping("/member/{userId}")
@@ -108,8 +267,9 @@ public class BoardController {
   @PageableAsQueryParam
   public ResponseEntity<Page<BoardResponse>> getBoardsByMember(
     @PathVariable UUID userId,
-    Pageable pageable) {
-    return ResponseEntity.ok(boardService.getBoardsByMember(userId, pageable));
+    Pageable pageable,
+    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    return ConditionalResponses.of(boardService.getBoardsByMember(userId, pageable, ifNoneMatch));
   }
 
   @GetMapping("/accessible/{userId}")
@@ -118,8 +278,19 @@ public class BoardController {
   @PageableAsQueryParam
   public ResponseEntity<Page<BoardResponse>> getAccessibleBoards(
     @PathVariable UUID userId,
-    Pageable pageable) {
-    return ResponseEntity.ok(boardService.getAccessibleBoards(userId, pageable));
+    Pageable pageable,
+    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    return ConditionalResponses.of(boardService.getAccessibleBoards(userId, pageable, ifNoneMatch));
+  }
+
+  @GetMapping("/accessible/{userId}/scroll")
+  @Operation(summary = "Get accessible boards with cursor pagination")
+  @Tag(name = "Board - User Queries")
+  public ResponseEntity<CursorPage<BoardResponse>> scrollAccessibleBoards(
+    @PathVariable UUID userId,
+    @RequestParam(required = false) String cursor,
+    @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+    return ResponseEntity.ok(boardService.scrollAccessibleBoards(userId, cursor, size));
   }
 
   // Specialized Operations
@@ -134,4 +305,15 @@ public class BoardController {
     boardService.moveItemToPosition(boardId, boardItemId, position);
     return ResponseEntity.ok().build();
   }
+
+  @PutMapping("/{boardId}/items/order")
+  @PreAuthorize("@boardService.hasAccess(#boardId, authentication.principal.id)")
+  @Operation(summary = "Reorder board items in bulk")
+  @Tag(name = "Board - Operations")
+  public ResponseEntity<Void> reorderItems(
+    @PathVariable UUID boardId,
+    @Valid @RequestBody BoardItemReorderRequest dto) {
+    boardService.reorderItems(boardId, dto);
+    return ResponseEntity.noContent().build();
+  }
 }
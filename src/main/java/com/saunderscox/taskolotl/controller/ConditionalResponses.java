@@ -0,0 +1,26 @@
+package com.saunderscox.taskolotl.controller;
+
+import com.saunderscox.taskolotl.dto.Conditional;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Turns {@link Conditional} results into responses: 304 with just the tag when the client's copy is
+ * current, otherwise 200 with tag and body.
+ */
+final class ConditionalResponses {
+
+  private ConditionalResponses() {
+  }
+
+  static <T> ResponseEntity<T> of(Conditional<T> result) {
+    if (result.isNotModified()) {
+      return notModified(result.eTag());
+    }
+    return ResponseEntity.ok().eTag(result.eTag()).body(result.body());
+  }
+
+  static <T> ResponseEntity<T> notModified(String eTag) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+  }
+}
@@ -0,0 +1,51 @@
+package com.saunderscox.taskolotl.controller;
+
+import com.saunderscox.taskolotl.config.security.TokenPrincipal;
+import com.saunderscox.taskolotl.dto.SearchResult;
+import com.saunderscox.taskolotl.dto.SearchResultType;
+import com.saunderscox.taskolotl.service.BoardAccessService;
+import com.saunderscox.taskolotl.service.search.SearchIndexService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.converters.models.PageableAsQueryParam;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Tag(name = "Search", description = "Full-text search across boards, tasks, studies and comments")
+@Validated
+public class SearchController {
+
+  private final SearchIndexService searchIndexService;
+  private final BoardAccessService boardAccessService;
+
+  @GetMapping
+  @Operation(summary = "Ranked full-text search over the boards the caller owns or is a member of")
+  @PageableAsQueryParam
+  public ResponseEntity<Page<SearchResult>> search(
+    @RequestParam @NotBlank(message = "Search query cannot be empty")
+    @Size(max = 200, message = "Search query cannot exceed 200 characters")
+    String query,
+    @RequestParam(required = false) Set<SearchResultType> types,
+    Pageable pageable,
+    @AuthenticationPrincipal TokenPrincipal principal) {
+    List<UUID> boardIds = boardAccessService.getBoardIds(principal.getId());
+    return ResponseEntity.ok(searchIndexService.search(query, types, boardIds, pageable));
+  }
+}
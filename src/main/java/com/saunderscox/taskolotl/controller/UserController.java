@@ -1,20 +1,26 @@
 package com.saunderscox.taskolotl.controller;
 
+import com.saunderscox.taskolotl.dto.CursorPage;
 import com.saunderscox.taskolotl.dto.UserCreateRequest;
 import com.saunderscox.taskolotl.dto.UserResponse;
 import com.saunderscox.taskolotl.dto.UserUpdateRequest;
+import com.saunderscox.taskolotl.service.ETags;
 import com.saunderscox.taskolotl.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
@@ -23,6 +29,7 @@ import java.util.UUID;
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
 @Tag(name = "User Management")
+@Validated
 public class UserController {
 
   private final UserService userService;
@@ -32,16 +39,36 @@ public class UserController {
   @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
   @GetMapping
   @PreAuthorize("hasRole('ADMIN')")
-  public ResponseEntity<Page<UserResponse>> getAllUsers(Pageable pageable) {
-    return ResponseEntity.ok(userService.getAllUsers(pageable));
+  public ResponseEntity<Page<UserResponse>> getAllUsers(
+      Pageable pageable, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    return ConditionalResponses.of(userService.getAllUsers(pageable, ifNoneMatch));
+  }
+
+  @Operation(summary = "Get all users with cursor pagination (Admin only)")
+  @ApiResponse(responseCode = "200", description = "Success")
+  @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
+  @GetMapping("/scroll")
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<CursorPage<UserResponse>> scrollUsers(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+    return ResponseEntity.ok(userService.scrollUsers(cursor, size));
   }
 
   @Operation(summary = "Get user by ID")
   @ApiResponse(responseCode = "200", description = "Success")
+  @ApiResponse(responseCode = "304", description = "Not modified", content = @Content)
   @ApiResponse(responseCode = "404", description = "Not found", content = @Content)
   @GetMapping("/{id}")
-  public ResponseEntity<UserResponse> getUserById(@PathVariable UUID id) {
-    return ResponseEntity.ok(userService.getUserById(id));
+  public ResponseEntity<UserResponse> getUserById(
+      @PathVariable UUID id,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    String eTag = userService.getUserETag(id);
+    if (ETags.matches(ifNoneMatch, eTag)) {
+      return ConditionalResponses.notModified(eTag);
+    }
+    UserResponse user = userService.getUserById(id);
+    return ResponseEntity.ok().eTag(ETags.of(user)).body(user);
   }
 
   @Operation(summary = "Get user by OAuth2 ID")
@@ -72,11 +99,14 @@ public class UserController {
   @Operation(summary = "Update user (Admin or self)")
   @ApiResponse(responseCode = "200", description = "Success")
   @ApiResponse(responseCode = "404", description = "Not found", content = @Content)
+  @ApiResponse(responseCode = "412", description = "Precondition failed", content = @Content)
   @PutMapping("/{id}")
   @PreAuthorize("hasRole('ADMIN') or @userService.isCurrentUser(#id)")
   public ResponseEntity<UserResponse> updateUser(
-      @PathVariable UUID id, @Valid @RequestBody UserUpdateRequest dto) {
-    return ResponseEntity.ok(userService.updateUser(id, dto));
+      @PathVariable UUID id, @Valid @RequestBody UserUpdateRequest dto,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    UserResponse user = userService.updateUser(id, dto, ifMatch);
+    return ResponseEntity.ok().eTag(ETags.of(user)).body(user);
   }
 
   @Operation(summary = "Delete user (Admin only)")
@@ -93,15 +123,26 @@ public class UserController {
   @ApiResponse(responseCode = "200", description = "Success")
   @GetMapping("/search")
   public ResponseEntity<Page<UserResponse>> searchUsers(
-      @RequestParam String query, Pageable pageable) {
-    return ResponseEntity.ok(userService.searchUsers(query, pageable));
+      @RequestParam String query, Pageable pageable,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+    return ConditionalResponses.of(userService.searchUsers(query, pageable, ifNoneMatch));
+  }
+
+  @Operation(summary = "Search users by query with cursor pagination")
+  @ApiResponse(responseCode = "200", description = "Success")
+  @GetMapping("/search/scroll")
+  public ResponseEntity<CursorPage<UserResponse>> scrollSearchUsers(
+      @RequestParam String query,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+    return ResponseEntity.ok(userService.scrollSearchUsers(query, cursor, size));
   }
 
   @Operation(summary = "Add skill to user (Admin or self)")
   @ApiResponse(responseCode = "200", description = "Success")
   @ApiResponse(responseCode = "404", description = "Not found", content = @Content)
   @PutMapping("/{id}/skills/{skillId}")
-  @PreAuthorize("hasRole('ADMIN') or @userSecurity.isCurrentUser(#id)")
+  @PreAuthorize("hasRole('ADMIN') or @userService.isCurrentUser(#id)")
   public ResponseEntity<UserResponse> addSkillToUser(
       @PathVariable UUID id, @PathVariable UUID skillId) {
     return ResponseEntity.ok(userService.addSkillToUser(id, skillId));
@@ -111,7 +152,7 @@ public class UserController {
   @ApiResponse(responseCode = "200", description = "Success")
   @ApiResponse(responseCode = "404", description = "Not found", content = @Content)
   @DeleteMapping("/{id}/skills/{skillId}")
-  @PreAuthorize("hasRole('ADMIN') or @userSecurity.isCurrentUser(#id)")
+  @PreAuthorize("hasRole('ADMIN') or @userService.isCurrentUser(#id)")
   public ResponseEntity<UserResponse> removeSkillFromUser(
       @PathVariable UUID id, @PathVariable UUID skillId) {
     return ResponseEntity.ok(userService.removeSkillFromUser(id, skillId));
@@ -0,0 +1,16 @@
+package com.saunderscox.taskolotl.dto;
+
+import com.saunderscox.taskolotl.entity.ArchiveEntryType;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An archived board item or comment, without its payload.
+ */
+public record ArchiveEntryResponse(
+    UUID id,
+    ArchiveEntryType type,
+    UUID boardItemId,
+    String title,
+    Instant archivedAt) {
+}
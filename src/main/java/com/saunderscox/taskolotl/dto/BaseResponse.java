@@ -17,6 +17,7 @@ import java.util.UUID;
 public abstract class BaseResponse {
 
   private UUID id;
+  private Integer version;
   private Instant createdAt;
   private Instant updatedAt;
 }
@@ -0,0 +1,13 @@
+package com.saunderscox.taskolotl.dto;
+
+/**
+ * Kinds of board changes pushed to event stream subscribers.
+ */
+public enum BoardChangeType {
+  BOARD_UPDATED,
+  BOARD_DELETED,
+  ITEM_MOVED,
+  ITEMS_REORDERED,
+  ITEMS_ARCHIVED,
+  ITEMS_RESTORED
+}
@@ -0,0 +1,15 @@
+package com.saunderscox.taskolotl.dto;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Changes to a board collected over one coalescing window. Clients refetch what they display rather
+ * than applying the changes themselves.
+ *
+ * @param boardId      the board that changed
+ * @param types        every kind of change seen in the window
+ * @param boardItemIds items moved, reordered, archived or restored in the window, or whose comments were
+ */
+public record BoardChanges(UUID boardId, Set<BoardChangeType> types, Set<UUID> boardItemIds) {
+}
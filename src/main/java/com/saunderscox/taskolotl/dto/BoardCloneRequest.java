@@ -0,0 +1,24 @@
+package com.saunderscox.taskolotl.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class BoardCloneRequest {
+
+  @NotBlank(message = "Board title is required")
+  @Size(max = 100, message = "Board title cannot exceed 100 characters")
+  private String title;
+
+  /**
+   * Also copy the template's owners and members. The cloning user always becomes an owner.
+   */
+  private boolean includeMemberships;
+}
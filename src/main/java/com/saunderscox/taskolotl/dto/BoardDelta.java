@@ -0,0 +1,35 @@
+package com.saunderscox.taskolotl.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Everything on a board that changed after a client's watermark. Clients apply changed rows and
+ * deletions in any order, comparing {@code updatedAt} with {@code deletedAt} for an ID present in
+ * both, drop comments of deleted items, and send {@code watermark} back on the next call.
+ *
+ * @param boardId        the board
+ * @param watermark      the {@code since} value for the next request
+ * @param resyncRequired true if the watermark is older than the retained deletions; the client must
+ *                       reload the board in full and nothing else is returned
+ * @param board          board metadata, or null if unchanged
+ * @param items          changed items, oldest change first
+ * @param comments       changed comments, oldest change first
+ * @param deleted        deleted items and comments, oldest first
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BoardDelta(
+    UUID boardId,
+    Instant watermark,
+    boolean resyncRequired,
+    BoardResponse board,
+    List<BoardItemSnapshot> items,
+    List<CommentLine> comments,
+    List<DeletedEntity> deleted) {
+
+  public static BoardDelta resync(UUID boardId, Instant watermark) {
+    return new BoardDelta(boardId, watermark, true, null, List.of(), List.of(), List.of());
+  }
+}
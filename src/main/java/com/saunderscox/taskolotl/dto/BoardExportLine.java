@@ -0,0 +1,23 @@
+package com.saunderscox.taskolotl.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import java.util.UUID;
+
+/**
+ * One line of a board export. An export is NDJSON: a single {@link BoardLine}, then every
+ * {@link BoardItemLine}, then every {@link CommentLine}, each tagged with a {@code record} property. IDs
+ * and timestamps are kept so a board can be moved between environments unchanged.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "record")
+@JsonSubTypes({
+    @JsonSubTypes.Type(value = BoardLine.class, name = "board"),
+    @JsonSubTypes.Type(value = BoardItemLine.class, name = "item"),
+    @JsonSubTypes.Type(value = CommentLine.class, name = "comment")
+})
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public sealed interface BoardExportLine permits BoardLine, BoardItemLine, CommentLine {
+
+  UUID id();
+}
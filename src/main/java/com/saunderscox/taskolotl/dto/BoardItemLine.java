@@ -0,0 +1,37 @@
+package com.saunderscox.taskolotl.dto;
+
+import com.saunderscox.taskolotl.entity.StudyStage;
+import com.saunderscox.taskolotl.entity.TaskStage;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A task or study line of a board export.
+ *
+ * @param type {@code TASK} or {@code STUDY}
+ */
+public record BoardItemLine(
+    String type,
+    UUID id,
+    Integer version,
+    Instant createdAt,
+    Instant updatedAt,
+    String title,
+    String description,
+    Integer position,
+    String rankKey,
+    String color,
+    UUID ownerId,
+    UUID skillId,
+    UUID conceptId,
+    TaskStage taskStage,
+    Instant dueDate,
+    Instant completedAt,
+    Float estimatedHours,
+    Float actualHours,
+    UUID assigneeId,
+    Boolean important,
+    StudyStage studyStage,
+    String resources,
+    UUID mentorId) implements BoardExportLine {
+}
@@ -0,0 +1,25 @@
+package com.saunderscox.taskolotl.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * New order for some or all items of a board. The listed items are rearranged among the slots they
+ * currently occupy; unlisted items keep their place.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardItemReorderRequest {
+
+  @NotEmpty(message = "At least one board item is required")
+  @Size(max = 5000, message = "Cannot reorder more than 5000 board items at once")
+  private List<@NotNull UUID> boardItemIds;
+}
@@ -0,0 +1,42 @@
+package com.saunderscox.taskolotl.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.saunderscox.taskolotl.entity.StudyStage;
+import com.saunderscox.taskolotl.entity.TaskStage;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One board item in a board snapshot, read as a projection so neither the item nor its associations
+ * are loaded as entities. Fields of the other item type are null and left out of the JSON.
+ *
+ * @param type         {@code TASK} or {@code STUDY}
+ * @param commentCount number of comments on the item
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BoardItemSnapshot(
+    String type,
+    UUID id,
+    Integer version,
+    Instant createdAt,
+    Instant updatedAt,
+    String title,
+    String description,
+    Integer position,
+    String rankKey,
+    String color,
+    UUID ownerId,
+    UUID skillId,
+    UUID conceptId,
+    Long commentCount,
+    TaskStage taskStage,
+    Instant dueDate,
+    Instant completedAt,
+    Float estimatedHours,
+    Float actualHours,
+    UUID assigneeId,
+    Boolean important,
+    StudyStage studyStage,
+    String resources,
+    UUID mentorId) {
+}
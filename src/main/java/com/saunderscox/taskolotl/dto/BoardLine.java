@@ -0,0 +1,26 @@
+package com.saunderscox.taskolotl.dto;
+
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.ItemOrdering;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The board itself, first line of a board export.
+ */
+public record BoardLine(
+    UUID id,
+    Integer version,
+    Instant createdAt,
+    Instant updatedAt,
+    String title,
+    String description,
+    BoardType boardType,
+    boolean visible,
+    ItemOrdering itemOrdering,
+    Set<UUID> ownerIds,
+    Set<UUID> memberIds,
+    Set<UUID> roleIds,
+    Set<UUID> skillIds) implements BoardExportLine {
+}
@@ -1,6 +1,7 @@
 package com.saunderscox.taskolotl.dto;
 
 import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.ItemOrdering;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -21,6 +22,7 @@ public class BoardResponse extends BaseResponse {
   private BoardType boardType;
   private String description;
   private boolean visible;
+  private ItemOrdering itemOrdering;
   private Set<UUID> ownerIds;
   private Set<UUID> memberIds;
   private Set<UUID> boardItemIds;
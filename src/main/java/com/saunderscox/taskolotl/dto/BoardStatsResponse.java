@@ -0,0 +1,25 @@
+package com.saunderscox.taskolotl.dto;
+
+import com.saunderscox.taskolotl.entity.StudyStage;
+import com.saunderscox.taskolotl.entity.TaskStage;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Column counts and hour totals of a board.
+ *
+ * @param boardId        the board
+ * @param tasksByStage   number of tasks in each stage, including empty ones
+ * @param studiesByStage number of studies in each stage, including empty ones
+ * @param overdueTasks   tasks past their due date and not done
+ * @param estimatedHours estimated hours summed over all tasks
+ * @param actualHours    actual hours summed over all tasks
+ */
+public record BoardStatsResponse(
+    UUID boardId,
+    Map<TaskStage, Long> tasksByStage,
+    Map<StudyStage, Long> studiesByStage,
+    long overdueTasks,
+    double estimatedHours,
+    double actualHours) {
+}
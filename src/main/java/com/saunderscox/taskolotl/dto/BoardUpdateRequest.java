@@ -1,5 +1,6 @@
 package com.saunderscox.taskolotl.dto;
 
+import com.saunderscox.taskolotl.entity.ItemOrdering;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -23,6 +24,8 @@ public class BoardUpdateRequest {
 
   private Boolean visible;
 
+  private ItemOrdering itemOrdering;
+
   private Set<UUID> ownerIds;
   private Set<UUID> memberIds;
   private Set<UUID> boardItemIds;
@@ -0,0 +1,31 @@
+package com.saunderscox.taskolotl.dto;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A comment line of a board export.
+ */
+public record CommentLine(
+    UUID id,
+    Integer version,
+    Instant createdAt,
+    Instant updatedAt,
+    UUID boardItemId,
+    UUID authorId,
+    String description,
+    Set<String> tags) implements BoardExportLine {
+
+  /**
+   * Row read without tags, which are merged in from a separate query.
+   */
+  public CommentLine(UUID id, Integer version, Instant createdAt, Instant updatedAt, UUID boardItemId,
+      UUID authorId, String description) {
+    this(id, version, createdAt, updatedAt, boardItemId, authorId, description, null);
+  }
+
+  public CommentLine withTags(Set<String> tags) {
+    return new CommentLine(id, version, createdAt, updatedAt, boardItemId, authorId, description, tags);
+  }
+}
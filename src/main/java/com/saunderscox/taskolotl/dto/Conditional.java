@@ -0,0 +1,23 @@
+package com.saunderscox.taskolotl.dto;
+
+/**
+ * Result of a conditional read: the entity tag of the current representation and, unless the
+ * client's copy is still current, the body.
+ *
+ * @param eTag the current entity tag
+ * @param body the body, or null when not modified
+ */
+public record Conditional<T>(String eTag, T body) {
+
+  public static <T> Conditional<T> of(String eTag, T body) {
+    return new Conditional<>(eTag, body);
+  }
+
+  public static <T> Conditional<T> notModified(String eTag) {
+    return new Conditional<>(eTag, null);
+  }
+
+  public boolean isNotModified() {
+    return body == null;
+  }
+}
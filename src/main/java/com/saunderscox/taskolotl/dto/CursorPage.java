@@ -0,0 +1,77 @@
+package com.saunderscox.taskolotl.dto;
+
+import com.saunderscox.taskolotl.entity.BaseEntity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * A slice of a keyset-paginated listing ordered by {@code createdAt} then {@code id}. No total
+ * count is computed; {@code nextCursor} is passed back to fetch the following slice and is null on
+ * the last one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+  private List<T> content;
+  private String nextCursor;
+  private boolean hasNext;
+
+  /**
+   * Builds a slice from a window of entities, deriving the next cursor from the last entity.
+   *
+   * @param window the window returned by a keyset query
+   * @param mapper maps the window's entities to response DTOs
+   * @return the slice
+   */
+  public static <E extends BaseEntity, R> CursorPage<R> of(Window<E> window, Function<List<E>, List<R>> mapper) {
+    List<E> entities = window.getContent();
+    String nextCursor = window.hasNext() && !entities.isEmpty()
+      ? encode(entities.get(entities.size() - 1))
+      : null;
+    return new CursorPage<>(mapper.apply(entities), nextCursor, nextCursor != null);
+  }
+
+  /**
+   * Decodes an opaque cursor into a keyset scroll position.
+   *
+   * @param cursor a cursor from a previous slice, or null/blank for the first slice
+   * @return the scroll position to continue from
+   * @throws IllegalArgumentException if the cursor is malformed
+   */
+  public static ScrollPosition toScrollPosition(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return ScrollPosition.keyset();
+    }
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = decoded.indexOf('|');
+      Map<String, Object> keys = new LinkedHashMap<>();
+      keys.put("createdAt", Instant.parse(decoded.substring(0, separator)));
+      keys.put("id", UUID.fromString(decoded.substring(separator + 1)));
+      return ScrollPosition.forward(keys);
+
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid cursor", e);
+    }
+  }
+
+  private static String encode(BaseEntity last) {
+    String raw = last.getCreatedAt() + "|" + last.getId();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,11 @@
+package com.saunderscox.taskolotl.dto;
+
+import com.saunderscox.taskolotl.entity.TombstoneType;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An entity deleted since a delta sync watermark.
+ */
+public record DeletedEntity(UUID id, TombstoneType type, Instant deletedAt) {
+}
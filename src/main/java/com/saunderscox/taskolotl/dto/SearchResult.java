@@ -0,0 +1,23 @@
+package com.saunderscox.taskolotl.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResult {
+
+  private SearchResultType type;
+  private UUID id;
+  private UUID boardId;
+  private UUID boardItemId;
+  private String title;
+  private String snippet;
+  private float score;
+}
@@ -0,0 +1,11 @@
+package com.saunderscox.taskolotl.dto;
+
+/**
+ * Kinds of entities returned by the full-text search API.
+ */
+public enum SearchResultType {
+  BOARD,
+  TASK,
+  STUDY,
+  COMMENT
+}
@@ -7,6 +7,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.validator.constraints.URL;
 
+import java.util.Set;
+import java.util.UUID;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,4 +24,7 @@ public class UserUpdateRequest {
 
   @URL(message = "Profile picture must be a valid URL")
   private String profilePictureUrl;
+
+  private Set<UUID> skillIds;
+  private Set<UUID> roleIds;
 }
@@ -0,0 +1,56 @@
+package com.saunderscox.taskolotl.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * A board item or comment moved out of the hot tables. The row keeps the original ID and a title
+ * for listing and searching; everything needed to restore it is in {@link #payload} as gzipped JSON.
+ */
+@Entity
+@Table(name = "archive_entries", indexes = {
+    @Index(name = "idx_archive_entry_board_archived_at", columnList = "board_id, archived_at"),
+    @Index(name = "idx_archive_entry_board_item", columnList = "board_item_id")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class ArchiveEntry {
+
+  public static final int TITLE_LENGTH = 100;
+
+  @Id
+  private UUID id;
+
+  @Column(name = "board_id", nullable = false)
+  private UUID boardId;
+
+  /**
+   * The item itself for item entries, the commented item for comment entries.
+   */
+  @Column(name = "board_item_id", nullable = false)
+  private UUID boardItemId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "entry_type", nullable = false, length = 20)
+  private ArchiveEntryType entryType;
+
+  @Column(nullable = false, length = TITLE_LENGTH)
+  private String title;
+
+  @Column(name = "archived_at", nullable = false)
+  private Instant archivedAt;
+
+  @Column(nullable = false, length = 10_000_000)
+  private byte[] payload;
+}
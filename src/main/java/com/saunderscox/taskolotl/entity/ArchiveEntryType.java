@@ -0,0 +1,9 @@
+package com.saunderscox.taskolotl.entity;
+
+/**
+ * Kinds of rows moved to the archive. A board item entry carries the comments it had when archived.
+ */
+public enum ArchiveEntryType {
+  BOARD_ITEM,
+  COMMENT
+}
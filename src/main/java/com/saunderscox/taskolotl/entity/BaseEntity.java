@@ -1,7 +1,6 @@
 package com.saunderscox.taskolotl.entity;
 
 import jakarta.persistence.Column;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PrePersist;
@@ -27,11 +26,11 @@ import lombok.experimental.SuperBuilder;
 public abstract class BaseEntity {
 
   /**
-   * Unique identifier for the entity. Automatically generated as a UUID when the entity is
-   * persisted.
+   * Unique identifier for the entity. Automatically generated as a time-ordered version 7 UUID when
+   * the entity is persisted. Rows created before the switch keep their random version 4 IDs.
    */
   @Id
-  @GeneratedValue(generator = "UUID")
+  @UuidV7
   @ToString.Include
   private UUID id;
 
@@ -74,6 +73,14 @@ public abstract class BaseEntity {
     updatedAt = Instant.now();
   }
 
+  /**
+   * Marks the entity as modified so its version and update timestamp advance at the next flush. Use
+   * when its state changed outside its mapped columns, e.g. join-table rows written directly.
+   */
+  public void touch() {
+    updatedAt = Instant.now();
+  }
+
   /**
    * Compares entities based on class type and ID. For unpersisted entities (null ID), uses object
    * identity.
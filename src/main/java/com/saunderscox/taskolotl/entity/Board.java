@@ -1,9 +1,11 @@
 package com.saunderscox.taskolotl.entity;
 
+import com.saunderscox.taskolotl.service.search.SearchIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.*;
 
@@ -12,14 +14,18 @@ import java.util.*;
  * skills. A board serves as the primary organizational unit.
  */
 @Entity
+@EntityListeners(SearchIndexListener.class)
 @Table(name = "boards",
-  indexes = {@Index(name = "idx_board_title", columnList = "title")},
+  indexes = {
+    @Index(name = "idx_board_title", columnList = "title"),
+    @Index(name = "idx_board_created_at_id", columnList = "created_at, id")},
   uniqueConstraints = @UniqueConstraint(columnNames = {"title"}, name = "uk_title"))
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
 @Getter
-@EqualsAndHashCode(callSuper = true)
+// By ID only, like User: hashing a board, e.g. while a user's owned boards load, must not load its collections
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
 public class Board extends BaseEntity {
 
   @Column(nullable = false, unique = true, length = 100)
@@ -38,6 +44,13 @@ public class Board extends BaseEntity {
   @Setter
   private boolean visible;
 
+  @Enumerated(EnumType.STRING)
+  @Column(name = "item_ordering", nullable = false, length = 16)
+  @ColumnDefault("'POSITION'")
+  @Setter
+  @Builder.Default
+  private ItemOrdering itemOrdering = ItemOrdering.POSITION;
+
   @ManyToMany(fetch = FetchType.LAZY)
   @JoinTable(name = "board_owners", joinColumns = @JoinColumn(name = "board_id"), inverseJoinColumns = @JoinColumn(name = "user_id"))
   @Builder.Default
@@ -49,7 +62,7 @@ public class Board extends BaseEntity {
   private Set<User> members = new LinkedHashSet<>();
 
   @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
-  @OrderBy("position ASC")
+  @OrderBy("rankKey ASC, position ASC")
   @Builder.Default
   private List<BoardItem> boardItems = new ArrayList<>();
 
@@ -61,6 +74,13 @@ public class Board extends BaseEntity {
   @Builder.Default
   private Set<Skill> skills = new HashSet<>();
 
+  /**
+   * Owners and members flattened into one row per user, for querying only; see {@link BoardAccess}.
+   */
+  @OneToMany(mappedBy = "board", fetch = FetchType.LAZY)
+  @Builder.Default
+  private Set<BoardAccess> access = new HashSet<>();
+
   protected boolean addBoardItem(BoardItem boardItem) {
     return boardItems.add(boardItem);
   }
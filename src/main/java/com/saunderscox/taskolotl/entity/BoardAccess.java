@@ -0,0 +1,70 @@
+package com.saunderscox.taskolotl.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * One row per user who owns or is a member of a board, derived from {@code board_owners} and
+ * {@code board_members}. Access checks hit the primary key and listings of a user's boards read the
+ * covering {@code (user_id, board_id, access_level)} index, instead of OR-ing two outer-joined join
+ * tables. Rows are rewritten per board with JDBC whenever membership changes and disappear with their
+ * board or user through {@code ON DELETE CASCADE}.
+ */
+@Entity
+@Table(name = "board_access", indexes = {
+    @Index(name = "idx_board_access_user", columnList = "user_id, board_id, access_level")
+})
+@IdClass(BoardAccess.Key.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class BoardAccess {
+
+  @Id
+  @Column(name = "board_id")
+  private UUID boardId;
+
+  @Id
+  @Column(name = "user_id")
+  private UUID userId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "access_level", nullable = false, length = 16)
+  private BoardAccessLevel accessLevel;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "board_id", insertable = false, updatable = false)
+  @OnDelete(action = OnDeleteAction.CASCADE)
+  private Board board;
+
+  @ManyToOne(fetch = FetchType.LAZY)
+  @JoinColumn(name = "user_id", insertable = false, updatable = false)
+  @OnDelete(action = OnDeleteAction.CASCADE)
+  private User user;
+
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+
+    private UUID boardId;
+    private UUID userId;
+  }
+}
@@ -0,0 +1,9 @@
+package com.saunderscox.taskolotl.entity;
+
+/**
+ * How a user reaches a board. A user who is both owner and member has {@link #OWNER}.
+ */
+public enum BoardAccessLevel {
+  OWNER,
+  MEMBER
+}
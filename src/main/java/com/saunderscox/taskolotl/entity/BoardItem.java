@@ -1,9 +1,12 @@
 package com.saunderscox.taskolotl.entity;
 
+import com.saunderscox.taskolotl.service.search.SearchIndexListener;
+import com.saunderscox.taskolotl.service.sync.TombstoneListener;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorColumn;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
@@ -27,16 +30,25 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Check;
 
 @Entity
+@EntityListeners({SearchIndexListener.class, TombstoneListener.class})
 @Table(name = "board_items", indexes = {
     @Index(name = "idx_board_item_board", columnList = "board_id"),
     @Index(name = "idx_board_item_owner", columnList = "owner_id"),
     @Index(name = "idx_board_item_skill", columnList = "skill_id"),
-    @Index(name = "idx_board_item_concept", columnList = "concept_id")
+    @Index(name = "idx_board_item_concept", columnList = "concept_id"),
+    @Index(name = "idx_board_item_rank", columnList = "board_id, rank_key"),
+    @Index(name = "idx_board_item_board_updated_at", columnList = "board_id, updated_at"),
+    @Index(name = "idx_board_item_completed_at", columnList = "completed_at"),
+    @Index(name = "idx_board_item_board_due_date", columnList = "board_id, due_date")
 })
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "item_type")
+// Subtype columns are shared by all rows, so each subtype's stage is required by a check, not NOT NULL
+@Check(name = "ck_board_item_stage", constraints = """
+    (item_type <> 'TASK' OR task_stage IS NOT NULL) AND (item_type <> 'STUDY' OR study_stage IS NOT NULL)""")
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
@@ -66,6 +78,14 @@ public abstract class BoardItem extends BaseEntity {
   @Builder.Default
   private Integer position = 0;
 
+  /**
+   * Sort key used instead of {@link #position} when the board uses {@link ItemOrdering#RANK}. Null on
+   * boards ordered by position.
+   */
+  @Column(name = "rank_key", length = 64)
+  @Setter
+  private String rankKey;
+
   /**
    * Hex color code for the item (e.g., "#FF5733"). Format: # followed by 6 hexadecimal characters.
    */
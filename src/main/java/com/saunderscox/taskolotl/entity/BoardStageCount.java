@@ -0,0 +1,59 @@
+package com.saunderscox.taskolotl.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of items on a board in one stage, with their estimated and actual hours summed. Keyed by
+ * board, item type ({@code TASK} or {@code STUDY}, as in {@code board_items.item_type}) and the
+ * {@link TaskStage} or {@link StudyStage} name. Rows are kept current with JDBC as items are flushed
+ * and rebuilt from {@code board_items} by the repair job, so they are never written through JPA.
+ */
+@Entity
+@Table(name = "board_stage_counts")
+@IdClass(BoardStageCount.Key.class)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class BoardStageCount {
+
+  @Id
+  @Column(name = "board_id")
+  private UUID boardId;
+
+  @Id
+  @Column(name = "item_type", length = 31)
+  private String itemType;
+
+  @Id
+  @Column(name = "stage", length = 32)
+  private String stage;
+
+  @Column(name = "item_count", nullable = false)
+  private long itemCount;
+
+  @Column(name = "estimated_hours", nullable = false)
+  private double estimatedHours;
+
+  @Column(name = "actual_hours", nullable = false)
+  private double actualHours;
+
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+
+    private UUID boardId;
+    private String itemType;
+    private String stage;
+  }
+}
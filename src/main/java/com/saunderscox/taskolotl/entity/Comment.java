@@ -1,9 +1,12 @@
 package com.saunderscox.taskolotl.entity;
 
+import com.saunderscox.taskolotl.service.search.SearchIndexListener;
+import com.saunderscox.taskolotl.service.sync.TombstoneListener;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
@@ -25,9 +28,12 @@ import org.hibernate.annotations.OnDeleteAction;
  * categorization and filtering purposes.
  */
 @Entity
+@EntityListeners({SearchIndexListener.class, TombstoneListener.class})
 @Table(name = "comments", indexes = {
     @Index(name = "idx_comment_board_item_id", columnList = "board_item_id"),
-    @Index(name = "idx_comment_author", columnList = "author_id")
+    @Index(name = "idx_comment_author", columnList = "author_id"),
+    @Index(name = "idx_comment_board_item_updated_at", columnList = "board_item_id, updated_at"),
+    @Index(name = "idx_comment_updated_at", columnList = "updated_at")
 })
 @NoArgsConstructor
 @AllArgsConstructor
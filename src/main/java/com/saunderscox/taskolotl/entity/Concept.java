@@ -1,5 +1,7 @@
 package com.saunderscox.taskolotl.entity;
 
+import com.saunderscox.taskolotl.config.cache.CacheNames;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -17,11 +19,15 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Represents a specific concept within a skill that can be associated with board items.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.CONCEPT_ENTITIES)
 @Table(name = "concepts")
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,5 +1,7 @@
 package com.saunderscox.taskolotl.entity;
 
+import com.saunderscox.taskolotl.config.cache.CacheNames;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -14,12 +16,16 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Represents the enterprise level hub within a company or organization. Hubs define teams and
  * domains.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.HUB_ENTITIES)
 @Table(name = "hubs", indexes = {
     @Index(name = "idx_hub_name", columnList = "name")
 })
@@ -37,6 +43,7 @@ public class Hub extends BaseEntity {
   private String description;
 
   @OneToMany(mappedBy = "hub", fetch = FetchType.LAZY)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.HUB_TEAMS)
   @Builder.Default
   private Set<Team> teams = new HashSet<>();
 
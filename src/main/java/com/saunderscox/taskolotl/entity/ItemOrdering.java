@@ -0,0 +1,18 @@
+package com.saunderscox.taskolotl.entity;
+
+/**
+ * Defines how the items of a board are kept in order.
+ */
+public enum ItemOrdering {
+  /**
+   * Items are ordered by a dense integer position. Moving an item renumbers every item between its
+   * old and new position.
+   */
+  POSITION,
+
+  /**
+   * Items are ordered by a sparse, lexicographically sortable rank key. Moving an item rewrites only
+   * that item's key.
+   */
+  RANK
+}
@@ -0,0 +1,91 @@
+package com.saunderscox.taskolotl.entity;
+
+/**
+ * Generates lexicographically sortable rank keys for {@link ItemOrdering#RANK} boards. Keys use the
+ * digits {@code 0-9a-z}, whose ASCII order matches their numeric order, and never end in {@code 0},
+ * so another key always fits between any two distinct keys.
+ */
+public final class RankKeys {
+
+  private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+  private static final int BASE = DIGITS.length();
+
+  // Spare digits per key when spreading, i.e. roughly BASE^2 free keys between neighbours
+  private static final int SPREAD_HEADROOM = 2;
+
+  private RankKeys() {
+  }
+
+  /**
+   * Returns a key strictly between two keys.
+   *
+   * @param lower the key before, or null for the start of the board
+   * @param upper the key after, or null for the end of the board
+   * @return a key that sorts after {@code lower} and before {@code upper}
+   * @throws IllegalArgumentException if {@code lower} does not sort before {@code upper}
+   */
+  public static String between(String lower, String upper) {
+    if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+      throw new IllegalArgumentException("Rank key " + lower + " must sort before " + upper);
+    }
+    String low = lower == null ? "" : lower;
+    boolean upperBound = upper != null;
+
+    StringBuilder key = new StringBuilder();
+    for (int i = 0; ; i++) {
+      int lo = i < low.length() ? digit(low.charAt(i)) : 0;
+      int hi = upperBound && i < upper.length() ? digit(upper.charAt(i)) : BASE;
+      int mid = (lo + hi) / 2;
+      if (mid > lo) {
+        return key.append(DIGITS.charAt(mid)).toString();
+      }
+      key.append(DIGITS.charAt(lo));
+      // Once the prefix is below the upper key, the remaining digits are only bounded by the lower key
+      if (hi > lo) {
+        upperBound = false;
+      }
+    }
+  }
+
+  /**
+   * Returns evenly spaced keys for a board, in ascending order.
+   *
+   * @param count number of keys
+   * @return {@code count} ascending keys of equal width, minus trailing zeros
+   */
+  public static String[] spread(int count) {
+    int width = SPREAD_HEADROOM;
+    for (long capacity = count + 1L; capacity > 1; capacity /= BASE) {
+      width++;
+    }
+    long space = 1;
+    for (int i = 0; i < width; i++) {
+      space *= BASE;
+    }
+    long step = space / (count + 1L);
+
+    String[] keys = new String[count];
+    char[] buffer = new char[width];
+    for (int i = 0; i < count; i++) {
+      long value = step * (i + 1);
+      for (int d = width - 1; d >= 0; d--) {
+        buffer[d] = DIGITS.charAt((int) (value % BASE));
+        value /= BASE;
+      }
+      int length = width;
+      while (buffer[length - 1] == '0') {
+        length--;
+      }
+      keys[i] = new String(buffer, 0, length);
+    }
+    return keys;
+  }
+
+  private static int digit(char c) {
+    int digit = DIGITS.indexOf(c);
+    if (digit < 0) {
+      throw new IllegalArgumentException("Invalid rank key character: " + c);
+    }
+    return digit;
+  }
+}
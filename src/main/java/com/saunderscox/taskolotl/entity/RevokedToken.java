@@ -0,0 +1,35 @@
+package com.saunderscox.taskolotl.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * A revoked token ID ({@code jti}). Rows are only read at startup to rebuild the in-memory
+ * revocation store and are deleted once the token would have expired anyway.
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+    @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class RevokedToken extends BaseEntity {
+
+  @Column(name = "token_id", nullable = false, unique = true)
+  private UUID tokenId;
+
+  @Column(name = "expires_at", nullable = false)
+  private Instant expiresAt;
+}
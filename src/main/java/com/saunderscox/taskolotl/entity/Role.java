@@ -1,9 +1,13 @@
 package com.saunderscox.taskolotl.entity;
 
+import com.saunderscox.taskolotl.config.cache.CacheNames;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.Table;
 import java.util.HashSet;
@@ -14,12 +18,16 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Represents a professional role within a company or organization. Roles define job positions,
  * responsibilities, and organizational structure.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.ROLE_ENTITIES)
 @Table(name = "roles", indexes = {
     @Index(name = "idx_role_name", columnList = "name")
 })
@@ -37,10 +45,12 @@ public class Role extends BaseEntity {
   private String description;
 
   @ManyToMany(fetch = FetchType.LAZY)
+  @JoinTable(name = "roles_users", joinColumns = @JoinColumn(name = "roles_id"), inverseJoinColumns = @JoinColumn(name = "users_id"))
   @Builder.Default
   private Set<User> users = new HashSet<>();
 
   @ManyToMany(fetch = FetchType.LAZY)
+  @JoinTable(name = "roles_boards", joinColumns = @JoinColumn(name = "roles_id"), inverseJoinColumns = @JoinColumn(name = "boards_id"))
   @Builder.Default
   private Set<Board> boards = new HashSet<>();
 
@@ -1,5 +1,7 @@
 package com.saunderscox.taskolotl.entity;
 
+import com.saunderscox.taskolotl.config.cache.CacheNames;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -21,12 +23,16 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Represents a skill that can be associated with users, boards, and concepts. Skills provide a way
  * to categorize and organize learning materials and tasks.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.SKILL_ENTITIES)
 @Table(name = "skills")
 @NoArgsConstructor
 @AllArgsConstructor
@@ -64,6 +70,7 @@ public class Skill extends BaseEntity {
   private Set<Board> boards = new HashSet<>();
 
   @OneToMany(mappedBy = "skill", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.SKILL_CONCEPTS)
   @Builder.Default
   private List<Concept> concepts = new ArrayList<>();
 
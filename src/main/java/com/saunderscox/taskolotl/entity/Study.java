@@ -30,7 +30,7 @@ import lombok.experimental.SuperBuilder;
 public class Study extends BoardItem {
 
   @Enumerated(EnumType.STRING)
-  @Column(name = "study_stage", nullable = false)
+  @Column(name = "study_stage")
   @Builder.Default
   @Setter
   private StudyStage studyStage = StudyStage.UNAWARE;
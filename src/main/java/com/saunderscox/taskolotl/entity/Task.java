@@ -32,7 +32,7 @@ import lombok.experimental.SuperBuilder;
 public class Task extends BoardItem {
 
   @Enumerated(EnumType.STRING)
-  @Column(name = "task_stage", nullable = false)
+  @Column(name = "task_stage")
   @Builder.Default
   @Setter
   private TaskStage taskStage = TaskStage.BACKLOG;
@@ -1,5 +1,7 @@
 package com.saunderscox.taskolotl.entity;
 
+import com.saunderscox.taskolotl.config.cache.CacheNames;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -17,12 +19,16 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Represents a team within an organization. Teams group users together and can be associated with a
  * hub.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.TEAM_ENTITIES)
 @Table(name = "teams", indexes = {
     @Index(name = "idx_team_name", columnList = "name")
 })
@@ -45,6 +51,7 @@ public class Team extends BaseEntity {
   private Hub hub;
 
   @OneToMany(mappedBy = "team", fetch = FetchType.LAZY)
+  @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheNames.TEAM_USERS)
   @Builder.Default
   private Set<User> users = new HashSet<>();
 
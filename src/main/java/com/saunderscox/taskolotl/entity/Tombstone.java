@@ -0,0 +1,42 @@
+package com.saunderscox.taskolotl.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Records that a board item or comment was deleted, so delta sync clients can drop their copy. Keyed by
+ * the deleted entity's ID and written with JDBC while the delete is flushed; kept for
+ * {@code app.sync.tombstone-retention}.
+ */
+@Entity
+@Table(name = "tombstones", indexes = {
+    @Index(name = "idx_tombstone_board_deleted_at", columnList = "board_id, deleted_at")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class Tombstone {
+
+  @Id
+  private UUID id;
+
+  @Column(name = "board_id", nullable = false)
+  private UUID boardId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "entity_type", nullable = false, length = 20)
+  private TombstoneType entityType;
+
+  @Column(name = "deleted_at", nullable = false)
+  private Instant deletedAt;
+}
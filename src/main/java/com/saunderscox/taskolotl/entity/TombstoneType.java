@@ -0,0 +1,9 @@
+package com.saunderscox.taskolotl.entity;
+
+/**
+ * Kinds of entities whose deletion is recorded as a {@link Tombstone}.
+ */
+public enum TombstoneType {
+  BOARD_ITEM,
+  COMMENT
+}
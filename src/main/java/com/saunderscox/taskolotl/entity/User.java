@@ -15,7 +15,8 @@ import java.util.Set;
     @Index(name = "idx_user_username", columnList = "username"),
     @Index(name = "idx_user_email", columnList = "email"),
     @Index(name = "idx_user_oauth_id", columnList = "oauth_id"),
-    @Index(name = "idx_user_permission", columnList = "permission")
+    @Index(name = "idx_user_permission", columnList = "permission"),
+    @Index(name = "idx_user_created_at_id", columnList = "created_at, id")
 })
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,69 @@
+package com.saunderscox.taskolotl.entity;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * Version 7 UUIDs as specified in RFC 9562: a 48-bit Unix millisecond timestamp, a 12-bit counter
+ * and 62 random bits. IDs generated in this JVM are strictly increasing, so new rows append to the
+ * right edge of primary key and foreign key indexes instead of landing on random pages.
+ * <p>
+ * The counter restarts at zero every millisecond; if more than 4096 IDs are requested within one,
+ * the timestamp is advanced instead of repeating a value. The random bits keep IDs as hard to guess
+ * as random UUIDs apart from the creation time they reveal.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+  private static final int COUNTER_BITS = 12;
+  private static final long VERSION = 0x7000L;
+  private static final long VARIANT = 0x8000000000000000L;
+  private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+  // Timestamp shifted left by COUNTER_BITS, plus the counter
+  private static final AtomicLong LAST = new AtomicLong();
+
+  /**
+   * Generates a new ID, e.g. for rows inserted with JDBC.
+   */
+  public static UUID next() {
+    long now = System.currentTimeMillis() << COUNTER_BITS;
+    long state = LAST.updateAndGet(last -> Math.max(last + 1, now));
+
+    long timestamp = state >>> COUNTER_BITS;
+    long counter = state & ((1L << COUNTER_BITS) - 1);
+    long mostSignificant = timestamp << 16 | VERSION | counter;
+    long leastSignificant = VARIANT | RANDOM.nextLong() & RANDOM_MASK;
+    return new UUID(mostSignificant, leastSignificant);
+  }
+
+  /**
+   * Builds an ID for a row created at the given time, e.g. when generating historical data. The
+   * counter is filled from {@code random} as well, so uniqueness rests on the random bits alone and
+   * IDs of the same millisecond are not ordered.
+   */
+  public static UUID of(Instant createdAt, RandomGenerator random) {
+    long mostSignificant = createdAt.toEpochMilli() << 16 | VERSION | random.nextLong() & ((1L << COUNTER_BITS) - 1);
+    long leastSignificant = VARIANT | random.nextLong() & RANDOM_MASK;
+    return new UUID(mostSignificant, leastSignificant);
+  }
+
+  @Override
+  public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+      EventType eventType) {
+    return next();
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+}
@@ -3,7 +3,9 @@ package com.saunderscox.taskolotl.exception;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.LazyInitializationException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -29,6 +31,38 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     return createProblemDetail(HttpStatus.UNAUTHORIZED, ex.getMessage(), ex);
   }
 
+  // Denials from @PreAuthorize reach this advice before the security filter chain sees them
+  @ExceptionHandler(AccessDeniedException.class)
+  public ProblemDetail handleAccessDenied(AccessDeniedException ex) {
+    return createProblemDetail(HttpStatus.FORBIDDEN, ex.getMessage(), ex);
+  }
+
+  @ExceptionHandler(ResourceNotFoundException.class)
+  public ProblemDetail handleResourceNotFound(ResourceNotFoundException ex) {
+    return createProblemDetail(HttpStatus.NOT_FOUND, ex.getMessage(), ex);
+  }
+
+  @ExceptionHandler(DuplicateResourceException.class)
+  public ProblemDetail handleDuplicateResource(DuplicateResourceException ex) {
+    return createProblemDetail(HttpStatus.CONFLICT, ex.getMessage(), ex);
+  }
+
+  @ExceptionHandler(PreconditionFailedException.class)
+  public ProblemDetail handlePreconditionFailed(PreconditionFailedException ex) {
+    return createProblemDetail(HttpStatus.PRECONDITION_FAILED, ex.getMessage(), ex);
+  }
+
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ProblemDetail handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+    return createProblemDetail(HttpStatus.CONFLICT,
+      "Resource was modified concurrently; reload and retry", ex);
+  }
+
+  @ExceptionHandler(IllegalArgumentException.class)
+  public ProblemDetail handleIllegalArgument(IllegalArgumentException ex) {
+    return createProblemDetail(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+  }
+
   @ExceptionHandler(LazyInitializationException.class)
   public ProblemDetail handleLazyInitialization(LazyInitializationException ex) {
     return createProblemDetail(HttpStatus.INTERNAL_SERVER_ERROR,
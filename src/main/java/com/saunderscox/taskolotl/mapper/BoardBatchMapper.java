@@ -0,0 +1,81 @@
+package com.saunderscox.taskolotl.mapper;
+
+import com.saunderscox.taskolotl.dto.BoardResponse;
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.repository.BoardRelationId;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps pages of boards to {@link BoardResponse}s without touching their lazy collections. Each
+ * relationship's IDs are fetched for the whole page with one query, so a page costs a fixed six
+ * queries instead of one plus five per board.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardBatchMapper {
+
+  private final BoardRepository boardRepository;
+  private final BoardMapper boardMapper;
+
+  public Page<BoardResponse> toResponsePage(Page<Board> boards) {
+    Map<UUID, BoardResponse> responses = toResponses(boards.getContent());
+    return boards.map(board -> responses.get(board.getId()));
+  }
+
+  /**
+   * Maps a single board, reading its relationship IDs from the database rather than its collections.
+   * Use after the board's join tables were written directly.
+   */
+  public BoardResponse toResponseDto(Board board) {
+    return toResponses(List.of(board)).get(board.getId());
+  }
+
+  public List<BoardResponse> toResponseDtoList(List<Board> boards) {
+    Map<UUID, BoardResponse> responses = toResponses(boards);
+    return boards.stream()
+        .map(board -> responses.get(board.getId()))
+        .toList();
+  }
+
+  private Map<UUID, BoardResponse> toResponses(List<Board> boards) {
+    Map<UUID, BoardResponse> responses = new HashMap<>(boards.size() * 2);
+    for (Board board : boards) {
+      BoardResponse response = boardMapper.toResponseDtoWithoutRelations(board);
+      response.setOwnerIds(new HashSet<>());
+      response.setMemberIds(new HashSet<>());
+      response.setBoardItemIds(new HashSet<>());
+      response.setRoleIds(new HashSet<>());
+      response.setSkillIds(new HashSet<>());
+      responses.put(board.getId(), response);
+    }
+    if (responses.isEmpty()) {
+      return responses;
+    }
+
+    Set<UUID> boardIds = responses.keySet();
+    collect(boardRepository.findOwnerIdsByBoardIds(boardIds), responses, (r, id) -> r.getOwnerIds().add(id));
+    collect(boardRepository.findMemberIdsByBoardIds(boardIds), responses, (r, id) -> r.getMemberIds().add(id));
+    collect(boardRepository.findBoardItemIdsByBoardIds(boardIds), responses, (r, id) -> r.getBoardItemIds().add(id));
+    collect(boardRepository.findRoleIdsByBoardIds(boardIds), responses, (r, id) -> r.getRoleIds().add(id));
+    collect(boardRepository.findSkillIdsByBoardIds(boardIds), responses, (r, id) -> r.getSkillIds().add(id));
+    return responses;
+  }
+
+  private static void collect(Collection<BoardRelationId> relationIds, Map<UUID, BoardResponse> responses,
+      BiConsumer<BoardResponse, UUID> adder) {
+    for (BoardRelationId relationId : relationIds) {
+      adder.accept(responses.get(relationId.getBoardId()), relationId.getRelatedId());
+    }
+  }
+}
@@ -28,11 +28,25 @@ public interface BoardMapper {
 
   List<BoardResponse> toResponseDtoList(List<Board> boards);
 
+  /**
+   * Maps the board's own columns only, leaving the relationship ID sets null. Used by
+   * {@link BoardBatchMapper}, which fills them for a whole page at once.
+   */
+  @Named("withoutRelations")
+  @Mapping(target = "ownerIds", ignore = true)
+  @Mapping(target = "memberIds", ignore = true)
+  @Mapping(target = "boardItemIds", ignore = true)
+  @Mapping(target = "roleIds", ignore = true)
+  @Mapping(target = "skillIds", ignore = true)
+  BoardResponse toResponseDtoWithoutRelations(Board board);
+
   @Mapping(target = "owners", ignore = true)
   @Mapping(target = "members", ignore = true)
   @Mapping(target = "boardItems", ignore = true)
   @Mapping(target = "roles", ignore = true)
   @Mapping(target = "skills", ignore = true)
+  @Mapping(target = "access", ignore = true)
+  @Mapping(target = "itemOrdering", ignore = true)
   Board toEntity(BoardCreateRequest createDto);
 
   @Mapping(target = "owners", ignore = true)
@@ -40,6 +54,8 @@ public interface BoardMapper {
   @Mapping(target = "boardItems", ignore = true)
   @Mapping(target = "roles", ignore = true)
   @Mapping(target = "skills", ignore = true)
+  @Mapping(target = "access", ignore = true)
+  @Mapping(target = "itemOrdering", ignore = true)
   void updateEntityFromDto(BoardUpdateRequest updateDto, @MappingTarget Board board);
 
   default Set<UUID> getOwnerIds(Board board) {
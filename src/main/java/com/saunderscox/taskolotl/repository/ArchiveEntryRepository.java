@@ -0,0 +1,43 @@
+package com.saunderscox.taskolotl.repository;
+
+import com.saunderscox.taskolotl.dto.ArchiveEntryResponse;
+import com.saunderscox.taskolotl.entity.ArchiveEntry;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for {@link ArchiveEntry} rows. Listings are projected so payloads are never read.
+ */
+@Repository
+public interface ArchiveEntryRepository extends JpaRepository<ArchiveEntry, UUID> {
+
+  Optional<ArchiveEntry> findByIdAndBoardId(UUID id, UUID boardId);
+
+  @Query(value = """
+      SELECT new com.saunderscox.taskolotl.dto.ArchiveEntryResponse(
+        e.id, e.entryType, e.boardItemId, e.title, e.archivedAt)
+      FROM ArchiveEntry e
+      WHERE e.boardId = :boardId
+      """,
+      countQuery = "SELECT COUNT(e) FROM ArchiveEntry e WHERE e.boardId = :boardId")
+  Page<ArchiveEntryResponse> findResponsesByBoardId(@Param("boardId") UUID boardId, Pageable pageable);
+
+  @Query(value = """
+      SELECT new com.saunderscox.taskolotl.dto.ArchiveEntryResponse(
+        e.id, e.entryType, e.boardItemId, e.title, e.archivedAt)
+      FROM ArchiveEntry e
+      WHERE e.boardId = :boardId AND LOWER(e.title) LIKE LOWER(CONCAT('%', :query, '%'))
+      """,
+      countQuery = """
+          SELECT COUNT(e) FROM ArchiveEntry e
+          WHERE e.boardId = :boardId AND LOWER(e.title) LIKE LOWER(CONCAT('%', :query, '%'))
+          """)
+  Page<ArchiveEntryResponse> searchResponsesByBoardId(@Param("boardId") UUID boardId,
+      @Param("query") String query, Pageable pageable);
+}
@@ -0,0 +1,60 @@
+package com.saunderscox.taskolotl.repository;
+
+import com.saunderscox.taskolotl.entity.BoardAccess;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for {@link BoardAccess} rows, which are derived from the owner and member join tables
+ * and only ever rewritten from them here.
+ */
+@Repository
+public interface BoardAccessRepository extends JpaRepository<BoardAccess, BoardAccess.Key> {
+
+  String SELECT_ACCESS = """
+      SELECT o.user_id, o.board_id, 'OWNER' FROM board_owners o
+      WHERE o.board_id = :boardId
+      UNION ALL
+      SELECT m.user_id, m.board_id, 'MEMBER' FROM board_members m
+      WHERE m.board_id = :boardId
+        AND NOT EXISTS (SELECT 1 FROM board_owners o WHERE o.board_id = m.board_id AND o.user_id = m.user_id)
+      """;
+
+  boolean existsByBoardIdAndUserId(UUID boardId, UUID userId);
+
+  @Query("SELECT a.boardId FROM BoardAccess a WHERE a.userId = :userId")
+  List<UUID> findBoardIdsByUserId(@Param("userId") UUID userId);
+
+  @Modifying
+  @Query(value = "DELETE FROM board_access WHERE board_id = :boardId", nativeQuery = true)
+  int deleteByBoardId(@Param("boardId") UUID boardId);
+
+  /**
+   * Inserts a board's rows from its owners and members. Flushes first so owners and members added
+   * through the board's collections are included. The board must have no rows yet.
+   */
+  @Modifying(flushAutomatically = true)
+  @Query(value = "INSERT INTO board_access (user_id, board_id, access_level) " + SELECT_ACCESS,
+      nativeQuery = true)
+  int insertFromMemberships(@Param("boardId") UUID boardId);
+
+  /**
+   * Inserts the rows of every board that has none, e.g. boards created before this table existed.
+   */
+  @Modifying
+  @Query(value = """
+      INSERT INTO board_access (user_id, board_id, access_level)
+      SELECT o.user_id, o.board_id, 'OWNER' FROM board_owners o
+      WHERE NOT EXISTS (SELECT 1 FROM board_access a WHERE a.board_id = o.board_id)
+      UNION ALL
+      SELECT m.user_id, m.board_id, 'MEMBER' FROM board_members m
+      WHERE NOT EXISTS (SELECT 1 FROM board_access a WHERE a.board_id = m.board_id)
+        AND NOT EXISTS (SELECT 1 FROM board_owners o WHERE o.board_id = m.board_id AND o.user_id = m.user_id)
+      """, nativeQuery = true)
+  int backfill();
+}
@@ -0,0 +1,94 @@
+package com.saunderscox.taskolotl.repository;
+
+import com.saunderscox.taskolotl.entity.ArchiveEntry;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Moves board items and comments between the hot tables and {@code archive_entries} with JDBC
+ * batches. Rows are deleted without loading them, so entity listeners do not run; callers record
+ * tombstones and search index removals themselves.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardArchiveRepository {
+
+  private static final String INSERT_ENTRY = """
+      INSERT INTO archive_entries (id, board_id, board_item_id, entry_type, title, archived_at, payload)
+      VALUES (?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private static final String DELETE_TAGS_OF_ITEMS =
+      "DELETE FROM comment_tags WHERE comment_id IN (SELECT id FROM comments WHERE board_item_id IN (:ids))";
+  private static final String DELETE_COMMENTS_OF_ITEMS = "DELETE FROM comments WHERE board_item_id IN (:ids)";
+  private static final String DELETE_ITEMS = "DELETE FROM board_items WHERE id IN (:ids)";
+  private static final String DELETE_TAGS = "DELETE FROM comment_tags WHERE comment_id IN (:ids)";
+  private static final String DELETE_COMMENTS = "DELETE FROM comments WHERE id IN (:ids)";
+
+  private static final String TOUCH_BOARDS =
+      "UPDATE boards SET version = version + 1, updated_at = :now WHERE id IN (:ids)";
+  private static final String TOUCH_ITEMS = "UPDATE board_items SET updated_at = :now WHERE id IN (:ids)";
+  private static final String TOUCH_COMMENTS = "UPDATE comments SET updated_at = :now WHERE id IN (:ids)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public void insertEntries(List<ArchiveEntry> entries) {
+    if (entries.isEmpty()) return;
+
+    List<Object[]> batchArgs = entries.stream()
+        .map(entry -> new Object[]{
+            entry.getId(), entry.getBoardId(), entry.getBoardItemId(), entry.getEntryType().name(),
+            entry.getTitle(), Timestamp.from(entry.getArchivedAt()), entry.getPayload()})
+        .toList();
+    jdbcTemplate.getJdbcOperations().batchUpdate(INSERT_ENTRY, batchArgs);
+  }
+
+  /**
+   * Deletes board items together with their comments and comment tags.
+   */
+  public void deleteItems(Collection<?> itemIds) {
+    if (itemIds.isEmpty()) return;
+
+    Map<String, Object> params = Map.of("ids", itemIds);
+    jdbcTemplate.update(DELETE_TAGS_OF_ITEMS, params);
+    jdbcTemplate.update(DELETE_COMMENTS_OF_ITEMS, params);
+    jdbcTemplate.update(DELETE_ITEMS, params);
+  }
+
+  public void deleteComments(Collection<?> commentIds) {
+    if (commentIds.isEmpty()) return;
+
+    Map<String, Object> params = Map.of("ids", commentIds);
+    jdbcTemplate.update(DELETE_TAGS, params);
+    jdbcTemplate.update(DELETE_COMMENTS, params);
+  }
+
+  /**
+   * Advances the version and update timestamp of boards whose item set changed, so ETags and delta
+   * sync see the change.
+   */
+  public void touchBoards(Collection<?> boardIds) {
+    touch(TOUCH_BOARDS, boardIds);
+  }
+
+  /**
+   * Stamps restored rows as updated now, so delta sync clients that saw them deleted pick them up
+   * again.
+   */
+  public void touchRestored(Collection<?> itemIds, Collection<?> commentIds) {
+    touch(TOUCH_ITEMS, itemIds);
+    touch(TOUCH_COMMENTS, commentIds);
+  }
+
+  private void touch(String sql, Collection<?> ids) {
+    if (ids.isEmpty()) return;
+
+    jdbcTemplate.update(sql, Map.of("ids", ids, "now", Timestamp.from(Instant.now())));
+  }
+}
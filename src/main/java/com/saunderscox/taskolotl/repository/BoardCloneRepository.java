@@ -0,0 +1,73 @@
+package com.saunderscox.taskolotl.repository;
+
+import com.saunderscox.taskolotl.entity.UuidV7Generator;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Copies a board and its items row for row with {@code INSERT ... SELECT}, so column values never
+ * leave the database. New IDs are generated up front and item copies are sent as JDBC batches.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardCloneRepository {
+
+  private static final int BATCH_SIZE = 500;
+
+  private static final String CLONE_BOARD = """
+      INSERT INTO boards (id, version, created_at, updated_at, title, board_type, description, visible,
+        item_ordering)
+      SELECT ?, 0, ?, ?, ?, board_type, description, visible, item_ordering
+      FROM boards WHERE id = ?
+      """;
+
+  private static final String SELECT_ITEM_IDS = "SELECT id FROM board_items WHERE board_id = ?";
+
+  private static final String CLONE_ITEM = """
+      INSERT INTO board_items (id, version, created_at, updated_at, item_type, board_id, owner_id, title,
+        description, position, rank_key, color, skill_id, concept_id, task_stage, due_date, completed_at,
+        estimated_hours, actual_hours, assignee_id, is_important, study_stage, resources, mentor_id)
+      SELECT ?, 0, ?, ?, item_type, ?, owner_id, title,
+        description, position, rank_key, color, skill_id, concept_id, task_stage, due_date, completed_at,
+        estimated_hours, actual_hours, assignee_id, is_important, study_stage, resources, mentor_id
+      FROM board_items WHERE id = ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Copies a board row under a new ID and title.
+   *
+   * @return true if the source board existed
+   */
+  public boolean cloneBoard(UUID sourceBoardId, UUID boardId, String title) {
+    Timestamp now = Timestamp.from(Instant.now());
+    return jdbcTemplate.update(CLONE_BOARD, boardId, now, now, title, sourceBoardId) == 1;
+  }
+
+  /**
+   * Copies every item of one board onto another, keeping subtype fields, positions and rank keys.
+   *
+   * @return the number of items copied
+   */
+  public int cloneItems(UUID sourceBoardId, UUID boardId) {
+    List<UUID> sourceItemIds = jdbcTemplate.queryForList(SELECT_ITEM_IDS, UUID.class, sourceBoardId);
+    Timestamp now = Timestamp.from(Instant.now());
+
+    for (int from = 0; from < sourceItemIds.size(); from += BATCH_SIZE) {
+      List<UUID> chunk = sourceItemIds.subList(from, Math.min(from + BATCH_SIZE, sourceItemIds.size()));
+      List<Object[]> batchArgs = new ArrayList<>(chunk.size());
+      for (UUID sourceItemId : chunk) {
+        batchArgs.add(new Object[]{UuidV7Generator.next(), now, now, boardId, sourceItemId});
+      }
+      jdbcTemplate.batchUpdate(CLONE_ITEM, batchArgs);
+    }
+    return sourceItemIds.size();
+  }
+}
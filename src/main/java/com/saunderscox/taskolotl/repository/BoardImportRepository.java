@@ -0,0 +1,105 @@
+package com.saunderscox.taskolotl.repository;
+
+import com.saunderscox.taskolotl.dto.BoardItemLine;
+import com.saunderscox.taskolotl.dto.BoardLine;
+import com.saunderscox.taskolotl.dto.CommentLine;
+import com.saunderscox.taskolotl.entity.ItemOrdering;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Inserts imported boards, items and comments with their original IDs as JDBC batches, bypassing
+ * the persistence context so an import of any size runs in constant memory.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardImportRepository {
+
+  private static final String INSERT_BOARD = """
+      INSERT INTO boards (id, version, created_at, updated_at, title, board_type, description, visible,
+        item_ordering)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private static final String INSERT_ITEM = """
+      INSERT INTO board_items (id, version, created_at, updated_at, item_type, board_id, owner_id, title,
+        description, position, rank_key, color, skill_id, concept_id, task_stage, due_date, completed_at,
+        estimated_hours, actual_hours, assignee_id, is_important, study_stage, resources, mentor_id)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private static final String INSERT_COMMENT = """
+      INSERT INTO comments (id, version, created_at, updated_at, board_item_id, author_id, description)
+      VALUES (?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private static final String INSERT_COMMENT_TAG = "INSERT INTO comment_tags (comment_id, tag) VALUES (?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void insertBoard(BoardLine board) {
+    Instant now = Instant.now();
+    jdbcTemplate.update(INSERT_BOARD,
+        board.id(), version(board.version()), timestamp(board.createdAt(), now), timestamp(board.updatedAt(), now),
+        board.title(), board.boardType().name(), board.description(), board.visible(),
+        (board.itemOrdering() == null ? ItemOrdering.POSITION : board.itemOrdering()).name());
+  }
+
+  /**
+   * Inserts items of one board. Lines must already be validated by the caller.
+   */
+  public void insertItems(UUID boardId, List<BoardItemLine> items) {
+    if (items.isEmpty()) return;
+
+    Instant now = Instant.now();
+    List<Object[]> batchArgs = new ArrayList<>(items.size());
+    for (BoardItemLine item : items) {
+      batchArgs.add(new Object[]{
+          item.id(), version(item.version()), timestamp(item.createdAt(), now), timestamp(item.updatedAt(), now),
+          item.type(), boardId, item.ownerId(), item.title(), item.description(),
+          item.position() == null ? 0 : item.position(), item.rankKey(), item.color(), item.skillId(),
+          item.conceptId(), item.taskStage() == null ? null : item.taskStage().name(),
+          timestamp(item.dueDate(), null), timestamp(item.completedAt(), null), item.estimatedHours(),
+          item.actualHours(), item.assigneeId(), item.important(),
+          item.studyStage() == null ? null : item.studyStage().name(), item.resources(), item.mentorId()
+      });
+    }
+    jdbcTemplate.batchUpdate(INSERT_ITEM, batchArgs);
+  }
+
+  public void insertComments(List<CommentLine> comments) {
+    if (comments.isEmpty()) return;
+
+    Instant now = Instant.now();
+    List<Object[]> commentArgs = new ArrayList<>(comments.size());
+    List<Object[]> tagArgs = new ArrayList<>();
+    for (CommentLine comment : comments) {
+      commentArgs.add(new Object[]{
+          comment.id(), version(comment.version()), timestamp(comment.createdAt(), now),
+          timestamp(comment.updatedAt(), now), comment.boardItemId(), comment.authorId(), comment.description()
+      });
+      if (comment.tags() != null) {
+        comment.tags().forEach(tag -> tagArgs.add(new Object[]{comment.id(), tag}));
+      }
+    }
+    jdbcTemplate.batchUpdate(INSERT_COMMENT, commentArgs);
+    if (!tagArgs.isEmpty()) {
+      jdbcTemplate.batchUpdate(INSERT_COMMENT_TAG, tagArgs);
+    }
+  }
+
+  private static int version(Integer version) {
+    return version == null ? 0 : version;
+  }
+
+  private static Timestamp timestamp(Instant instant, Instant fallback) {
+    Instant value = instant != null ? instant : fallback;
+    return value == null ? null : Timestamp.from(value);
+  }
+}
@@ -0,0 +1,84 @@
+package com.saunderscox.taskolotl.repository;
+
+import com.saunderscox.taskolotl.entity.BoardItem;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Writes board item ordering columns as a single JDBC batch, bypassing the persistence context so
+ * reordering many items does not load them.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardItemOrderRepository {
+
+  private static final String UPDATE_POSITION = """
+      UPDATE board_items SET position = ?, version = version + 1, updated_at = ?
+      WHERE id = ? AND board_id = ?
+      """;
+
+  private static final String UPDATE_RANK_KEY = """
+      UPDATE board_items SET rank_key = ?, version = version + 1, updated_at = ?
+      WHERE id = ? AND board_id = ?
+      """;
+
+  private static final String UPDATE_RANK_KEY_IF_UNCHANGED = """
+      UPDATE board_items SET rank_key = ?, version = version + 1, updated_at = ?
+      WHERE id = ? AND board_id = ? AND version = ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void updatePositions(UUID boardId, Map<UUID, Integer> positions) {
+    batchUpdate(UPDATE_POSITION, boardId, positions);
+  }
+
+  public void updateRankKeys(UUID boardId, Map<UUID, String> rankKeys) {
+    batchUpdate(UPDATE_RANK_KEY, boardId, rankKeys);
+  }
+
+  /**
+   * Writes new rank keys of items read as {@code slots}, as long as none of them changed since.
+   *
+   * @param slots    the items as read, with their versions
+   * @param rankKeys new rank keys by item ID; slots without one are left alone
+   * @throws ObjectOptimisticLockingFailureException if an item was changed or removed in between
+   */
+  public void updateRankKeysIfUnchanged(UUID boardId, List<BoardItemSlot> slots, Map<UUID, String> rankKeys) {
+    Timestamp now = Timestamp.from(Instant.now());
+    List<UUID> itemIds = new ArrayList<>(rankKeys.size());
+    List<Object[]> batchArgs = new ArrayList<>(rankKeys.size());
+    for (BoardItemSlot slot : slots) {
+      String rankKey = rankKeys.get(slot.getId());
+      if (rankKey != null) {
+        itemIds.add(slot.getId());
+        batchArgs.add(new Object[]{rankKey, now, slot.getId(), boardId, slot.getVersion()});
+      }
+    }
+    if (batchArgs.isEmpty()) return;
+
+    int[] counts = jdbcTemplate.batchUpdate(UPDATE_RANK_KEY_IF_UNCHANGED, batchArgs);
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] == 0) {
+        throw new ObjectOptimisticLockingFailureException(BoardItem.class, itemIds.get(i));
+      }
+    }
+  }
+
+  private void batchUpdate(String sql, UUID boardId, Map<UUID, ?> values) {
+    if (values.isEmpty()) return;
+
+    Timestamp now = Timestamp.from(Instant.now());
+    List<Object[]> batchArgs = new ArrayList<>(values.size());
+    values.forEach((itemId, value) -> batchArgs.add(new Object[]{value, now, itemId, boardId}));
+    jdbcTemplate.batchUpdate(sql, batchArgs);
+  }
+}
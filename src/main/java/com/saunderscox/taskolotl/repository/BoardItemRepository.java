@@ -5,6 +5,7 @@ import com.saunderscox.taskolotl.entity.BoardItem;
 import com.saunderscox.taskolotl.entity.Concept;
 import com.saunderscox.taskolotl.entity.Skill;
 import com.saunderscox.taskolotl.entity.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -63,4 +64,8 @@ public interface BoardItemRepository<T extends BoardItem> extends JpaRepository<
   // Find max position in a board
   @Query("SELECT MAX(bi.position) FROM #{#entityName} bi WHERE bi.board = :board")
   Integer findMaxPositionInBoard(@Param("board") Board board);
+
+  // Find items with their boards, e.g. to build search documents
+  @Query("SELECT bi FROM #{#entityName} bi JOIN FETCH bi.board WHERE bi.id IN :ids")
+  List<T> findWithBoardByIdIn(@Param("ids") Collection<UUID> ids);
 }
\ No newline at end of file
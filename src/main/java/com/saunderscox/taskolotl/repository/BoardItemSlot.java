@@ -0,0 +1,17 @@
+package com.saunderscox.taskolotl.repository;
+
+import java.util.UUID;
+
+/**
+ * Ordering columns of a board item, read without loading the entity.
+ */
+public interface BoardItemSlot {
+
+  UUID getId();
+
+  Integer getVersion();
+
+  Integer getPosition();
+
+  String getRankKey();
+}
@@ -0,0 +1,13 @@
+package com.saunderscox.taskolotl.repository;
+
+import java.util.UUID;
+
+/**
+ * A (board, related entity) ID pair read from one of the board's relationships.
+ */
+public interface BoardRelationId {
+
+  UUID getBoardId();
+
+  UUID getRelatedId();
+}
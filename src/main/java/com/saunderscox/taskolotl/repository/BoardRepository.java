@@ -1,13 +1,30 @@
 package com.saunderscox.taskolotl.repository;
 
+import com.saunderscox.taskolotl.dto.BoardItemLine;
+import com.saunderscox.taskolotl.dto.BoardItemSnapshot;
 import com.saunderscox.taskolotl.entity.Board;
 import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.ItemOrdering;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, UUID> {
@@ -20,7 +37,11 @@ public interface BoardRepository extends JpaRepository<Board, UUID> {
 
   Page<Board> findByMembersId(UUID memberId, Pageable pageable);
 
-  Page<Board> findByOwnersIdOrMembersId(UUID ownerId, UUID memberId, Pageable pageable);
+  /**
+   * Finds boards a user owns or is a member of through {@code board_access}, which has one row per
+   * (user, board), so no board is returned twice.
+   */
+  Page<Board> findByAccessUserId(UUID userId, Pageable pageable);
 
   Page<Board> findByRolesId(UUID roleId, Pageable pageable);
 
@@ -30,5 +51,206 @@ public interface BoardRepository extends JpaRepository<Board, UUID> {
 
   long countByOwnersId(UUID ownerId);
 
+  // Keyset pagination over (createdAt, id); no count query is issued
+
+  Window<Board> findAllByOrderByCreatedAtAscIdAsc(ScrollPosition position, Limit limit);
+
+  Window<Board> findByTitleContainingIgnoreCaseOrderByCreatedAtAscIdAsc(
+      String title, ScrollPosition position, Limit limit);
+
+  Window<Board> findByAccessUserIdOrderByCreatedAtAscIdAsc(UUID userId, ScrollPosition position, Limit limit);
+
   boolean existsByTitleIgnoreCase(String title);
+
+  @Query("SELECT b.version FROM Board b WHERE b.id = :boardId")
+  Optional<Integer> findVersionById(@Param("boardId") UUID boardId);
+
+  @Query("SELECT b.itemOrdering FROM Board b WHERE b.id = :boardId")
+  Optional<ItemOrdering> findItemOrderingById(@Param("boardId") UUID boardId);
+
+  @Query("SELECT COUNT(i) FROM BoardItem i WHERE i.board.id = :boardId")
+  long countBoardItems(@Param("boardId") UUID boardId);
+
+  @Query("""
+      SELECT i.id AS id, i.version AS version, i.position AS position, i.rankKey AS rankKey FROM BoardItem i
+      WHERE i.board.id = :boardId AND i.id IN :itemIds
+      """)
+  List<BoardItemSlot> findItemSlots(@Param("boardId") UUID boardId, @Param("itemIds") Collection<UUID> itemIds);
+
+  /**
+   * Reads the ordering columns of every item of a board in display order, unranked items last.
+   */
+  @Query("""
+      SELECT i.id AS id, i.version AS version, i.position AS position, i.rankKey AS rankKey FROM BoardItem i
+      WHERE i.board.id = :boardId
+      ORDER BY i.rankKey ASC NULLS LAST, i.position ASC
+      """)
+  List<BoardItemSlot> findItemSlotsInRankOrder(@Param("boardId") UUID boardId);
+
+  /**
+   * Select and joins shared by item snapshot queries, which add their own conditions on {@code i}.
+   * Subtype columns come from entity joins on the same row; nullable associations are left-joined so
+   * items without them are kept.
+   */
+  String ITEM_SNAPSHOT_SELECT = """
+      SELECT new com.saunderscox.taskolotl.dto.BoardItemSnapshot(
+        CASE WHEN t.taskStage IS NOT NULL THEN 'TASK' ELSE 'STUDY' END,
+        i.id, i.version, i.createdAt, i.updatedAt, i.title, i.description, i.position, i.rankKey, i.color,
+        i.owner.id, sk.id, co.id,
+        (SELECT COUNT(c) FROM Comment c WHERE c.boardItem.id = i.id),
+        t.taskStage, t.dueDate, t.completedAt, t.estimatedHours, t.actualHours, a.id, t.important,
+        s.studyStage, s.resources, m.id)
+      FROM BoardItem i
+      LEFT JOIN i.skill sk
+      LEFT JOIN i.concept co
+      LEFT JOIN Task t ON t.id = i.id
+      LEFT JOIN t.assignee a
+      LEFT JOIN Study s ON s.id = i.id
+      LEFT JOIN s.mentor m
+      """;
+
+  /**
+   * Streams every item of a board in display order, with its comment count, as flat projections.
+   */
+  @Query(ITEM_SNAPSHOT_SELECT + """
+      WHERE i.board.id = :boardId
+      ORDER BY i.rankKey ASC NULLS LAST, i.position ASC
+      """)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+  Stream<BoardItemSnapshot> streamItemSnapshots(@Param("boardId") UUID boardId);
+
+  /**
+   * Items of a board updated after a point in time, as snapshots, oldest change first.
+   */
+  @Query(ITEM_SNAPSHOT_SELECT + """
+      WHERE i.board.id = :boardId AND i.updatedAt > :since
+      ORDER BY i.updatedAt ASC, i.id ASC
+      """)
+  List<BoardItemSnapshot> findItemSnapshotsUpdatedAfter(@Param("boardId") UUID boardId,
+      @Param("since") Instant since);
+
+  /**
+   * Select and joins shared by item export line queries, which add their own conditions on {@code i}.
+   */
+  String ITEM_LINE_SELECT = """
+      SELECT new com.saunderscox.taskolotl.dto.BoardItemLine(
+        CASE WHEN t.taskStage IS NOT NULL THEN 'TASK' ELSE 'STUDY' END,
+        i.id, i.version, i.createdAt, i.updatedAt, i.title, i.description, i.position, i.rankKey, i.color,
+        i.owner.id, sk.id, co.id,
+        t.taskStage, t.dueDate, t.completedAt, t.estimatedHours, t.actualHours, a.id, t.important,
+        s.studyStage, s.resources, m.id)
+      FROM BoardItem i
+      LEFT JOIN i.skill sk
+      LEFT JOIN i.concept co
+      LEFT JOIN Task t ON t.id = i.id
+      LEFT JOIN t.assignee a
+      LEFT JOIN Study s ON s.id = i.id
+      LEFT JOIN s.mentor m
+      """;
+
+  /**
+   * Streams every item of a board as export lines, in display order.
+   */
+  @Query(ITEM_LINE_SELECT + """
+      WHERE i.board.id = :boardId
+      ORDER BY i.rankKey ASC NULLS LAST, i.position ASC
+      """)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  Stream<BoardItemLine> streamExportLines(@Param("boardId") UUID boardId);
+
+  @Query(ITEM_LINE_SELECT + "WHERE i.id IN :itemIds")
+  List<BoardItemLine> findExportLinesByIds(@Param("itemIds") Collection<UUID> itemIds);
+
+  @Query(value = "SELECT COUNT(*) FROM board_items WHERE board_id = :boardId AND id IN (:itemIds)", nativeQuery = true)
+  long countItemsOnBoard(@Param("boardId") UUID boardId, @Param("itemIds") Collection<UUID> itemIds);
+
+  /**
+   * Reads a window of rank keys of a board in display order, leaving out one item. Used to find the
+   * neighbours of the slot an item is moved into without loading the board's items. Unranked items
+   * come last by position, as on screen, so a null key in the window means the slot needs a rebalance.
+   *
+   * @param boardId       the board ID
+   * @param excludeItemId the item being moved
+   * @param offset        index of the first key to read
+   * @param limit         number of keys to read
+   * @return rank keys in ascending order
+   */
+  @Query(value = """
+      SELECT rank_key FROM board_items
+      WHERE board_id = :boardId AND id <> :excludeItemId
+      ORDER BY rank_key NULLS LAST, position
+      LIMIT :limit OFFSET :offset
+      """, nativeQuery = true)
+  List<String> findRankKeyWindow(
+      @Param("boardId") UUID boardId,
+      @Param("excludeItemId") UUID excludeItemId,
+      @Param("offset") int offset,
+      @Param("limit") int limit);
+
+  /**
+   * Rewrites the rank key of a single board item.
+   *
+   * @return number of updated rows; 0 if the item is not on the board
+   */
+  @Modifying
+  @Query("""
+      UPDATE BoardItem i SET i.rankKey = :rankKey, i.version = i.version + 1, i.updatedAt = :now
+      WHERE i.id = :itemId AND i.board.id = :boardId
+      """)
+  int updateRankKey(
+      @Param("boardId") UUID boardId,
+      @Param("itemId") UUID itemId,
+      @Param("rankKey") String rankKey,
+      @Param("now") Instant now);
+
+  /**
+   * Deletes the comment tags, comments and items of a board without loading them, so entity
+   * listeners do not run for them. Call in this order, before the board itself is removed.
+   */
+  @Modifying
+  @Query(value = """
+      DELETE FROM comment_tags WHERE comment_id IN (
+        SELECT c.id FROM comments c JOIN board_items i ON i.id = c.board_item_id WHERE i.board_id = :boardId)
+      """, nativeQuery = true)
+  int deleteCommentTagsByBoardId(@Param("boardId") UUID boardId);
+
+  @Modifying
+  @Query(value = """
+      DELETE FROM comments WHERE board_item_id IN (SELECT id FROM board_items WHERE board_id = :boardId)
+      """, nativeQuery = true)
+  int deleteCommentsByBoardId(@Param("boardId") UUID boardId);
+
+  @Modifying
+  @Query(value = "DELETE FROM board_items WHERE board_id = :boardId", nativeQuery = true)
+  int deleteItemsByBoardId(@Param("boardId") UUID boardId);
+
+  /**
+   * Finds rank-ordered boards with items that are unranked or whose keys have grown past a length.
+   *
+   * @param ordering  {@link ItemOrdering#RANK}
+   * @param maxLength longest acceptable key
+   * @return IDs of boards to rebalance
+   */
+  @Query("""
+      SELECT DISTINCT i.board.id FROM BoardItem i
+      WHERE i.board.itemOrdering = :ordering AND (i.rankKey IS NULL OR LENGTH(i.rankKey) > :maxLength)
+      """)
+  List<UUID> findBoardIdsToRebalance(@Param("ordering") ItemOrdering ordering, @Param("maxLength") int maxLength);
+
+  // Relationship IDs for a page of boards, one query per relationship
+
+  @Query("SELECT b.id AS boardId, o.id AS relatedId FROM Board b JOIN b.owners o WHERE b.id IN :boardIds")
+  List<BoardRelationId> findOwnerIdsByBoardIds(@Param("boardIds") Collection<UUID> boardIds);
+
+  @Query("SELECT b.id AS boardId, m.id AS relatedId FROM Board b JOIN b.members m WHERE b.id IN :boardIds")
+  List<BoardRelationId> findMemberIdsByBoardIds(@Param("boardIds") Collection<UUID> boardIds);
+
+  @Query("SELECT i.board.id AS boardId, i.id AS relatedId FROM BoardItem i WHERE i.board.id IN :boardIds")
+  List<BoardRelationId> findBoardItemIdsByBoardIds(@Param("boardIds") Collection<UUID> boardIds);
+
+  @Query("SELECT b.id AS boardId, r.id AS relatedId FROM Role r JOIN r.boards b WHERE b.id IN :boardIds")
+  List<BoardRelationId> findRoleIdsByBoardIds(@Param("boardIds") Collection<UUID> boardIds);
+
+  @Query("SELECT b.id AS boardId, s.id AS relatedId FROM Skill s JOIN s.boards b WHERE b.id IN :boardIds")
+  List<BoardRelationId> findSkillIdsByBoardIds(@Param("boardIds") Collection<UUID> boardIds);
 }
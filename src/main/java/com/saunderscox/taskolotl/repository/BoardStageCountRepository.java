@@ -0,0 +1,27 @@
+package com.saunderscox.taskolotl.repository;
+
+import com.saunderscox.taskolotl.entity.BoardStageCount;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads {@link BoardStageCount} rows. They are written by {@link BoardStatsRepository}.
+ */
+@Repository
+public interface BoardStageCountRepository extends JpaRepository<BoardStageCount, BoardStageCount.Key> {
+
+  List<BoardStageCount> findByBoardId(UUID boardId);
+
+  /**
+   * Drops a board's counts. Flushes first, so the removal of the board's items, which decrements
+   * these rows, cannot run after it.
+   */
+  @Modifying(flushAutomatically = true)
+  @Query("DELETE FROM BoardStageCount c WHERE c.boardId = :boardId")
+  int deleteByBoardId(@Param("boardId") UUID boardId);
+}
@@ -0,0 +1,106 @@
+package com.saunderscox.taskolotl.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Maintains {@code board_stage_counts} with JDBC: increments applied as items are flushed, and
+ * recomputation from {@code board_items} for rows written in bulk and for repair.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardStatsRepository {
+
+  private static final String ADD = """
+      UPDATE board_stage_counts
+      SET item_count = item_count + :count, estimated_hours = estimated_hours + :estimatedHours,
+        actual_hours = actual_hours + :actualHours
+      WHERE board_id = :boardId AND item_type = :itemType AND stage = :stage
+      """;
+
+  private static final String INSERT = """
+      INSERT INTO board_stage_counts (board_id, item_type, stage, item_count, estimated_hours, actual_hours)
+      VALUES (:boardId, :itemType, :stage, :count, :estimatedHours, :actualHours)
+      """;
+
+  private static final String LOCK_BOARD = "SELECT id FROM boards WHERE id = :boardId FOR UPDATE";
+
+  private static final String DELETE_BOARDS = "DELETE FROM board_stage_counts WHERE board_id IN (:ids)";
+
+  // Stages are cast to text, as the two stage columns may be distinct enum types that COALESCE cannot mix
+  private static final String RECOMPUTE_BOARDS = """
+      INSERT INTO board_stage_counts (board_id, item_type, stage, item_count, estimated_hours, actual_hours)
+      SELECT board_id, item_type,
+        COALESCE(CAST(task_stage AS VARCHAR(32)), CAST(study_stage AS VARCHAR(32))), COUNT(*),
+        COALESCE(SUM(estimated_hours), 0), COALESCE(SUM(actual_hours), 0)
+      FROM board_items
+      WHERE board_id IN (:ids)
+      GROUP BY board_id, item_type, COALESCE(CAST(task_stage AS VARCHAR(32)), CAST(study_stage AS VARCHAR(32)))
+      """;
+
+  private static final String SELECT_BOARD_IDS_AFTER =
+      "SELECT id FROM boards WHERE id > :after ORDER BY id LIMIT :limit";
+
+  private static final String SELECT_FIRST_BOARD_IDS = "SELECT id FROM boards ORDER BY id LIMIT :limit";
+
+  private static final String DELETE_ORPHANED =
+      "DELETE FROM board_stage_counts WHERE NOT EXISTS (SELECT 1 FROM boards b WHERE b.id = board_id)";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  /**
+   * Adds to a stage's count and hours, creating its row if needed. The first row of a stage is
+   * created under a lock on the board row, so concurrent writers cannot both insert it.
+   */
+  public void add(UUID boardId, String itemType, String stage, long count, double estimatedHours,
+      double actualHours) {
+    Map<String, Object> params = Map.of("boardId", boardId, "itemType", itemType, "stage", stage,
+        "count", count, "estimatedHours", estimatedHours, "actualHours", actualHours);
+    if (jdbcTemplate.update(ADD, params) > 0) return;
+
+    jdbcTemplate.queryForList(LOCK_BOARD, params, UUID.class);
+    if (jdbcTemplate.update(ADD, params) == 0) {
+      jdbcTemplate.update(INSERT, params);
+    }
+  }
+
+  /**
+   * Subtracts from a stage's count and hours. A missing row is left for the repair job to rebuild.
+   */
+  public void subtract(UUID boardId, String itemType, String stage, long count, double estimatedHours,
+      double actualHours) {
+    jdbcTemplate.update(ADD, Map.of("boardId", boardId, "itemType", itemType, "stage", stage,
+        "count", -count, "estimatedHours", -estimatedHours, "actualHours", -actualHours));
+  }
+
+  /**
+   * Rebuilds the counts of the given boards from their items.
+   */
+  public void recompute(Collection<UUID> boardIds) {
+    if (boardIds.isEmpty()) return;
+
+    Map<String, Object> params = Map.of("ids", boardIds);
+    jdbcTemplate.update(DELETE_BOARDS, params);
+    jdbcTemplate.update(RECOMPUTE_BOARDS, params);
+  }
+
+  /**
+   * Lists board IDs in ID order, for walking every board in batches.
+   *
+   * @param after the last ID of the previous batch, or null for the first
+   */
+  public List<UUID> findBoardIds(UUID after, int limit) {
+    return after == null
+        ? jdbcTemplate.queryForList(SELECT_FIRST_BOARD_IDS, Map.of("limit", limit), UUID.class)
+        : jdbcTemplate.queryForList(SELECT_BOARD_IDS_AFTER, Map.of("after", after, "limit", limit), UUID.class);
+  }
+
+  public int deleteOrphaned() {
+    return jdbcTemplate.update(DELETE_ORPHANED, Map.of());
+  }
+}
@@ -1,11 +1,22 @@
 package com.saunderscox.taskolotl.repository;
 
+import com.saunderscox.taskolotl.dto.CommentLine;
 import com.saunderscox.taskolotl.entity.BoardItem;
 import com.saunderscox.taskolotl.entity.Comment;
 import com.saunderscox.taskolotl.entity.User;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -53,4 +64,117 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
    * @return list of comments with the tag
    */
   List<Comment> findByTagsContaining(String tag);
-}
\ No newline at end of file
+
+  /**
+   * Finds the comments on a board's items, one page at a time.
+   *
+   * @param boardId  the board ID
+   * @param pageable the page to return
+   * @return a page of comments
+   */
+  Page<Comment> findByBoardItemBoardId(UUID boardId, Pageable pageable);
+
+  /**
+   * Streams every comment on a board as export lines, ordered by comment ID to line up with
+   * {@link #streamTagsByBoardId}. Tags are not included.
+   *
+   * @param boardId the board ID
+   * @return comment lines; must be closed
+   */
+  @Query("""
+      SELECT new com.saunderscox.taskolotl.dto.CommentLine(
+        c.id, c.version, c.createdAt, c.updatedAt, c.boardItem.id, c.author.id, c.description)
+      FROM Comment c
+      WHERE c.boardItem.board.id = :boardId
+      ORDER BY c.id
+      """)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  Stream<CommentLine> streamExportLinesByBoardId(@Param("boardId") UUID boardId);
+
+  /**
+   * Streams the tags of every comment on a board, ordered by comment ID.
+   *
+   * @param boardId the board ID
+   * @return tag rows; must be closed
+   */
+  @Query("""
+      SELECT new com.saunderscox.taskolotl.repository.CommentTagRow(c.id, t)
+      FROM Comment c JOIN c.tags t
+      WHERE c.boardItem.board.id = :boardId
+      ORDER BY c.id
+      """)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  Stream<CommentTagRow> streamTagsByBoardId(@Param("boardId") UUID boardId);
+
+  /**
+   * Finds comments on a board's items updated after a point in time, oldest change first. Tags are
+   * not included.
+   *
+   * @param boardId the board ID
+   * @param since   exclusive lower bound on {@code updatedAt}
+   * @return comment lines
+   */
+  @Query("""
+      SELECT new com.saunderscox.taskolotl.dto.CommentLine(
+        c.id, c.version, c.createdAt, c.updatedAt, c.boardItem.id, c.author.id, c.description)
+      FROM Comment c
+      WHERE c.boardItem.board.id = :boardId AND c.updatedAt > :since
+      ORDER BY c.updatedAt ASC, c.id ASC
+      """)
+  List<CommentLine> findLinesUpdatedAfter(@Param("boardId") UUID boardId, @Param("since") Instant since);
+
+  /**
+   * Finds the tags of the given comments.
+   *
+   * @param commentIds the comment IDs
+   * @return tag rows
+   */
+  @Query("SELECT new com.saunderscox.taskolotl.repository.CommentTagRow(c.id, t) FROM Comment c JOIN c.tags t "
+      + "WHERE c.id IN :commentIds")
+  List<CommentTagRow> findTagsByCommentIds(@Param("commentIds") Collection<UUID> commentIds);
+
+  /**
+   * Finds comments with their tags and items, e.g. to build search documents.
+   */
+  @Query("""
+      SELECT DISTINCT c FROM Comment c
+      JOIN FETCH c.boardItem i
+      JOIN FETCH i.board
+      LEFT JOIN FETCH c.tags
+      WHERE c.id IN :commentIds
+      """)
+  List<Comment> findWithTagsByIds(@Param("commentIds") Collection<UUID> commentIds);
+
+  /**
+   * Finds comments not updated since a cutoff, oldest first, for archiving.
+   *
+   * @param cutoff   exclusive upper bound on {@code updatedAt}
+   * @param pageable how many to return
+   * @return (board, comment) ID pairs
+   */
+  @Query("SELECT c.boardItem.board.id AS boardId, c.id AS relatedId FROM Comment c WHERE c.updatedAt < :cutoff "
+      + "ORDER BY c.updatedAt ASC")
+  List<BoardRelationId> findArchivable(@Param("cutoff") Instant cutoff, Pageable pageable);
+
+  /**
+   * Finds the given comments as lines, without tags.
+   */
+  @Query("""
+      SELECT new com.saunderscox.taskolotl.dto.CommentLine(
+        c.id, c.version, c.createdAt, c.updatedAt, c.boardItem.id, c.author.id, c.description)
+      FROM Comment c
+      WHERE c.id IN :commentIds
+      """)
+  List<CommentLine> findLinesByIds(@Param("commentIds") Collection<UUID> commentIds);
+
+  /**
+   * Finds the comments on the given items as lines, without tags.
+   */
+  @Query("""
+      SELECT new com.saunderscox.taskolotl.dto.CommentLine(
+        c.id, c.version, c.createdAt, c.updatedAt, c.boardItem.id, c.author.id, c.description)
+      FROM Comment c
+      WHERE c.boardItem.id IN :boardItemIds
+      """)
+  List<CommentLine> findLinesByBoardItemIds(@Param("boardItemIds") Collection<UUID> boardItemIds);
+}
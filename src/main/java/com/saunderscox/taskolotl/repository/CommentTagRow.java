@@ -0,0 +1,9 @@
+package com.saunderscox.taskolotl.repository;
+
+import java.util.UUID;
+
+/**
+ * A single comment tag, read without loading the comment.
+ */
+public record CommentTagRow(UUID commentId, String tag) {
+}
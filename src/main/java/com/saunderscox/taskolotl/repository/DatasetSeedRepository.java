@@ -0,0 +1,149 @@
+package com.saunderscox.taskolotl.repository;
+
+import com.saunderscox.taskolotl.dto.BoardLine;
+import com.saunderscox.taskolotl.entity.FriendshipStatus;
+import com.saunderscox.taskolotl.entity.Permission;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Inserts the synthetic users, skills, friendships and boards of a seeded dataset as JDBC batches.
+ * Items and comments go through {@link BoardImportRepository}. Rows carry their own IDs and
+ * timestamps, and entity listeners do not run.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DatasetSeedRepository {
+
+  private static final String COUNT_USERS_BY_EMAIL = "SELECT COUNT(*) FROM users WHERE email = ?";
+
+  private static final String INSERT_USER = """
+      INSERT INTO users (id, version, created_at, updated_at, username, email, permission, profile_description)
+      VALUES (?, 0, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private static final String INSERT_SKILL = """
+      INSERT INTO skills (id, version, created_at, updated_at, name, description)
+      VALUES (?, 0, ?, ?, ?, ?)
+      """;
+
+  private static final String INSERT_CONCEPT = """
+      INSERT INTO concepts (id, version, created_at, updated_at, name, description, skill_id)
+      VALUES (?, 0, ?, ?, ?, ?, ?)
+      """;
+
+  private static final String INSERT_USER_SKILL = "INSERT INTO user_skills (skill_id, user_id) VALUES (?, ?)";
+
+  private static final String INSERT_FRIENDSHIP = """
+      INSERT INTO friendships (id, version, created_at, updated_at, self_id, target_id, friendship_status, blocked)
+      VALUES (?, 0, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private static final String INSERT_BOARD = """
+      INSERT INTO boards (id, version, created_at, updated_at, title, board_type, description, visible,
+        item_ordering)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private static final String INSERT_BOARD_OWNER = "INSERT INTO board_owners (board_id, user_id) VALUES (?, ?)";
+  private static final String INSERT_BOARD_MEMBER = "INSERT INTO board_members (board_id, user_id) VALUES (?, ?)";
+  private static final String INSERT_BOARD_SKILL = "INSERT INTO skill_boards (skill_id, board_id) VALUES (?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public record UserRow(UUID id, Instant createdAt, String username, String email, String profileDescription) {
+  }
+
+  public record SkillRow(UUID id, Instant createdAt, String name, String description) {
+  }
+
+  public record ConceptRow(UUID id, Instant createdAt, UUID skillId, String name, String description) {
+  }
+
+  public record UserSkillRow(UUID skillId, UUID userId) {
+  }
+
+  public record FriendshipRow(UUID id, Instant createdAt, UUID selfId, UUID targetId, FriendshipStatus status) {
+  }
+
+  public boolean existsUserWithEmail(String email) {
+    Integer count = jdbcTemplate.queryForObject(COUNT_USERS_BY_EMAIL, Integer.class, email);
+    return count != null && count > 0;
+  }
+
+  public void insertUsers(List<UserRow> users) {
+    batchUpdate(INSERT_USER, users.stream()
+        .map(user -> new Object[]{
+            user.id(), timestamp(user.createdAt()), timestamp(user.createdAt()), user.username(), user.email(),
+            Permission.USER.name(), user.profileDescription()})
+        .toList());
+  }
+
+  public void insertSkills(List<SkillRow> skills) {
+    batchUpdate(INSERT_SKILL, skills.stream()
+        .map(skill -> new Object[]{
+            skill.id(), timestamp(skill.createdAt()), timestamp(skill.createdAt()), skill.name(), skill.description()})
+        .toList());
+  }
+
+  public void insertConcepts(List<ConceptRow> concepts) {
+    batchUpdate(INSERT_CONCEPT, concepts.stream()
+        .map(concept -> new Object[]{
+            concept.id(), timestamp(concept.createdAt()), timestamp(concept.createdAt()), concept.name(),
+            concept.description(), concept.skillId()})
+        .toList());
+  }
+
+  public void insertUserSkills(List<UserSkillRow> userSkills) {
+    batchUpdate(INSERT_USER_SKILL, userSkills.stream()
+        .map(userSkill -> new Object[]{userSkill.skillId(), userSkill.userId()})
+        .toList());
+  }
+
+  public void insertFriendships(List<FriendshipRow> friendships) {
+    batchUpdate(INSERT_FRIENDSHIP, friendships.stream()
+        .map(friendship -> new Object[]{
+            friendship.id(), timestamp(friendship.createdAt()), timestamp(friendship.createdAt()),
+            friendship.selfId(), friendship.targetId(), friendship.status().name(),
+            friendship.status() == FriendshipStatus.BLOCKED})
+        .toList());
+  }
+
+  /**
+   * Inserts boards with their owners, members and skills. Roles are not seeded.
+   */
+  public void insertBoards(List<BoardLine> boards) {
+    List<Object[]> boardArgs = new ArrayList<>(boards.size());
+    List<Object[]> ownerArgs = new ArrayList<>();
+    List<Object[]> memberArgs = new ArrayList<>();
+    List<Object[]> skillArgs = new ArrayList<>();
+    for (BoardLine board : boards) {
+      boardArgs.add(new Object[]{
+          board.id(), board.version(), timestamp(board.createdAt()), timestamp(board.updatedAt()), board.title(),
+          board.boardType().name(), board.description(), board.visible(), board.itemOrdering().name()});
+      board.ownerIds().forEach(userId -> ownerArgs.add(new Object[]{board.id(), userId}));
+      board.memberIds().forEach(userId -> memberArgs.add(new Object[]{board.id(), userId}));
+      board.skillIds().forEach(skillId -> skillArgs.add(new Object[]{skillId, board.id()}));
+    }
+    batchUpdate(INSERT_BOARD, boardArgs);
+    batchUpdate(INSERT_BOARD_OWNER, ownerArgs);
+    batchUpdate(INSERT_BOARD_MEMBER, memberArgs);
+    batchUpdate(INSERT_BOARD_SKILL, skillArgs);
+  }
+
+  private void batchUpdate(String sql, List<Object[]> batchArgs) {
+    if (!batchArgs.isEmpty()) {
+      jdbcTemplate.batchUpdate(sql, batchArgs);
+    }
+  }
+
+  private static Timestamp timestamp(Instant instant) {
+    return Timestamp.from(instant);
+  }
+}
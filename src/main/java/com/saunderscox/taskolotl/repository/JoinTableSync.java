@@ -0,0 +1,147 @@
+package com.saunderscox.taskolotl.repository;
+
+import com.saunderscox.taskolotl.exception.ResourceNotFoundException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Keeps many-to-many join tables in step with a requested set of IDs by writing only the rows that
+ * differ, as batched JDBC statements. Neither side of the association is loaded, so callers must not
+ * rely on the entities' in-memory collections for the rest of the transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class JoinTableSync {
+
+  /**
+   * Join tables that can be synchronised, seen from the side whose links are being set.
+   */
+  public enum Association {
+    BOARD_OWNERS("board_owners", "board_id", "user_id", "users", "Users"),
+    BOARD_MEMBERS("board_members", "board_id", "user_id", "users", "Users"),
+    BOARD_ROLES("roles_boards", "boards_id", "roles_id", "roles", "Roles"),
+    BOARD_SKILLS("skill_boards", "board_id", "skill_id", "skills", "Skills"),
+    USER_ROLES("roles_users", "users_id", "roles_id", "roles", "Roles"),
+    USER_SKILLS("user_skills", "user_id", "skill_id", "skills", "Skills");
+
+    private final String selectTargets;
+    private final String selectExistingTargets;
+    private final String insert;
+    private final String delete;
+    private final String copy;
+    private final String targetLabel;
+
+    Association(String table, String ownerColumn, String targetColumn, String targetTable, String targetLabel) {
+      this.selectTargets = "SELECT " + targetColumn + " FROM " + table + " WHERE " + ownerColumn + " = :ownerId";
+      this.selectExistingTargets = "SELECT id FROM " + targetTable + " WHERE id IN (:targetIds)";
+      this.insert = "INSERT INTO " + table + " (" + ownerColumn + ", " + targetColumn + ") VALUES (:ownerId, :targetId)";
+      this.delete = "DELETE FROM " + table + " WHERE " + ownerColumn + " = :ownerId AND " + targetColumn
+          + " IN (:targetIds)";
+      this.copy = "INSERT INTO " + table + " (" + ownerColumn + ", " + targetColumn + ") SELECT :ownerId, "
+          + targetColumn + " FROM " + table + " WHERE " + ownerColumn + " = :sourceOwnerId";
+      this.targetLabel = targetLabel;
+    }
+  }
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  /**
+   * Links the owner to exactly the given targets, inserting and deleting only the difference.
+   *
+   * @param association the join table
+   * @param ownerId     the owning row, e.g. the board
+   * @param targetIds   every target the owner should be linked to afterwards
+   * @return true if any row was written
+   * @throws ResourceNotFoundException if a target that would be linked does not exist
+   */
+  public boolean sync(Association association, UUID ownerId, Collection<UUID> targetIds) {
+    Set<UUID> current = findTargetIds(association, ownerId);
+    Set<UUID> toAdd = new HashSet<>(targetIds);
+    toAdd.removeAll(current);
+    Set<UUID> toRemove = new HashSet<>(current);
+    toRemove.removeAll(new HashSet<>(targetIds));
+    if (toAdd.isEmpty() && toRemove.isEmpty()) return false;
+
+    requireTargets(association, toAdd);
+    delete(association, ownerId, toRemove);
+    insert(association, ownerId, toAdd);
+    log.debug("Synced {} of {}: {} added, {} removed", association, ownerId, toAdd.size(), toRemove.size());
+    return true;
+  }
+
+  /**
+   * Links one target to the owner. The target must exist.
+   *
+   * @return true if the link was added, false if it was already there
+   */
+  public boolean link(Association association, UUID ownerId, UUID targetId) {
+    if (findTargetIds(association, ownerId).contains(targetId)) return false;
+
+    insert(association, ownerId, Set.of(targetId));
+    return true;
+  }
+
+  /**
+   * Removes one link.
+   *
+   * @return true if the link existed
+   */
+  public boolean unlink(Association association, UUID ownerId, UUID targetId) {
+    return delete(association, ownerId, Set.of(targetId)) > 0;
+  }
+
+  /**
+   * Links the owner to every target of another owner in one statement, e.g. when cloning a board.
+   * The owner must not have links yet.
+   *
+   * @return the number of links added
+   */
+  public int copy(Association association, UUID sourceOwnerId, UUID ownerId) {
+    return jdbcTemplate.update(association.copy, Map.of("sourceOwnerId", sourceOwnerId, "ownerId", ownerId));
+  }
+
+  public Set<UUID> findTargetIds(Association association, UUID ownerId) {
+    return new HashSet<>(jdbcTemplate.queryForList(
+        association.selectTargets, Map.of("ownerId", ownerId), UUID.class));
+  }
+
+  private void requireTargets(Association association, Set<UUID> targetIds) {
+    if (targetIds.isEmpty()) return;
+
+    List<UUID> found = jdbcTemplate.queryForList(
+        association.selectExistingTargets, Map.of("targetIds", targetIds), UUID.class);
+    if (found.size() != targetIds.size()) {
+      Set<UUID> missingIds = new HashSet<>(targetIds);
+      found.forEach(missingIds::remove);
+      throw new ResourceNotFoundException(association.targetLabel + " not found with ids: " + missingIds);
+    }
+  }
+
+  private void insert(Association association, UUID ownerId, Set<UUID> targetIds) {
+    if (targetIds.isEmpty()) return;
+
+    SqlParameterSource[] batchArgs = targetIds.stream()
+        .map(targetId -> new MapSqlParameterSource()
+            .addValue("ownerId", ownerId)
+            .addValue("targetId", targetId))
+        .toArray(SqlParameterSource[]::new);
+    jdbcTemplate.batchUpdate(association.insert, batchArgs);
+  }
+
+  private int delete(Association association, UUID ownerId, Set<UUID> targetIds) {
+    if (targetIds.isEmpty()) return 0;
+
+    return jdbcTemplate.update(association.delete, Map.of("ownerId", ownerId, "targetIds", targetIds));
+  }
+}
@@ -0,0 +1,58 @@
+package com.saunderscox.taskolotl.repository;
+
+import com.saunderscox.taskolotl.entity.RevokedToken;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository for managing {@link RevokedToken} entities.
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, UUID> {
+
+  /**
+   * Finds all revocations for tokens that have not expired yet.
+   *
+   * @param now the current time
+   * @return list of live revocations
+   */
+  List<RevokedToken> findByExpiresAtAfter(Instant now);
+
+  /**
+   * Inserts a revocation unless the token ID has already been revoked, by this or another instance.
+   * Two transactions revoking the same ID at once still conflict on the unique key, and the later
+   * one fails.
+   *
+   * @param id        the row ID
+   * @param tokenId   the token {@code jti}
+   * @param expiresAt the token {@code exp}
+   * @param now       the current time, used for the audit timestamps
+   * @return 1 if the revocation was inserted, 0 if the token was already revoked
+   */
+  @Modifying
+  @Query(value = """
+      INSERT INTO revoked_tokens (id, version, created_at, updated_at, token_id, expires_at)
+      SELECT :id, 0, :now, :now, :tokenId, :expiresAt
+      WHERE NOT EXISTS (SELECT 1 FROM revoked_tokens WHERE token_id = :tokenId)
+      """, nativeQuery = true)
+  int insertIfAbsent(@Param("id") UUID id, @Param("tokenId") UUID tokenId,
+      @Param("expiresAt") Instant expiresAt, @Param("now") Instant now);
+
+  /**
+   * Deletes revocations for tokens that have expired.
+   *
+   * @param now the current time
+   * @return number of deleted rows
+   */
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+  int deleteExpired(@Param("now") Instant now);
+}
@@ -9,6 +9,8 @@ import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -98,6 +100,16 @@ public interface TaskRepository extends BoardItemRepository<Task> {
    */
   List<Task> findByBoardAndTaskStage(Board board, TaskStage taskStage);
 
+  /**
+   * Counts a board's tasks past their due date and not done, matching {@link Task#isOverdue()}.
+   *
+   * @param boardId   the board ID
+   * @param now       the current time
+   * @param taskStage the stage that is never overdue, {@link TaskStage#DONE}
+   * @return number of overdue tasks
+   */
+  long countByBoardIdAndDueDateBeforeAndTaskStageNot(UUID boardId, Instant now, TaskStage taskStage);
+
   /**
    * Finds all important tasks assigned to a user.
    *
@@ -114,4 +126,15 @@ public interface TaskRepository extends BoardItemRepository<Task> {
    * @return page of tasks with the specified stage
    */
   Page<Task> findByTaskStage(TaskStage taskStage, Pageable pageable);
-}
\ No newline at end of file
+
+  /**
+   * Finds tasks completed before a cutoff, oldest first, for archiving.
+   *
+   * @param cutoff   exclusive upper bound on {@code completedAt}
+   * @param pageable how many to return
+   * @return (board, task) ID pairs
+   */
+  @Query("SELECT t.board.id AS boardId, t.id AS relatedId FROM Task t WHERE t.completedAt < :cutoff "
+      + "ORDER BY t.completedAt ASC")
+  List<BoardRelationId> findArchivable(@Param("cutoff") Instant cutoff, Pageable pageable);
+}
@@ -0,0 +1,28 @@
+package com.saunderscox.taskolotl.repository;
+
+import com.saunderscox.taskolotl.entity.Tombstone;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TombstoneRepository extends JpaRepository<Tombstone, UUID> {
+
+  List<Tombstone> findByBoardIdAndDeletedAtAfterOrderByDeletedAtAsc(UUID boardId, Instant since);
+
+  @Modifying
+  @Query("DELETE FROM Tombstone t WHERE t.deletedAt < :cutoff")
+  int deleteOlderThan(@Param("cutoff") Instant cutoff);
+
+  /**
+   * Removes tombstones of deleted boards, whose items are recorded as they cascade.
+   */
+  @Modifying
+  @Query("DELETE FROM Tombstone t WHERE NOT EXISTS (SELECT 1 FROM Board b WHERE b.id = t.boardId)")
+  int deleteOrphaned();
+}
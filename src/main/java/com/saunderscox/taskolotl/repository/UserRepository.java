@@ -1,11 +1,17 @@
 package com.saunderscox.taskolotl.repository;
 
+import com.saunderscox.taskolotl.entity.Permission;
 import com.saunderscox.taskolotl.entity.User;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -35,6 +41,24 @@ public interface UserRepository extends JpaRepository<User, UUID> {
    */
   Optional<User> findByOauthId(String oauthId);
 
+  /**
+   * Find a user's version without loading the user
+   *
+   * @param id The user ID
+   * @return An Optional containing the version if the user exists
+   */
+  @Query("SELECT u.version FROM User u WHERE u.id = :id")
+  Optional<Integer> findVersionById(@Param("id") UUID id);
+
+  /**
+   * Find a user's permission without loading the user
+   *
+   * @param id The user ID
+   * @return An Optional containing the permission if the user exists
+   */
+  @Query("SELECT u.permission FROM User u WHERE u.id = :id")
+  Optional<Permission> findPermissionById(@Param("id") UUID id);
+
   /**
    * Check if a user exists with the given email
    *
@@ -63,4 +87,25 @@ public interface UserRepository extends JpaRepository<User, UUID> {
   Page<User> findByUsernameContainingIgnoreCaseOrEmailContainingIgnoreCase(String username,
       String email,
       Pageable pageable);
-}
\ No newline at end of file
+
+  /**
+   * Keyset pagination over all users ordered by creation time, without a count query.
+   *
+   * @param position where the previous slice ended
+   * @param limit    slice size
+   * @return the next window of users
+   */
+  Window<User> findAllByOrderByCreatedAtAscIdAsc(ScrollPosition position, Limit limit);
+
+  /**
+   * Keyset pagination over users whose username or email contains the query.
+   *
+   * @param username username fragment
+   * @param email    email fragment
+   * @param position where the previous slice ended
+   * @param limit    slice size
+   * @return the next window of matching users
+   */
+  Window<User> findByUsernameContainingIgnoreCaseOrEmailContainingIgnoreCaseOrderByCreatedAtAscIdAsc(
+      String username, String email, ScrollPosition position, Limit limit);
+}
@@ -1,13 +1,20 @@
 package com.saunderscox.taskolotl.service;
 
 import com.saunderscox.taskolotl.config.security.TokenProps;
+import com.saunderscox.taskolotl.config.security.TokenRevocationStore;
+import com.saunderscox.taskolotl.config.security.VerifiedToken;
+import com.saunderscox.taskolotl.config.security.VerifiedTokenCache;
 import com.saunderscox.taskolotl.dto.AuthResponse;
 import com.saunderscox.taskolotl.dto.UserResponse;
+import com.saunderscox.taskolotl.entity.Permission;
+import com.saunderscox.taskolotl.exception.ResourceNotFoundException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -33,12 +40,25 @@ public class AuthService {
 
   private final UserService userService;
   private final TokenProps tokenProps;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final TokenRevocationStore tokenRevocationStore;
 
   @Value("${spring.security.oauth2.client.registration.google.client-id}")
   private String googleClientId;
 
   private long refreshTokenExpiration;
 
+  // Decoding the secret and building the parser are done once instead of per request
+  private SecretKey signingKey;
+  private JwtParser jwtParser;
+
+  @PostConstruct
+  void initSigningKey() {
+    byte[] keyBytes = Decoders.BASE64.decode(tokenProps.getJwtSecret());
+    signingKey = Keys.hmacShaKeyFor(keyBytes);
+    jwtParser = Jwts.parser().verifyWith(signingKey).build();
+  }
+
   private JwtBuilder createBaseJwt(UUID userId, String tokenType) {
     Instant now = Instant.now();
     return Jwts.builder()
@@ -47,16 +67,12 @@ public class AuthService {
         .issuer("https://taskolotl.com")
         .claim("type", tokenType)
         .claim("jti", UUID.randomUUID().toString())
-        .signWith(getSigningKey());
+        .signWith(signingKey);
   }
 
-  private SecretKey getSigningKey() {
-    byte[] keyBytes = Decoders.BASE64.decode(tokenProps.getJwtSecret());
-    return Keys.hmacShaKeyFor(keyBytes);
-  }
-
-  private String generateAccessToken(UUID userId) {
+  private String generateAccessToken(UUID userId, Permission permission) {
     return createBaseJwt(userId, "access")
+        .claim("permission", permission.name())
         .expiration(Date.from(Instant.now().plus(tokenProps.getAccessTokenExpiration(), ChronoUnit.MILLIS)))
         .compact();
   }
@@ -67,8 +83,16 @@ public class AuthService {
         .compact();
   }
 
-  public AuthResponse userIdToAuthResponse(UUID userId) {
-    return new AuthResponse(generateAccessToken(userId), generateRefreshToken(userId));
+  /**
+   * Issues a token pair. The access token carries the user's permission, which {@code TokenFilter}
+   * turns into roles.
+   *
+   * @param userId     the user
+   * @param permission the user's current permission
+   * @return a new access and refresh token pair
+   */
+  public AuthResponse userIdToAuthResponse(UUID userId, Permission permission) {
+    return new AuthResponse(generateAccessToken(userId, permission), generateRefreshToken(userId));
   }
 
   @Transactional(readOnly = true)
@@ -87,20 +111,84 @@ public class AuthService {
     }
   }
 
-  @Transactional(readOnly = true)
+  /**
+   * Rotates a refresh token: the presented token is revoked and a new token pair is issued. A refresh
+   * token can therefore be used only once; presenting it again fails.
+   *
+   * @param refreshToken the raw refresh JWT
+   * @return a new access and refresh token pair
+   */
+  @Transactional
   public AuthResponse refreshAccessToken(String refreshToken) {
+    Claims claims = getRefreshClaims(refreshToken);
+    UUID userId = UUID.fromString(claims.getSubject());
+    Permission permission;
+    try {
+      // Read on every refresh, so permission changes reach the next access token
+      permission = userService.getPermission(userId);
+    } catch (ResourceNotFoundException e) {
+      throw new BadCredentialsException("Invalid refresh token: user no longer exists");
+    }
+
+    if (!tokenRevocationStore.revoke(UUID.fromString(claims.getId()), claims.getExpiration().toInstant())) {
+      log.warn("Reuse of revoked refresh token for user {}", userId);
+      throw new BadCredentialsException("Invalid refresh token: token has been revoked");
+    }
+    return userIdToAuthResponse(userId, permission);
+  }
+
+  /**
+   * Revokes the refresh token and, if the request was authenticated with one, the current access
+   * token.
+   *
+   * @param refreshToken the raw refresh JWT
+   */
+  @Transactional
+  public void logout(String refreshToken) {
+    Claims claims = getRefreshClaims(refreshToken);
+    tokenRevocationStore.revoke(UUID.fromString(claims.getId()), claims.getExpiration().toInstant());
+
+    Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+    if (auth != null && auth.getDetails() instanceof VerifiedToken accessToken) {
+      tokenRevocationStore.revoke(accessToken.tokenId(), accessToken.expiresAt());
+    }
+  }
+
+  private Claims getRefreshClaims(String refreshToken) {
     try {
-      Claims claims = getClaims(refreshToken, "refresh");
-      UUID userId = UUID.fromString(claims.getSubject());
-      return userIdToAuthResponse(userId);
+      return getClaims(refreshToken, "refresh");
 
     } catch (Exception e) {
       throw new BadCredentialsException("Invalid refresh token: " + e.getMessage());
     }
   }
 
+  /**
+   * Verifies an access token, consulting the verified-token cache before doing a full parse and MAC
+   * check. Revocation is checked on every call since a cached token may be revoked later.
+   *
+   * @param token the raw compact JWT
+   * @return the verified subject, token ID and expiration
+   */
+  public VerifiedToken verifyAccessToken(String token) {
+    VerifiedToken verifiedToken = verifiedTokenCache.get(token, t -> {
+      Claims claims = getClaims(t, "access");
+      String permission = claims.get("permission", String.class);
+      return new VerifiedToken(
+          UUID.fromString(claims.getSubject()),
+          UUID.fromString(claims.getId()),
+          claims.getExpiration().toInstant(),
+          // Tokens issued before permissions were included carry none
+          permission == null ? Permission.USER : Permission.valueOf(permission));
+    });
+    if (tokenRevocationStore.isRevoked(verifiedToken.tokenId())) {
+      throw new BadCredentialsException("Token has been revoked");
+    }
+    return verifiedToken;
+  }
+
   public Claims getClaims(String token, String tokenType) {
-    Claims claims = Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
+    Claims claims = jwtParser.parseSignedClaims(token).getPayload();
     String encodedTokenType = (String) claims.get("type");
     if (!tokenType.equals(encodedTokenType))
       throw new BadCredentialsException("Token type mismatch - expected: {}, provided: {}");
@@ -0,0 +1,181 @@
+package com.saunderscox.taskolotl.service;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.saunderscox.taskolotl.config.cache.CacheNames;
+import com.saunderscox.taskolotl.config.cache.CacheRegistry;
+import com.saunderscox.taskolotl.exception.ResourceNotFoundException;
+import com.saunderscox.taskolotl.repository.BoardAccessRepository;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Board access decisions for {@code @PreAuthorize} checks. Decisions come from a primary key lookup
+ * in {@code board_access}, the denormalized owner and member relation this service keeps current,
+ * and are cached per (board, user) until membership of the board changes. Cached keys are indexed by
+ * board and by user, so evicting either drops only its own entries.
+ */
+@Service
+@Slf4j
+public class BoardAccessService {
+
+  private final BoardRepository boardRepository;
+  private final BoardAccessRepository boardAccessRepository;
+  private final LoadingCache<BoardAccessKey, Boolean> cache;
+  private final Map<UUID, Set<BoardAccessKey>> keysByBoard = new ConcurrentHashMap<>();
+  private final Map<UUID, Set<BoardAccessKey>> keysByUser = new ConcurrentHashMap<>();
+
+  public BoardAccessService(BoardRepository boardRepository, BoardAccessRepository boardAccessRepository,
+      CacheRegistry cacheRegistry) {
+    this.boardRepository = boardRepository;
+    this.boardAccessRepository = boardAccessRepository;
+    this.cache = cacheRegistry.loadingCache(CacheNames.BOARD_ACCESS, this::loadDecision,
+        (key, decision, cause) -> {
+          unindex(keysByBoard, key.boardId(), key);
+          unindex(keysByUser, key.userId(), key);
+        });
+  }
+
+  /**
+   * Checks whether a user owns or is a member of a board.
+   *
+   * @param boardId the board ID
+   * @param userId  the user ID
+   * @return true if the user has access
+   * @throws ResourceNotFoundException if the board does not exist
+   */
+  public boolean hasAccess(UUID boardId, UUID userId) {
+    return cache.get(new BoardAccessKey(boardId, userId));
+  }
+
+  /**
+   * Finds the boards a user owns or is a member of, read from {@code board_access} with the
+   * covering user index and not cached.
+   *
+   * @param userId the user ID
+   * @return the board IDs
+   */
+  @Transactional(readOnly = true)
+  public List<UUID> getBoardIds(UUID userId) {
+    return boardAccessRepository.findBoardIdsByUserId(userId);
+  }
+
+  /**
+   * Rewrites a board's {@code board_access} rows from its owners and members and drops its cached
+   * decisions. Call in the transaction that changed them, after the change.
+   *
+   * @param boardId the board ID
+   */
+  @Transactional
+  public void refreshBoard(UUID boardId) {
+    boardAccessRepository.deleteByBoardId(boardId);
+    boardAccessRepository.insertFromMemberships(boardId);
+    evictBoard(boardId);
+  }
+
+  /**
+   * Fills {@code board_access} for boards that have no rows, such as those created before it
+   * existed. Boards without owners or members are checked again on every start, which costs one
+   * index probe each.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void backfill() {
+    int inserted = boardAccessRepository.backfill();
+    if (inserted > 0) {
+      log.info("Backfilled {} board access rows", inserted);
+    }
+  }
+
+  /**
+   * Drops cached decisions for a board. Call whenever its owners or members change; the eviction is
+   * repeated after the surrounding transaction commits so a concurrent check cannot re-cache the
+   * old membership.
+   *
+   * @param boardId the board ID
+   */
+  public void evictBoard(UUID boardId) {
+    evictBoardNow(boardId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          evictBoardNow(boardId);
+        }
+      });
+    }
+  }
+
+  /**
+   * Drops cached decisions for a user, e.g. when the user is deleted.
+   *
+   * @param userId the user ID
+   */
+  public void evictUser(UUID userId) {
+    Set<BoardAccessKey> keys = keysByUser.remove(userId);
+    if (keys == null) return;
+
+    keys.forEach(key -> {
+      cache.invalidate(key);
+      unindex(keysByBoard, key.boardId(), key);
+    });
+  }
+
+  private void evictBoardNow(UUID boardId) {
+    Set<BoardAccessKey> keys = keysByBoard.remove(boardId);
+    if (keys == null) return;
+
+    keys.forEach(key -> {
+      cache.invalidate(key);
+      unindex(keysByUser, key.userId(), key);
+    });
+  }
+
+  private Boolean loadDecision(BoardAccessKey key) {
+    boolean decision = decide(key);
+    // Runs inside the cache's computation for the key, so it cannot interleave with its eviction
+    index(keysByBoard, key.boardId(), key);
+    index(keysByUser, key.userId(), key);
+    return decision;
+  }
+
+  private boolean decide(BoardAccessKey key) {
+    if (boardAccessRepository.existsByBoardIdAndUserId(key.boardId(), key.userId())) {
+      return true;
+    }
+    // Keeps the 404 for unknown boards; the exception is not cached
+    if (!boardRepository.existsById(key.boardId())) {
+      throw new ResourceNotFoundException(BoardService.BOARD_NOT_FOUND_WITH_ID + key.boardId());
+    }
+    log.debug("User {} denied access to board {}", key.userId(), key.boardId());
+    return false;
+  }
+
+  private static void index(Map<UUID, Set<BoardAccessKey>> index, UUID id, BoardAccessKey key) {
+    index.compute(id, (ignored, keys) -> {
+      Set<BoardAccessKey> indexed = keys != null ? keys : ConcurrentHashMap.newKeySet();
+      indexed.add(key);
+      return indexed;
+    });
+  }
+
+  private static void unindex(Map<UUID, Set<BoardAccessKey>> index, UUID id, BoardAccessKey key) {
+    index.computeIfPresent(id, (ignored, keys) -> {
+      keys.remove(key);
+      return keys.isEmpty() ? null : keys;
+    });
+  }
+
+  private record BoardAccessKey(UUID boardId, UUID userId) {
+  }
+}
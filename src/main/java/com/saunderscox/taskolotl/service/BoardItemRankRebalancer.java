@@ -0,0 +1,43 @@
+package com.saunderscox.taskolotl.service;
+
+import com.saunderscox.taskolotl.entity.ItemOrdering;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job that compacts rank keys before moves run out of room between neighbours. Each
+ * board is rebalanced in its own transaction; a board that is modified concurrently fails its
+ * optimistic lock and is picked up again on the next run.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardItemRankRebalancer {
+
+  private final BoardRepository boardRepository;
+  private final BoardItemService boardItemService;
+
+  @Value("${app.board-items.rank-rebalance-length:16}")
+  private int rebalanceLength;
+
+  @Scheduled(fixedDelayString = "${app.board-items.rank-rebalance-interval:PT5M}")
+  public void rebalance() {
+    List<UUID> boardIds = boardRepository.findBoardIdsToRebalance(ItemOrdering.RANK, rebalanceLength);
+    for (UUID boardId : boardIds) {
+      try {
+        boardItemService.rebalanceRanks(boardId);
+      } catch (RuntimeException e) {
+        log.warn("Failed to rebalance rank keys of board {}: {}", boardId, e.getMessage());
+      }
+    }
+    if (!boardIds.isEmpty()) {
+      log.info("Rebalanced rank keys of {} boards", boardIds.size());
+    }
+  }
+}
@@ -1,5 +1,219 @@
 package com.saunderscox.taskolotl.service;
 
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardItem;
+import com.saunderscox.taskolotl.entity.ItemOrdering;
+import com.saunderscox.taskolotl.entity.RankKeys;
+import com.saunderscox.taskolotl.exception.ResourceNotFoundException;
+import com.saunderscox.taskolotl.repository.BoardItemOrderRepository;
+import com.saunderscox.taskolotl.repository.BoardItemSlot;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Ordering of board items on boards that use {@link ItemOrdering#RANK}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
 public class BoardItemService {
 
+  /**
+   * Longest rank key the {@code rank_key} column holds.
+   */
+  public static final int RANK_KEY_MAX_LENGTH = 64;
+
+  private static final Comparator<BoardItem> RANK_ORDER = Comparator
+      .comparing(BoardItem::getRankKey, Comparator.nullsLast(Comparator.naturalOrder()))
+      .thenComparing(BoardItem::getPosition);
+
+  private final BoardRepository boardRepository;
+  private final BoardItemOrderRepository boardItemOrderRepository;
+
+  /**
+   * Moves an item on a rank-ordered board by giving it a key between its new neighbours. Only the
+   * moved item's row is written.
+   *
+   * @param boardId     the board ID
+   * @param boardItemId the item to move
+   * @param newPosition zero-based index the item should end up at
+   */
+  @Transactional
+  public void moveItemByRank(UUID boardId, UUID boardItemId, int newPosition) {
+    long itemCount = boardRepository.countBoardItems(boardId);
+    if (newPosition >= itemCount) {
+      throw new IllegalArgumentException(
+          "Invalid position: " + newPosition + ". Must be between 0 and " + (itemCount - 1));
+    }
+
+    String rankKey = nextRankKey(boardId, boardItemId, newPosition, itemCount);
+    if (rankKey == null) {
+      // Neighbours are unranked, tied or too long; compact the board once and retry
+      rebalanceRanks(boardId);
+      rankKey = nextRankKey(boardId, boardItemId, newPosition, itemCount);
+      if (rankKey == null) {
+        throw new IllegalStateException("No rank key available on board " + boardId + " after rebalancing");
+      }
+    }
+
+    if (boardRepository.updateRankKey(boardId, boardItemId, rankKey, Instant.now()) == 0) {
+      throw new ResourceNotFoundException("Board item not found with id: " + boardItemId);
+    }
+  }
+
+  /**
+   * Rearranges the listed items among the slots they currently occupy, so the first listed item takes
+   * the earliest of those slots and so on. Unlisted items keep their place. The ordering is validated
+   * once and only items whose slot changes are written, in a single batch.
+   *
+   * @param boardId      the board ID
+   * @param ordering     the board's item ordering
+   * @param boardItemIds items in their new relative order
+   */
+  @Transactional
+  public void reorderItems(UUID boardId, ItemOrdering ordering, List<UUID> boardItemIds) {
+    Set<UUID> uniqueIds = new HashSet<>(boardItemIds);
+    if (uniqueIds.size() != boardItemIds.size()) {
+      throw new IllegalArgumentException("Board item IDs must not contain duplicates");
+    }
+
+    List<BoardItemSlot> slots = findSlots(boardId, uniqueIds);
+    if (ordering == ItemOrdering.RANK) {
+      if (slots.stream().anyMatch(slot -> slot.getRankKey() == null)) {
+        rebalanceRanks(boardId);
+        slots = findSlots(boardId, uniqueIds);
+      }
+      Map<UUID, String> rankKeys = slots.stream()
+          .collect(Collectors.toMap(BoardItemSlot::getId, BoardItemSlot::getRankKey));
+      boardItemOrderRepository.updateRankKeys(boardId, reassignSlots(boardItemIds, rankKeys));
+    } else {
+      Map<UUID, Integer> positions = slots.stream()
+          .collect(Collectors.toMap(BoardItemSlot::getId, BoardItemSlot::getPosition));
+      boardItemOrderRepository.updatePositions(boardId, reassignSlots(boardItemIds, positions));
+    }
+    log.info("Reordered {} items on board {}", boardItemIds.size(), boardId);
+  }
+
+  /**
+   * Switches a board between position and rank ordering, carrying over the current item order.
+   *
+   * @param board    the board to switch
+   * @param ordering the new ordering
+   */
+  public void changeItemOrdering(Board board, ItemOrdering ordering) {
+    if (board.getItemOrdering() == ordering) return;
+
+    log.info("Switching board {} from {} to {} ordering", board.getId(), board.getItemOrdering(), ordering);
+    if (ordering == ItemOrdering.RANK) {
+      assignRanks(board);
+    } else {
+      List<BoardItem> items = sortedByRank(board);
+      for (int i = 0; i < items.size(); i++) {
+        items.get(i).setPosition(i);
+        items.get(i).setRankKey(null);
+      }
+    }
+    board.setItemOrdering(ordering);
+  }
+
+  /**
+   * Gives every item of a rank-ordered board a fresh, evenly spaced key, keeping the current order.
+   * Unranked items are placed after ranked ones. Only the items' ordering columns are read, and keys
+   * that change are written in a single batch that fails if any of those items changed meanwhile.
+   *
+   * @param boardId the board ID
+   */
+  @Transactional
+  public void rebalanceRanks(UUID boardId) {
+    ItemOrdering ordering = boardRepository.findItemOrderingById(boardId)
+        .orElseThrow(() -> new ResourceNotFoundException(BoardService.BOARD_NOT_FOUND_WITH_ID + boardId));
+    if (ordering != ItemOrdering.RANK) return;
+
+    List<BoardItemSlot> slots = boardRepository.findItemSlotsInRankOrder(boardId);
+    String[] rankKeys = RankKeys.spread(slots.size());
+    Map<UUID, String> changed = new LinkedHashMap<>();
+    for (int i = 0; i < slots.size(); i++) {
+      if (!rankKeys[i].equals(slots.get(i).getRankKey())) {
+        changed.put(slots.get(i).getId(), rankKeys[i]);
+      }
+    }
+    log.debug("Rebalancing rank keys of board {}: {} of {} items change", boardId, changed.size(), slots.size());
+    boardItemOrderRepository.updateRankKeysIfUnchanged(boardId, slots, changed);
+  }
+
+  private String nextRankKey(UUID boardId, UUID boardItemId, int newPosition, long itemCount) {
+    String lower = null;
+    String upper;
+    if (newPosition == 0) {
+      List<String> window = boardRepository.findRankKeyWindow(boardId, boardItemId, 0, 1);
+      upper = window.isEmpty() ? null : window.get(0);
+    } else {
+      List<String> window = boardRepository.findRankKeyWindow(boardId, boardItemId, newPosition - 1, 2);
+      lower = window.get(0);
+      upper = window.size() > 1 ? window.get(1) : null;
+      if (lower == null) return null;
+    }
+    if (upper == null && newPosition < itemCount - 1) return null;
+    if (lower != null && upper != null && lower.compareTo(upper) >= 0) return null;
+
+    String rankKey = RankKeys.between(lower, upper);
+    return rankKey.length() > RANK_KEY_MAX_LENGTH ? null : rankKey;
+  }
+
+  private List<BoardItemSlot> findSlots(UUID boardId, Set<UUID> itemIds) {
+    List<BoardItemSlot> slots = boardRepository.findItemSlots(boardId, itemIds);
+    if (slots.size() != itemIds.size()) {
+      Set<UUID> foundIds = slots.stream().map(BoardItemSlot::getId).collect(Collectors.toSet());
+      Set<UUID> missingIds = itemIds.stream()
+          .filter(id -> !foundIds.contains(id))
+          .collect(Collectors.toSet());
+      throw new ResourceNotFoundException("Board items not found on board " + boardId + " with ids: " + missingIds);
+    }
+    return slots;
+  }
+
+  /**
+   * Hands out the current slots, in ascending order, to the items in their requested order.
+   *
+   * @return new slots of the items whose slot changes
+   */
+  private static <T extends Comparable<T>> Map<UUID, T> reassignSlots(List<UUID> order, Map<UUID, T> current) {
+    List<T> slots = current.values().stream().sorted().toList();
+    Map<UUID, T> changed = new LinkedHashMap<>();
+    for (int i = 0; i < order.size(); i++) {
+      UUID itemId = order.get(i);
+      T slot = slots.get(i);
+      if (!slot.equals(current.get(itemId))) {
+        changed.put(itemId, slot);
+      }
+    }
+    return changed;
+  }
+
+  private void assignRanks(Board board) {
+    List<BoardItem> items = sortedByRank(board);
+    String[] rankKeys = RankKeys.spread(items.size());
+    for (int i = 0; i < items.size(); i++) {
+      items.get(i).setRankKey(rankKeys[i]);
+    }
+  }
+
+  private List<BoardItem> sortedByRank(Board board) {
+    List<BoardItem> items = new ArrayList<>(board.getBoardItems());
+    items.sort(RANK_ORDER);
+    return items;
+  }
 }
@@ -1,19 +1,34 @@
 package com.saunderscox.taskolotl.service;
 
+import com.saunderscox.taskolotl.config.cache.CacheNames;
+import com.saunderscox.taskolotl.dto.BoardChangeType;
+import com.saunderscox.taskolotl.dto.BoardCloneRequest;
 import com.saunderscox.taskolotl.dto.BoardCreateRequest;
+import com.saunderscox.taskolotl.dto.Conditional;
+import com.saunderscox.taskolotl.dto.CursorPage;
+import com.saunderscox.taskolotl.dto.BoardItemReorderRequest;
 import com.saunderscox.taskolotl.dto.BoardResponse;
 import com.saunderscox.taskolotl.dto.BoardUpdateRequest;
 import com.saunderscox.taskolotl.entity.*;
+import com.saunderscox.taskolotl.exception.DuplicateResourceException;
 import com.saunderscox.taskolotl.exception.ResourceNotFoundException;
+import com.saunderscox.taskolotl.mapper.BoardBatchMapper;
 import com.saunderscox.taskolotl.mapper.BoardMapper;
+import com.saunderscox.taskolotl.repository.BoardCloneRepository;
 import com.saunderscox.taskolotl.repository.BoardRepository;
-import com.saunderscox.taskolotl.repository.RoleRepository;
-import com.saunderscox.taskolotl.repository.SkillRepository;
+import com.saunderscox.taskolotl.repository.BoardStageCountRepository;
+import com.saunderscox.taskolotl.repository.BoardStatsRepository;
+import com.saunderscox.taskolotl.repository.JoinTableSync;
+import com.saunderscox.taskolotl.repository.JoinTableSync.Association;
 import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.events.BoardChangeEvent;
+import com.saunderscox.taskolotl.service.search.SearchReindexer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -32,20 +47,44 @@ public class BoardService {
   public static final String BOARD_NOT_FOUND_WITH_ID = "Board not found with id: ";
   public static final String USER_NOT_FOUND_WITH_ID = "User not found with id: ";
   private final BoardRepository boardRepository;
+  private final BoardCloneRepository boardCloneRepository;
+  private final BoardStageCountRepository boardStageCountRepository;
+  private final BoardStatsRepository boardStatsRepository;
   private final UserRepository userRepository;
-  private final RoleRepository roleRepository;
-  private final SkillRepository skillRepository;
+  private final JoinTableSync joinTableSync;
   private final BoardMapper boardMapper;
+  private final BoardBatchMapper boardBatchMapper;
   private final AuthService authService;
+  private final BoardAccessService boardAccessService;
+  private final BoardItemService boardItemService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final SearchReindexer searchReindexer;
 
   @Transactional(readOnly = true)
-  public Page<BoardResponse> getAllBoards(Pageable pageable) {
-    return boardRepository.findAll(pageable)
-      .map(boardMapper::toResponseDto);
+  public Conditional<Page<BoardResponse>> getAllBoards(Pageable pageable, String ifNoneMatch) {
+    return toConditionalPage(boardRepository.findAll(pageable), ifNoneMatch);
   }
 
   @Transactional(readOnly = true)
-  @Cacheable(value = "boardCache", key = "#id")
+  public CursorPage<BoardResponse> scrollBoards(String cursor, int size) {
+    return CursorPage.of(
+      boardRepository.findAllByOrderByCreatedAtAscIdAsc(CursorPage.toScrollPosition(cursor), Limit.of(size)),
+      boardBatchMapper::toResponseDtoList);
+  }
+
+  /**
+   * Current entity tag of a board, read without loading the board so unchanged boards can be
+   * answered with 304 before anything is mapped.
+   */
+  @Transactional(readOnly = true)
+  public String getBoardETag(UUID id) {
+    return boardRepository.findVersionById(id)
+      .map(version -> ETags.of(id, version))
+      .orElseThrow(() -> new ResourceNotFoundException(BOARD_NOT_FOUND_WITH_ID + id));
+  }
+
+  @Transactional(readOnly = true)
+  @Cacheable(value = CacheNames.BOARDS, key = "#id")
   public BoardResponse getBoardById(UUID id) {
     Board board = boardRepository.findById(id)
       .orElseThrow(() -> new ResourceNotFoundException(BOARD_NOT_FOUND_WITH_ID + id));
@@ -63,87 +102,96 @@ public class BoardService {
     owners.forEach(board::addOwner);
 
     if (dto.getMemberIds() != null && !dto.getMemberIds().isEmpty()) {
-      updateMembers(board, dto.getMemberIds());
+      addMembers(board, dto.getMemberIds());
     }
 
     Board savedBoard = boardRepository.save(board);
+    boardAccessService.refreshBoard(savedBoard.getId());
     return boardMapper.toResponseDto(savedBoard);
   }
 
+  /**
+   * Creates a board from a template: its settings, roles, skills and every item with its task or study
+   * fields, position and rank key. Comments are not copied. Rows are copied inside the database in
+   * batches, so cost does not depend on mapping each item through the persistence context.
+   *
+   * @param templateId the board to copy
+   * @param dto        title of the new board and whether to copy owners and members
+   * @param userId     the cloning user, who becomes an owner
+   * @return the new board
+   */
   @Transactional
-  @CacheEvict(value = "boardCache", key = "#id")
-  public BoardResponse updateBoard(UUID id, BoardUpdateRequest dto) {
-    Board board = boardRepository.findById(id)
-      .orElseThrow(() -> new ResourceNotFoundException(BOARD_NOT_FOUND_WITH_ID + id));
-
-    boardMapper.updateEntityFromDto(dto, board);
+  public BoardResponse cloneBoard(UUID templateId, BoardCloneRequest dto, UUID userId) {
+    if (boardRepository.existsByTitleIgnoreCase(dto.getTitle())) {
+      throw new DuplicateResourceException("Board already exists with title: " + dto.getTitle());
+    }
 
-    updateOwners(board, dto.getOwnerIds());
-    updateMembers(board, dto.getMemberIds());
-    updateRoles(board, dto.getRoleIds());
-    updateSkills(board, dto.getSkillIds());
+    UUID boardId = UuidV7Generator.next();
+    if (!boardCloneRepository.cloneBoard(templateId, boardId, dto.getTitle())) {
+      throw new ResourceNotFoundException(BOARD_NOT_FOUND_WITH_ID + templateId);
+    }
+    int itemCount = boardCloneRepository.cloneItems(templateId, boardId);
+    boardStatsRepository.recompute(List.of(boardId));
+    joinTableSync.copy(Association.BOARD_ROLES, templateId, boardId);
+    joinTableSync.copy(Association.BOARD_SKILLS, templateId, boardId);
+    if (dto.isIncludeMemberships()) {
+      joinTableSync.copy(Association.BOARD_OWNERS, templateId, boardId);
+      joinTableSync.copy(Association.BOARD_MEMBERS, templateId, boardId);
+    }
+    joinTableSync.link(Association.BOARD_OWNERS, boardId, userId);
+    boardAccessService.refreshBoard(boardId);
 
-    return boardMapper.toResponseDto(boardRepository.save(board));
+    searchReindexer.reindexBoardAfterCommit(boardId);
+    log.info("Cloned board {} into {} with {} items", templateId, boardId, itemCount);
+    return boardBatchMapper.toResponseDto(boardRepository.findById(boardId).orElseThrow());
   }
 
-  private void updateOwners(Board board, Set<UUID> ownerIds) {
-    if (ownerIds == null) return;
-
-    List<User> foundUsers = userRepository.findAllById(ownerIds);
-    validateAllUsersFound(ownerIds, foundUsers);
-
-    board.getOwners().removeIf(owner -> !ownerIds.contains(owner.getId()));
-
-    foundUsers.forEach(user -> {
-      if (board.getOwners().stream().noneMatch(o -> o.getId().equals(user.getId()))) {
-        board.addOwner(user);
-      }
-    });
-  }
+  @Transactional
+  @CacheEvict(value = CacheNames.BOARDS, key = "#id")
+  public BoardResponse updateBoard(UUID id, BoardUpdateRequest dto, String ifMatch) {
+    Board board = boardRepository.findById(id)
+      .orElseThrow(() -> new ResourceNotFoundException(BOARD_NOT_FOUND_WITH_ID + id));
+    ETags.requireMatch(ifMatch, ETags.of(id, board.getVersion()));
 
-  private void updateMembers(Board board, Set<UUID> memberIds) {
-    if (memberIds == null) return;
+    boardMapper.updateEntityFromDto(dto, board);
 
-    List<User> foundUsers = userRepository.findAllById(memberIds);
-    validateAllUsersFound(memberIds, foundUsers);
+    boolean membershipChanged = syncRelation(Association.BOARD_OWNERS, id, dto.getOwnerIds())
+      | syncRelation(Association.BOARD_MEMBERS, id, dto.getMemberIds());
+    boolean relationsChanged = syncRelation(Association.BOARD_ROLES, id, dto.getRoleIds())
+      | syncRelation(Association.BOARD_SKILLS, id, dto.getSkillIds());
+    if (membershipChanged || relationsChanged) {
+      board.touch();
+    }
 
-    board.getMembers().removeIf(member -> !memberIds.contains(member.getId()));
+    if (dto.getItemOrdering() != null) {
+      boardItemService.changeItemOrdering(board, dto.getItemOrdering());
+    }
 
-    foundUsers.forEach(user -> {
-      if (board.getMembers().stream().noneMatch(m -> m.getId().equals(user.getId()))) {
-        board.addMember(user);
-      }
-    });
+    eventPublisher.publishEvent(BoardChangeEvent.of(id, BoardChangeType.BOARD_UPDATED));
+    // Relationship IDs are read back from the join tables; the board's collections are stale
+    Board savedBoard = boardRepository.saveAndFlush(board);
+    if (membershipChanged) {
+      boardAccessService.refreshBoard(id);
+    }
+    return boardBatchMapper.toResponseDto(savedBoard);
   }
 
-  private void updateRoles(Board board, Set<UUID> roleIds) {
-    if (roleIds == null) return;
-
-    List<Role> foundRoles = roleRepository.findAllById(roleIds);
-    validateAllRolesFound(roleIds, foundRoles);
-
-    board.getRoles().removeIf(role -> !roleIds.contains(role.getId()));
-
-    foundRoles.forEach(role -> {
-      if (board.getRoles().stream().noneMatch(r -> r.getId().equals(role.getId()))) {
-        board.addRole(role);
-      }
-    });
+  private Conditional<Page<BoardResponse>> toConditionalPage(Page<Board> boards, String ifNoneMatch) {
+    String eTag = ETags.of(boards);
+    if (ETags.matches(ifNoneMatch, eTag)) {
+      return Conditional.notModified(eTag);
+    }
+    return Conditional.of(eTag, boardBatchMapper.toResponsePage(boards));
   }
 
-  private void updateSkills(Board board, Set<UUID> skillIds) {
-    if (skillIds == null) return;
-
-    List<Skill> foundSkills = skillRepository.findAllById(skillIds);
-    validateAllSkillsFound(skillIds, foundSkills);
-
-    board.getSkills().removeIf(skill -> !skillIds.contains(skill.getId()));
+  private boolean syncRelation(Association association, UUID boardId, Set<UUID> targetIds) {
+    return targetIds != null && joinTableSync.sync(association, boardId, targetIds);
+  }
 
-    foundSkills.forEach(skill -> {
-      if (board.getSkills().stream().noneMatch(s -> s.getId().equals(skill.getId()))) {
-        board.addSkill(skill);
-      }
-    });
+  private void addMembers(Board board, Set<UUID> memberIds) {
+    List<User> foundUsers = userRepository.findAllById(memberIds);
+    validateAllUsersFound(memberIds, foundUsers);
+    foundUsers.forEach(board::addMember);
   }
 
   private void validateAllUsersFound(Set<UUID> requestedIds, List<User> foundUsers) {
@@ -156,28 +204,8 @@ public class BoardService {
     }
   }
 
-  private void validateAllRolesFound(Set<UUID> requestedIds, List<Role> foundRoles) {
-    if (foundRoles.size() != requestedIds.size()) {
-      Set<UUID> foundIds = foundRoles.stream().map(Role::getId).collect(Collectors.toSet());
-      Set<UUID> missingIds = requestedIds.stream()
-        .filter(id -> !foundIds.contains(id))
-        .collect(Collectors.toSet());
-      throw new ResourceNotFoundException("Roles not found with ids: " + missingIds);
-    }
-  }
-
-  private void validateAllSkillsFound(Set<UUID> requestedIds, List<Skill> foundSkills) {
-    if (foundSkills.size() != requestedIds.size()) {
-      Set<UUID> foundIds = foundSkills.stream().map(Skill::getId).collect(Collectors.toSet());
-      Set<UUID> missingIds = requestedIds.stream()
-        .filter(id -> !foundIds.contains(id))
-        .collect(Collectors.toSet());
-      throw new ResourceNotFoundException("Skills not found with ids: " + missingIds);
-    }
-  }
-
   @Transactional
-  @CacheEvict(value = "boardCache", key = "#id")
+  @CacheEvict(value = CacheNames.BOARDS, key = "#id")
   public void deleteBoard(UUID id) {
     log.info("Deleting board {}", id);
 
@@ -185,51 +213,76 @@ public class BoardService {
       throw new ResourceNotFoundException(BOARD_NOT_FOUND_WITH_ID + id);
     }
 
+    // Items go in bulk, skipping their entity listeners: the board's own removal drops every search
+    // document on it, its stage counts are deleted below, and tombstones are moot once it is gone
+    boardRepository.deleteCommentTagsByBoardId(id);
+    boardRepository.deleteCommentsByBoardId(id);
+    boardRepository.deleteItemsByBoardId(id);
     boardRepository.deleteById(id);
+    boardStageCountRepository.deleteByBoardId(id);
+    boardAccessService.evictBoard(id);
+    eventPublisher.publishEvent(BoardChangeEvent.of(id, BoardChangeType.BOARD_DELETED));
   }
 
   @Transactional(readOnly = true)
-  public Page<BoardResponse> searchBoards(String query, Pageable pageable) {
+  public Conditional<Page<BoardResponse>> searchBoards(String query, Pageable pageable, String ifNoneMatch) {
     log.debug("Searching boards: query='{}', page={}", query, pageable.getPageNumber());
-    return boardRepository.findByTitleContainingIgnoreCase(query, pageable)
-      .map(boardMapper::toResponseDto);
+    return toConditionalPage(boardRepository.findByTitleContainingIgnoreCase(query, pageable), ifNoneMatch);
   }
 
   @Transactional(readOnly = true)
-  public Page<BoardResponse> getBoardsByOwner(UUID userId, Pageable pageable) {
-    return boardRepository.findByOwnersId(userId, pageable)
-      .map(boardMapper::toResponseDto);
+  public CursorPage<BoardResponse> scrollSearchBoards(String query, String cursor, int size) {
+    log.debug("Scrolling boards: query='{}', size={}", query, size);
+    return CursorPage.of(
+      boardRepository.findByTitleContainingIgnoreCaseOrderByCreatedAtAscIdAsc(
+        query, CursorPage.toScrollPosition(cursor), Limit.of(size)),
+      boardBatchMapper::toResponseDtoList);
   }
 
   @Transactional(readOnly = true)
-  public Page<BoardResponse> getBoardsByMember(UUID userId, Pageable pageable) {
-    return boardRepository.findByMembersId(userId, pageable)
-      .map(boardMapper::toResponseDto);
+  public Conditional<Page<BoardResponse>> getBoardsByOwner(UUID userId, Pageable pageable, String ifNoneMatch) {
+    return toConditionalPage(boardRepository.findByOwnersId(userId, pageable), ifNoneMatch);
   }
 
   @Transactional(readOnly = true)
-  public Page<BoardResponse> getAccessibleBoards(UUID userId, Pageable pageable) {
-    log.debug("Fetching accessible boards for user {}", userId);
-    return boardRepository.findByOwnersIdOrMembersId(userId, userId, pageable)
-      .map(boardMapper::toResponseDto);
+  public Conditional<Page<BoardResponse>> getBoardsByMember(UUID userId, Pageable pageable, String ifNoneMatch) {
+    return toConditionalPage(boardRepository.findByMembersId(userId, pageable), ifNoneMatch);
   }
 
   @Transactional(readOnly = true)
-  public boolean hasAccess(UUID boardId, UUID userId) {
-    Board board = boardRepository.findById(boardId)
-      .orElseThrow(() -> new ResourceNotFoundException(BOARD_NOT_FOUND_WITH_ID + boardId));
+  public Conditional<Page<BoardResponse>> getAccessibleBoards(UUID userId, Pageable pageable, String ifNoneMatch) {
+    log.debug("Fetching accessible boards for user {}", userId);
+    return toConditionalPage(boardRepository.findByAccessUserId(userId, pageable), ifNoneMatch);
+  }
 
-    User user = userRepository.findById(userId)
-      .orElseThrow(() -> new ResourceNotFoundException(USER_NOT_FOUND_WITH_ID + userId));
+  @Transactional(readOnly = true)
+  public CursorPage<BoardResponse> scrollAccessibleBoards(UUID userId, String cursor, int size) {
+    log.debug("Scrolling accessible boards for user {}", userId);
+    return CursorPage.of(
+      boardRepository.findByAccessUserIdOrderByCreatedAtAscIdAsc(
+        userId, CursorPage.toScrollPosition(cursor), Limit.of(size)),
+      boardBatchMapper::toResponseDtoList);
+  }
 
-    return board.hasAccess(user);
+  public boolean hasAccess(UUID boardId, UUID userId) {
+    return boardAccessService.hasAccess(boardId, userId);
   }
 
   @Transactional
-  @CacheEvict(value = "boardCache", key = "#boardId")
+  @CacheEvict(value = CacheNames.BOARDS, key = "#boardId")
   public void moveItemToPosition(UUID boardId, UUID boardItemId, int newPosition) {
     log.info("Moving item {} to position {} on board {}", boardItemId, newPosition, boardId);
 
+    ItemOrdering itemOrdering = boardRepository.findItemOrderingById(boardId)
+      .orElseThrow(() -> new ResourceNotFoundException(BOARD_NOT_FOUND_WITH_ID + boardId));
+
+    // Subscribers only hear of it once the move commits
+    eventPublisher.publishEvent(BoardChangeEvent.of(boardId, BoardChangeType.ITEM_MOVED, boardItemId));
+    if (itemOrdering == ItemOrdering.RANK) {
+      boardItemService.moveItemByRank(boardId, boardItemId, newPosition);
+      return;
+    }
+
     Board board = boardRepository.findById(boardId)
       .orElseThrow(() -> new ResourceNotFoundException(BOARD_NOT_FOUND_WITH_ID + boardId));
 
@@ -247,4 +300,15 @@ public class BoardService {
     board.moveItemToPosition(item, newPosition);
     boardRepository.save(board);
   }
+
+  @Transactional
+  @CacheEvict(value = CacheNames.BOARDS, key = "#boardId")
+  public void reorderItems(UUID boardId, BoardItemReorderRequest dto) {
+    ItemOrdering itemOrdering = boardRepository.findItemOrderingById(boardId)
+      .orElseThrow(() -> new ResourceNotFoundException(BOARD_NOT_FOUND_WITH_ID + boardId));
+
+    boardItemService.reorderItems(boardId, itemOrdering, dto.getBoardItemIds());
+    eventPublisher.publishEvent(
+      new BoardChangeEvent(boardId, BoardChangeType.ITEMS_REORDERED, List.copyOf(dto.getBoardItemIds())));
+  }
 }
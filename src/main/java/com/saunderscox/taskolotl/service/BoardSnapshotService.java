@@ -0,0 +1,62 @@
+package com.saunderscox.taskolotl.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saunderscox.taskolotl.dto.BoardItemSnapshot;
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.exception.ResourceNotFoundException;
+import com.saunderscox.taskolotl.mapper.BoardBatchMapper;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes a board together with all of its items as one JSON document. The query count is fixed
+ * regardless of board size: the board, its five relationship ID lists, and a single streamed item
+ * query that carries comment counts. Items are written as they are read, so the response is never
+ * held in memory.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoardSnapshotService {
+
+  private final BoardRepository boardRepository;
+  private final BoardBatchMapper boardBatchMapper;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Writes {@code {"board": {...}, "items": [...]}} to the stream, items in display order.
+   *
+   * @param boardId the board ID
+   * @param out     destination; left open
+   * @throws ResourceNotFoundException if the board does not exist
+   */
+  @Transactional(readOnly = true)
+  public void writeSnapshot(UUID boardId, OutputStream out) throws IOException {
+    Board board = boardRepository.findById(boardId)
+        .orElseThrow(() -> new ResourceNotFoundException(BoardService.BOARD_NOT_FOUND_WITH_ID + boardId));
+
+    int itemCount = 0;
+    try (JsonGenerator generator = objectMapper.createGenerator(out)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+         Stream<BoardItemSnapshot> items = boardRepository.streamItemSnapshots(boardId)) {
+      generator.writeStartObject();
+      generator.writePOJOField("board", boardBatchMapper.toResponseDto(board));
+      generator.writeArrayFieldStart("items");
+      for (Iterator<BoardItemSnapshot> it = items.iterator(); it.hasNext(); itemCount++) {
+        generator.writePOJO(it.next());
+      }
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+    log.debug("Wrote snapshot of board {} with {} items", boardId, itemCount);
+  }
+}
@@ -0,0 +1,254 @@
+package com.saunderscox.taskolotl.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.saunderscox.taskolotl.dto.BoardExportLine;
+import com.saunderscox.taskolotl.dto.BoardItemLine;
+import com.saunderscox.taskolotl.dto.BoardLine;
+import com.saunderscox.taskolotl.dto.BoardResponse;
+import com.saunderscox.taskolotl.dto.CommentLine;
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.exception.DuplicateResourceException;
+import com.saunderscox.taskolotl.exception.ResourceNotFoundException;
+import com.saunderscox.taskolotl.mapper.BoardBatchMapper;
+import com.saunderscox.taskolotl.repository.BoardImportRepository;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.BoardStatsRepository;
+import com.saunderscox.taskolotl.repository.CommentRepository;
+import com.saunderscox.taskolotl.repository.CommentTagRow;
+import com.saunderscox.taskolotl.repository.JoinTableSync;
+import com.saunderscox.taskolotl.repository.JoinTableSync.Association;
+import com.saunderscox.taskolotl.service.search.SearchReindexer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Bulk export and import of whole boards as NDJSON (see {@link BoardExportLine}). Both directions
+ * stream: export writes rows straight from database cursors and import inserts fixed-size chunks as
+ * JDBC batches, so memory use does not grow with the number of items or comments.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoardTransferService {
+
+  /**
+   * Lines buffered before they are written as one JDBC batch.
+   */
+  static final int IMPORT_CHUNK_SIZE = 500;
+
+  private final BoardRepository boardRepository;
+  private final CommentRepository commentRepository;
+  private final BoardImportRepository boardImportRepository;
+  private final BoardStatsRepository boardStatsRepository;
+  private final JoinTableSync joinTableSync;
+  private final BoardAccessService boardAccessService;
+  private final BoardBatchMapper boardBatchMapper;
+  private final SearchReindexer searchReindexer;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Writes a board, its items and their comments to the stream as NDJSON.
+   *
+   * @param boardId the board ID
+   * @param out     destination; left open
+   * @throws ResourceNotFoundException if the board does not exist
+   */
+  @Transactional(readOnly = true)
+  public void exportBoard(UUID boardId, OutputStream out) throws IOException {
+    Board board = boardRepository.findById(boardId)
+        .orElseThrow(() -> new ResourceNotFoundException(BoardService.BOARD_NOT_FOUND_WITH_ID + boardId));
+
+    ObjectWriter writer = objectMapper.writerFor(BoardExportLine.class);
+    long lines = 1;
+    try (JsonGenerator generator = objectMapper.createGenerator(out)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+      generator.setRootValueSeparator(new SerializedString("\n"));
+      writer.writeValue(generator, toBoardLine(board));
+
+      try (Stream<BoardItemLine> items = boardRepository.streamExportLines(boardId)) {
+        for (Iterator<BoardItemLine> it = items.iterator(); it.hasNext(); lines++) {
+          writer.writeValue(generator, it.next());
+        }
+      }
+
+      try (Stream<CommentLine> comments = commentRepository.streamExportLinesByBoardId(boardId);
+           Stream<CommentTagRow> tags = commentRepository.streamTagsByBoardId(boardId)) {
+        TagCursor tagCursor = new TagCursor(tags.iterator());
+        for (Iterator<CommentLine> it = comments.iterator(); it.hasNext(); lines++) {
+          CommentLine comment = it.next();
+          writer.writeValue(generator, comment.withTags(tagCursor.tagsOf(comment.id())));
+        }
+      }
+      generator.writeRaw('\n');
+    }
+    log.info("Exported board {} as {} lines", boardId, lines);
+  }
+
+  /**
+   * Creates a board from an NDJSON export, keeping its IDs. Users, skills, concepts and roles it
+   * references must already exist. The import is all or nothing.
+   *
+   * @param in the export
+   * @return the imported board
+   * @throws DuplicateResourceException if a board with the same ID already exists
+   * @throws IllegalArgumentException   if the export is malformed or out of order
+   */
+  @Transactional
+  public BoardResponse importBoard(InputStream in) throws IOException {
+    try (MappingIterator<BoardExportLine> lines = objectMapper.readerFor(BoardExportLine.class).readValues(in)) {
+      if (!lines.hasNext() || !(lines.next() instanceof BoardLine boardLine)) {
+        throw new IllegalArgumentException("Board export must start with a board line");
+      }
+      UUID boardId = importBoardLine(boardLine);
+
+      List<BoardItemLine> items = new ArrayList<>(IMPORT_CHUNK_SIZE);
+      List<CommentLine> comments = new ArrayList<>(IMPORT_CHUNK_SIZE);
+      long itemCount = 0;
+      long commentCount = 0;
+      while (lines.hasNext()) {
+        switch (lines.next()) {
+          case BoardItemLine item -> {
+            if (commentCount > 0 || !comments.isEmpty()) {
+              throw new IllegalArgumentException("Item " + item.id() + " follows comments; items must come first");
+            }
+            items.add(validate(item));
+            if (items.size() == IMPORT_CHUNK_SIZE) {
+              itemCount += flushItems(boardId, items);
+            }
+          }
+          case CommentLine comment -> {
+            itemCount += flushItems(boardId, items);
+            comments.add(comment);
+            if (comments.size() == IMPORT_CHUNK_SIZE) {
+              commentCount += flushComments(boardId, comments);
+            }
+          }
+          case BoardLine other -> throw new IllegalArgumentException("Board export contains more than one board");
+        }
+      }
+      itemCount += flushItems(boardId, items);
+      commentCount += flushComments(boardId, comments);
+
+      // Rows were written with JDBC, so the search index and stage count listeners never saw them
+      boardStatsRepository.recompute(List.of(boardId));
+      searchReindexer.reindexBoardAfterCommit(boardId);
+      log.info("Imported board {} with {} items and {} comments", boardId, itemCount, commentCount);
+      return boardBatchMapper.toResponseDto(boardRepository.findById(boardId).orElseThrow());
+    }
+  }
+
+  private UUID importBoardLine(BoardLine board) {
+    if (board.id() == null || board.title() == null || board.title().isBlank() || board.boardType() == null) {
+      throw new IllegalArgumentException("Board line needs an id, title and boardType");
+    }
+    if (boardRepository.existsById(board.id())) {
+      throw new DuplicateResourceException("Board already exists with id: " + board.id());
+    }
+
+    boardImportRepository.insertBoard(board);
+    syncIfPresent(Association.BOARD_OWNERS, board.id(), board.ownerIds());
+    syncIfPresent(Association.BOARD_MEMBERS, board.id(), board.memberIds());
+    boardAccessService.refreshBoard(board.id());
+    syncIfPresent(Association.BOARD_ROLES, board.id(), board.roleIds());
+    syncIfPresent(Association.BOARD_SKILLS, board.id(), board.skillIds());
+    return board.id();
+  }
+
+  private void syncIfPresent(Association association, UUID boardId, Set<UUID> targetIds) {
+    if (targetIds != null && !targetIds.isEmpty()) {
+      joinTableSync.sync(association, boardId, targetIds);
+    }
+  }
+
+  private static BoardItemLine validate(BoardItemLine item) {
+    if (item.id() == null || item.ownerId() == null || item.title() == null) {
+      throw new IllegalArgumentException("Item line needs an id, ownerId and title");
+    }
+    boolean valid = switch (String.valueOf(item.type())) {
+      case "TASK" -> item.taskStage() != null && item.studyStage() == null;
+      case "STUDY" -> item.studyStage() != null && item.taskStage() == null;
+      default -> false;
+    };
+    if (!valid) {
+      throw new IllegalArgumentException("Item " + item.id() + " must be a TASK with a taskStage or a STUDY with a studyStage");
+    }
+    return item;
+  }
+
+  private int flushItems(UUID boardId, List<BoardItemLine> items) {
+    int count = items.size();
+    boardImportRepository.insertItems(boardId, items);
+    items.clear();
+    return count;
+  }
+
+  private int flushComments(UUID boardId, List<CommentLine> comments) {
+    if (comments.isEmpty()) return 0;
+
+    // Comments may only point at items of the board being imported
+    Set<UUID> itemIds = new HashSet<>();
+    comments.forEach(comment -> itemIds.add(comment.boardItemId()));
+    if (itemIds.contains(null) || boardRepository.countItemsOnBoard(boardId, itemIds) != itemIds.size()) {
+      throw new IllegalArgumentException("Comments reference items that are not on board " + boardId);
+    }
+
+    int count = comments.size();
+    boardImportRepository.insertComments(comments);
+    comments.clear();
+    return count;
+  }
+
+  private BoardLine toBoardLine(Board board) {
+    UUID id = board.getId();
+    return new BoardLine(id, board.getVersion(), board.getCreatedAt(), board.getUpdatedAt(), board.getTitle(),
+        board.getDescription(), board.getBoardType(), board.isVisible(), board.getItemOrdering(),
+        joinTableSync.findTargetIds(Association.BOARD_OWNERS, id),
+        joinTableSync.findTargetIds(Association.BOARD_MEMBERS, id),
+        joinTableSync.findTargetIds(Association.BOARD_ROLES, id),
+        joinTableSync.findTargetIds(Association.BOARD_SKILLS, id));
+  }
+
+  /**
+   * Walks tag rows alongside comments. Both queries are ordered by comment ID, so the tags of each
+   * comment are the run of rows at the head of the cursor.
+   */
+  private static final class TagCursor {
+
+    private final Iterator<CommentTagRow> rows;
+    private CommentTagRow next;
+
+    TagCursor(Iterator<CommentTagRow> rows) {
+      this.rows = rows;
+      this.next = rows.hasNext() ? rows.next() : null;
+    }
+
+    Set<String> tagsOf(UUID commentId) {
+      Set<String> tags = null;
+      while (next != null && next.commentId().equals(commentId)) {
+        if (tags == null) {
+          tags = new LinkedHashSet<>();
+        }
+        tags.add(next.tag());
+        next = rows.hasNext() ? rows.next() : null;
+      }
+      return tags;
+    }
+  }
+}
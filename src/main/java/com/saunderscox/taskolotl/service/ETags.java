@@ -0,0 +1,96 @@
+package com.saunderscox.taskolotl.service;
+
+import com.saunderscox.taskolotl.dto.BaseResponse;
+import com.saunderscox.taskolotl.entity.BaseEntity;
+import com.saunderscox.taskolotl.exception.PreconditionFailedException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+
+/**
+ * Strong entity tags derived from {@link BaseEntity} versions. A single entity's tag changes whenever
+ * its version does; a page's tag covers the IDs and versions of its content along with the paging
+ * parameters and total count, so it changes when any entity on the page changes or the page shifts.
+ * Changes that should invalidate an owner's tag, such as join-table writes, must touch the owner.
+ */
+public final class ETags {
+
+  private static final String WILDCARD = "*";
+  private static final String WEAK_PREFIX = "W/";
+
+  private ETags() {
+  }
+
+  public static String of(UUID id, Integer version) {
+    return "\"" + id + "." + version + "\"";
+  }
+
+  public static String of(BaseResponse response) {
+    return of(response.getId(), response.getVersion());
+  }
+
+  public static String of(Page<? extends BaseEntity> page) {
+    MessageDigest digest = sha256();
+    update(digest, page.getNumber() + "/" + page.getSize() + "/" + page.getTotalElements() + "/" + page.getSort());
+    for (BaseEntity entity : page.getContent()) {
+      update(digest, entity.getId() + "." + entity.getVersion());
+    }
+    byte[] hash = Arrays.copyOf(digest.digest(), 16);
+    return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+  }
+
+  /**
+   * Whether an {@code If-None-Match} header lists the tag, using weak comparison as RFC 9110 requires.
+   *
+   * @param ifNoneMatch the header value, may be null
+   * @param eTag        the current tag
+   * @return true if the client's copy is current
+   */
+  public static boolean matches(String ifNoneMatch, String eTag) {
+    if (ifNoneMatch == null) return false;
+
+    for (String candidate : ifNoneMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.equals(WILDCARD) || stripWeak(tag).equals(eTag)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Checks an {@code If-Match} header with strong comparison. A missing header passes.
+   *
+   * @param ifMatch the header value, may be null
+   * @param eTag    the current tag
+   * @throws PreconditionFailedException if the header does not list the current tag
+   */
+  public static void requireMatch(String ifMatch, String eTag) {
+    if (ifMatch == null) return;
+
+    for (String candidate : ifMatch.split(",")) {
+      String tag = candidate.trim();
+      if (tag.equals(WILDCARD) || tag.equals(eTag)) return;
+    }
+    throw new PreconditionFailedException("Resource has changed; current ETag is " + eTag);
+  }
+
+  private static String stripWeak(String tag) {
+    return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+  }
+
+  private static void update(MessageDigest digest, String value) {
+    digest.update(value.getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) 0);
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+}
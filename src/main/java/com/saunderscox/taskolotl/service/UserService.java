@@ -1,18 +1,22 @@
 package com.saunderscox.taskolotl.service;
 
+import com.saunderscox.taskolotl.dto.Conditional;
+import com.saunderscox.taskolotl.dto.CursorPage;
 import com.saunderscox.taskolotl.dto.UserCreateRequest;
 import com.saunderscox.taskolotl.dto.UserResponse;
 import com.saunderscox.taskolotl.dto.UserUpdateRequest;
-import com.saunderscox.taskolotl.entity.Role;
-import com.saunderscox.taskolotl.entity.Skill;
+import com.saunderscox.taskolotl.entity.Permission;
 import com.saunderscox.taskolotl.entity.User;
 import com.saunderscox.taskolotl.exception.ResourceNotFoundException;
 import com.saunderscox.taskolotl.mapper.UserMapper;
+import com.saunderscox.taskolotl.repository.JoinTableSync;
+import com.saunderscox.taskolotl.repository.JoinTableSync.Association;
 import com.saunderscox.taskolotl.repository.RoleRepository;
 import com.saunderscox.taskolotl.repository.SkillRepository;
 import com.saunderscox.taskolotl.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -21,6 +25,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -33,7 +38,9 @@ public class UserService {
   private final UserRepository userRepository;
   private final SkillRepository skillRepository;
   private final RoleRepository roleRepository;
+  private final JoinTableSync joinTableSync;
   private final UserMapper userMapper;
+  private final BoardAccessService boardAccessService;
 
   public boolean isCurrentUser(UUID userId) {
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -41,10 +48,33 @@ public class UserService {
     return currentUserId.equals(userId);
   }
 
-  public Page<UserResponse> getAllUsers(Pageable pageable) {
+  public Conditional<Page<UserResponse>> getAllUsers(Pageable pageable, String ifNoneMatch) {
     log.debug("Fetching all users");
-    return userRepository.findAll(pageable)
-        .map(userMapper::toResponseDto);
+    return toConditionalPage(userRepository.findAll(pageable), ifNoneMatch);
+  }
+
+  public CursorPage<UserResponse> scrollUsers(String cursor, int size) {
+    log.debug("Scrolling users: size={}", size);
+    return CursorPage.of(
+        userRepository.findAllByOrderByCreatedAtAscIdAsc(CursorPage.toScrollPosition(cursor), Limit.of(size)),
+        userMapper::toResponseDtoList);
+  }
+
+  /**
+   * Current entity tag of a user, read without loading the user.
+   */
+  public String getUserETag(UUID id) {
+    return userRepository.findVersionById(id)
+        .map(version -> ETags.of(id, version))
+        .orElseThrow(() -> new ResourceNotFoundException(USER_NOT_FOUND_WITH_ID + id));
+  }
+
+  /**
+   * Current permission of a user, read without loading the user.
+   */
+  public Permission getPermission(UUID id) {
+    return userRepository.findPermissionById(id)
+        .orElseThrow(() -> new ResourceNotFoundException(USER_NOT_FOUND_WITH_ID + id));
   }
 
   public UserResponse getUserById(UUID id) {
@@ -83,11 +113,12 @@ public class UserService {
     return userMapper.toResponseDto(savedUser);
   }
 
-  public UserResponse updateUser(UUID id, UserUpdateRequest dto) {
+  public UserResponse updateUser(UUID id, UserUpdateRequest dto, String ifMatch) {
     log.info("Updating user with ID: {}", id);
 
     User user = userRepository.findById(id)
         .orElseThrow(() -> new ResourceNotFoundException(USER_NOT_FOUND_WITH_ID + id));
+    ETags.requireMatch(ifMatch, ETags.of(id, user.getVersion()));
 
     if (dto.getUsername() != null) {
       userRepository.findByUsernameIgnoreCase(dto.getUsername())
@@ -100,7 +131,13 @@ public class UserService {
     }
 
     userMapper.updateEntityFromDto(dto, user);
-    User updatedUser = userRepository.save(user);
+    boolean relationsChanged = syncRelation(Association.USER_SKILLS, id, dto.getSkillIds())
+        | syncRelation(Association.USER_ROLES, id, dto.getRoleIds());
+    if (relationsChanged) {
+      user.touch();
+    }
+    // Flush so the response carries the incremented version
+    User updatedUser = userRepository.saveAndFlush(user);
     log.info("User updated successfully: {}", updatedUser.getUsername());
     return userMapper.toResponseDto(updatedUser);
   }
@@ -113,16 +150,33 @@ public class UserService {
     }
 
     userRepository.deleteById(id);
+    boardAccessService.evictUser(id);
     log.info("User deleted successfully");
   }
 
-  public Page<UserResponse> searchUsers(String query, Pageable pageable) {
+  public Conditional<Page<UserResponse>> searchUsers(String query, Pageable pageable, String ifNoneMatch) {
     log.debug("Searching users with query: {} and pagination: page={}, size={}",
         query, pageable.getPageNumber(), pageable.getPageSize());
 
-    return userRepository
-        .findByUsernameContainingIgnoreCaseOrEmailContainingIgnoreCase(query, query, pageable)
-        .map(userMapper::toResponseDto);
+    return toConditionalPage(
+        userRepository.findByUsernameContainingIgnoreCaseOrEmailContainingIgnoreCase(query, query, pageable),
+        ifNoneMatch);
+  }
+
+  private Conditional<Page<UserResponse>> toConditionalPage(Page<User> users, String ifNoneMatch) {
+    String eTag = ETags.of(users);
+    if (ETags.matches(ifNoneMatch, eTag)) {
+      return Conditional.notModified(eTag);
+    }
+    return Conditional.of(eTag, users.map(userMapper::toResponseDto));
+  }
+
+  public CursorPage<UserResponse> scrollSearchUsers(String query, String cursor, int size) {
+    log.debug("Scrolling users with query: {}, size={}", query, size);
+    return CursorPage.of(
+        userRepository.findByUsernameContainingIgnoreCaseOrEmailContainingIgnoreCaseOrderByCreatedAtAscIdAsc(
+            query, query, CursorPage.toScrollPosition(cursor), Limit.of(size)),
+        userMapper::toResponseDtoList);
   }
 
   public UserResponse addSkillToUser(UUID userId, UUID skillId) {
@@ -131,13 +185,13 @@ public class UserService {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new ResourceNotFoundException(USER_NOT_FOUND_WITH_ID + userId));
 
-    Skill skill = skillRepository.findById(skillId)
-        .orElseThrow(() -> new ResourceNotFoundException("Skill not found with id: " + skillId));
+    // A lookup by ID is answered from the second-level cache; existsById always queries
+    if (skillRepository.findById(skillId).isEmpty()) {
+      throw new ResourceNotFoundException("Skill not found with id: " + skillId);
+    }
 
-    user.addSkill(skill);
-    User updatedUser = userRepository.save(user);
-    log.info("Skill added successfully to user");
-    return userMapper.toResponseDto(updatedUser);
+    return saveLinkChange(user, joinTableSync.link(Association.USER_SKILLS, userId, skillId),
+        "Skill added successfully to user");
   }
 
   public UserResponse removeSkillFromUser(UUID userId, UUID skillId) {
@@ -146,10 +200,8 @@ public class UserService {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new ResourceNotFoundException(USER_NOT_FOUND_WITH_ID + userId));
 
-    skillRepository.findById(skillId).ifPresent(user::removeSkill);
-    User updatedUser = userRepository.save(user);
-    log.info("Skill removed successfully from user");
-    return userMapper.toResponseDto(updatedUser);
+    return saveLinkChange(user, joinTableSync.unlink(Association.USER_SKILLS, userId, skillId),
+        "Skill removed successfully from user");
   }
 
   public UserResponse addRoleToUser(UUID userId, UUID roleId) {
@@ -158,13 +210,12 @@ public class UserService {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new ResourceNotFoundException(USER_NOT_FOUND_WITH_ID + userId));
 
-    Role role = roleRepository.findById(roleId)
-        .orElseThrow(() -> new ResourceNotFoundException("Role not found with id: " + roleId));
+    if (roleRepository.findById(roleId).isEmpty()) {
+      throw new ResourceNotFoundException("Role not found with id: " + roleId);
+    }
 
-    user.addRole(role);
-    User updatedUser = userRepository.save(user);
-    log.info("Role added successfully to user");
-    return userMapper.toResponseDto(updatedUser);
+    return saveLinkChange(user, joinTableSync.link(Association.USER_ROLES, userId, roleId),
+        "Role added successfully to user");
   }
 
   public UserResponse removeRoleFromUser(UUID userId, UUID roleId) {
@@ -173,9 +224,20 @@ public class UserService {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new ResourceNotFoundException(USER_NOT_FOUND_WITH_ID + userId));
 
-    roleRepository.findById(roleId).ifPresent(user::removeRole);
+    return saveLinkChange(user, joinTableSync.unlink(Association.USER_ROLES, userId, roleId),
+        "Role removed successfully from user");
+  }
+
+  private boolean syncRelation(Association association, UUID userId, Set<UUID> targetIds) {
+    return targetIds != null && joinTableSync.sync(association, userId, targetIds);
+  }
+
+  private UserResponse saveLinkChange(User user, boolean changed, String message) {
+    if (changed) {
+      user.touch();
+    }
     User updatedUser = userRepository.save(user);
-    log.info("Role removed successfully from user");
+    log.info(message);
     return userMapper.toResponseDto(updatedUser);
   }
 
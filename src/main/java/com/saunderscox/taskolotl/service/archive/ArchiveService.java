@@ -0,0 +1,312 @@
+package com.saunderscox.taskolotl.service.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saunderscox.taskolotl.config.archive.ArchiveProps;
+import com.saunderscox.taskolotl.config.cache.CacheNames;
+import com.saunderscox.taskolotl.dto.ArchiveEntryResponse;
+import com.saunderscox.taskolotl.dto.BoardChangeType;
+import com.saunderscox.taskolotl.dto.BoardItemLine;
+import com.saunderscox.taskolotl.dto.CommentLine;
+import com.saunderscox.taskolotl.dto.SearchResultType;
+import com.saunderscox.taskolotl.entity.ArchiveEntry;
+import com.saunderscox.taskolotl.entity.ArchiveEntryType;
+import com.saunderscox.taskolotl.entity.TombstoneType;
+import com.saunderscox.taskolotl.exception.ResourceNotFoundException;
+import com.saunderscox.taskolotl.repository.ArchiveEntryRepository;
+import com.saunderscox.taskolotl.repository.BoardArchiveRepository;
+import com.saunderscox.taskolotl.repository.BoardImportRepository;
+import com.saunderscox.taskolotl.repository.BoardRelationId;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.BoardStatsRepository;
+import com.saunderscox.taskolotl.repository.CommentRepository;
+import com.saunderscox.taskolotl.repository.CommentTagRow;
+import com.saunderscox.taskolotl.repository.TaskRepository;
+import com.saunderscox.taskolotl.service.events.BoardChangeEvent;
+import com.saunderscox.taskolotl.service.search.SearchIndexService;
+import com.saunderscox.taskolotl.service.sync.TombstoneListener;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Archive tier for completed tasks and old comments.
+ * <ul>
+ *   <li>A background job moves tasks completed longer than {@code app.archive.completed-task-age} ago,
+ *   with their comments, and comments untouched for {@code app.archive.comment-age}, into
+ *   {@code archive_entries} as gzipped JSON</li>
+ *   <li>It works in small transactions with a pause between them and a cap per run</li>
+ *   <li>Archived rows leave tombstones for delta sync and are dropped from the search index; the
+ *   archive itself is listed and searched by title per board</li>
+ *   <li>Restoring an entry puts its rows back with their original IDs</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArchiveService {
+
+  private final ArchiveProps archiveProps;
+  private final ArchiveEntryRepository archiveEntryRepository;
+  private final BoardArchiveRepository boardArchiveRepository;
+  private final BoardImportRepository boardImportRepository;
+  private final BoardStatsRepository boardStatsRepository;
+  private final BoardRepository boardRepository;
+  private final TaskRepository taskRepository;
+  private final CommentRepository commentRepository;
+  private final TombstoneListener tombstoneListener;
+  private final SearchIndexService searchIndexService;
+  private final CacheManager cacheManager;
+  private final ObjectMapper objectMapper;
+  private final PlatformTransactionManager transactionManager;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @Scheduled(fixedDelayString = "${app.archive.interval:PT1H}", initialDelayString = "${app.archive.interval:PT1H}")
+  public void archiveStale() {
+    if (!archiveProps.isEnabled()) return;
+
+    Instant now = Instant.now();
+    int tasks = runBatches(() -> archiveCompletedTasks(now.minus(archiveProps.getCompletedTaskAge())));
+    int comments = runBatches(() -> archiveComments(now.minus(archiveProps.getCommentAge())));
+    if (tasks + comments > 0) {
+      log.info("Archived {} completed tasks and {} old comments", tasks, comments);
+    }
+  }
+
+  /**
+   * Archives one batch of tasks completed before the cutoff, each with its comments.
+   *
+   * @return the number of tasks archived
+   */
+  @Transactional
+  public int archiveCompletedTasks(Instant cutoff) {
+    List<BoardRelationId> candidates = taskRepository.findArchivable(cutoff, batch());
+    if (candidates.isEmpty()) return 0;
+
+    Map<UUID, UUID> boardIds = toBoardIdsByRelatedId(candidates);
+    Map<UUID, List<CommentLine>> commentsByItem =
+        withTags(commentRepository.findLinesByBoardItemIds(boardIds.keySet())).stream()
+            .collect(Collectors.groupingBy(CommentLine::boardItemId));
+
+    Instant now = Instant.now();
+    List<ArchiveEntry> entries = new ArrayList<>(candidates.size());
+    for (BoardItemLine item : boardRepository.findExportLinesByIds(boardIds.keySet())) {
+      ArchivedItem archived = new ArchivedItem(item, commentsByItem.getOrDefault(item.id(), List.of()));
+      entries.add(new ArchiveEntry(item.id(), boardIds.get(item.id()), item.id(), ArchiveEntryType.BOARD_ITEM,
+          item.title(), now, compress(archived)));
+    }
+
+    boardArchiveRepository.insertEntries(entries);
+    boardArchiveRepository.deleteItems(boardIds.keySet());
+    boardIds.forEach((itemId, boardId) -> {
+      tombstoneListener.record(itemId, boardId, TombstoneType.BOARD_ITEM);
+      searchIndexService.deleteBoardItem(itemId);
+    });
+    Set<UUID> touchedBoardIds = new HashSet<>(boardIds.values());
+    boardStatsRepository.recompute(touchedBoardIds);
+    touchBoards(touchedBoardIds);
+    publishArchived(boardIds);
+    return entries.size();
+  }
+
+  /**
+   * Archives one batch of comments not updated since the cutoff.
+   *
+   * @return the number of comments archived
+   */
+  @Transactional
+  public int archiveComments(Instant cutoff) {
+    List<BoardRelationId> candidates = commentRepository.findArchivable(cutoff, batch());
+    if (candidates.isEmpty()) return 0;
+
+    Map<UUID, UUID> boardIds = toBoardIdsByRelatedId(candidates);
+    Instant now = Instant.now();
+    List<ArchiveEntry> entries = withTags(commentRepository.findLinesByIds(boardIds.keySet())).stream()
+        .map(comment -> new ArchiveEntry(comment.id(), boardIds.get(comment.id()), comment.boardItemId(),
+            ArchiveEntryType.COMMENT, titleOf(comment), now, compress(comment)))
+        .toList();
+
+    boardArchiveRepository.insertEntries(entries);
+    boardArchiveRepository.deleteComments(boardIds.keySet());
+    boardIds.forEach((commentId, boardId) -> {
+      tombstoneListener.record(commentId, boardId, TombstoneType.COMMENT);
+      searchIndexService.delete(commentId);
+    });
+    // Subscribers refetch the items whose comments went
+    publishArchived(entries.stream()
+        .collect(Collectors.toMap(ArchiveEntry::getBoardItemId, ArchiveEntry::getBoardId, (first, second) -> first)));
+    return entries.size();
+  }
+
+  @Transactional(readOnly = true)
+  public Page<ArchiveEntryResponse> getArchive(UUID boardId, String query, Pageable pageable) {
+    return query == null || query.isBlank()
+        ? archiveEntryRepository.findResponsesByBoardId(boardId, pageable)
+        : archiveEntryRepository.searchResponsesByBoardId(boardId, query.strip(), pageable);
+  }
+
+  /**
+   * Moves an archived item, with its comments, or an archived comment back onto its board. Restored
+   * rows keep their IDs and are stamped as updated now.
+   *
+   * @param boardId the board the entry was archived from
+   * @param entryId the archive entry ID, which is the original row's ID
+   * @throws ResourceNotFoundException if there is no such entry, or a comment's item is not on the board
+   */
+  @Transactional
+  public void restore(UUID boardId, UUID entryId) {
+    ArchiveEntry entry = archiveEntryRepository.findByIdAndBoardId(entryId, boardId)
+        .orElseThrow(() -> new ResourceNotFoundException("Archive entry not found with id: " + entryId));
+
+    switch (entry.getEntryType()) {
+      case BOARD_ITEM -> restoreItem(boardId, decompress(entry.getPayload(), ArchivedItem.class));
+      case COMMENT -> restoreComment(boardId, decompress(entry.getPayload(), CommentLine.class));
+    }
+    archiveEntryRepository.delete(entry);
+    touchBoards(Set.of(boardId));
+    eventPublisher.publishEvent(
+        BoardChangeEvent.of(boardId, BoardChangeType.ITEMS_RESTORED, entry.getBoardItemId()));
+    log.info("Restored archived {} {} on board {}", entry.getEntryType(), entryId, boardId);
+  }
+
+  private void restoreItem(UUID boardId, ArchivedItem archived) {
+    BoardItemLine item = archived.item();
+    List<UUID> commentIds = archived.comments().stream().map(CommentLine::id).toList();
+
+    boardImportRepository.insertItems(boardId, List.of(item));
+    boardImportRepository.insertComments(archived.comments());
+    boardArchiveRepository.touchRestored(List.of(item.id()), commentIds);
+    boardStatsRepository.recompute(List.of(boardId));
+
+    // Rows were written with JDBC, so the search index listener never saw them
+    searchIndexService.index(SearchResultType.valueOf(item.type()), item.id());
+    indexComments(commentIds);
+  }
+
+  private void restoreComment(UUID boardId, CommentLine comment) {
+    if (boardRepository.countItemsOnBoard(boardId, List.of(comment.boardItemId())) == 0) {
+      throw new ResourceNotFoundException("Board item not found with id: " + comment.boardItemId()
+          + "; restore it from the archive first");
+    }
+
+    boardImportRepository.insertComments(List.of(comment));
+    boardArchiveRepository.touchRestored(List.of(), List.of(comment.id()));
+    indexComments(List.of(comment.id()));
+  }
+
+  private void indexComments(List<UUID> commentIds) {
+    commentIds.forEach(commentId -> searchIndexService.index(SearchResultType.COMMENT, commentId));
+  }
+
+  private int runBatches(IntSupplier batch) {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    int total = 0;
+    for (int i = 0; i < archiveProps.getMaxBatchesPerRun(); i++) {
+      int archived = Objects.requireNonNull(transaction.execute(status -> batch.getAsInt()));
+      total += archived;
+      if (archived < archiveProps.getBatchSize() || !pause()) break;
+    }
+    return total;
+  }
+
+  private boolean pause() {
+    try {
+      Thread.sleep(archiveProps.getBatchPause());
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private Pageable batch() {
+    return PageRequest.of(0, archiveProps.getBatchSize());
+  }
+
+  private void touchBoards(Set<UUID> boardIds) {
+    // Board responses list item IDs, so their ETags and cached copies must change
+    boardArchiveRepository.touchBoards(boardIds);
+    Cache boards = cacheManager.getCache(CacheNames.BOARDS);
+    if (boards != null) {
+      boardIds.forEach(boards::evict);
+    }
+  }
+
+  private void publishArchived(Map<UUID, UUID> boardIdsByItemId) {
+    boardIdsByItemId.entrySet().stream()
+        .collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+        .forEach((boardId, itemIds) ->
+            eventPublisher.publishEvent(new BoardChangeEvent(boardId, BoardChangeType.ITEMS_ARCHIVED, itemIds)));
+  }
+
+  private List<CommentLine> withTags(List<CommentLine> comments) {
+    if (comments.isEmpty()) return comments;
+
+    Map<UUID, Set<String>> tags = new HashMap<>();
+    List<UUID> commentIds = comments.stream().map(CommentLine::id).toList();
+    for (CommentTagRow row : commentRepository.findTagsByCommentIds(commentIds)) {
+      tags.computeIfAbsent(row.commentId(), id -> new HashSet<>()).add(row.tag());
+    }
+    return comments.stream()
+        .map(comment -> comment.withTags(tags.getOrDefault(comment.id(), Set.of())))
+        .toList();
+  }
+
+  private static Map<UUID, UUID> toBoardIdsByRelatedId(List<BoardRelationId> relationIds) {
+    return relationIds.stream()
+        .collect(Collectors.toMap(BoardRelationId::getRelatedId, BoardRelationId::getBoardId));
+  }
+
+  private static String titleOf(CommentLine comment) {
+    String description = comment.description();
+    return description.length() <= ArchiveEntry.TITLE_LENGTH
+        ? description
+        : description.substring(0, ArchiveEntry.TITLE_LENGTH - 1) + "…";
+  }
+
+  private byte[] compress(Object payload) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (OutputStream out = new GZIPOutputStream(bytes)) {
+      objectMapper.writeValue(out, payload);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  private <T> T decompress(byte[] payload, Class<T> type) {
+    try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+      return objectMapper.readValue(in, type);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,11 @@
+package com.saunderscox.taskolotl.service.archive;
+
+import com.saunderscox.taskolotl.dto.BoardItemLine;
+import com.saunderscox.taskolotl.dto.CommentLine;
+import java.util.List;
+
+/**
+ * Payload of an archived board item: the item and the comments it had, in export line form.
+ */
+record ArchivedItem(BoardItemLine item, List<CommentLine> comments) {
+}
@@ -0,0 +1,20 @@
+package com.saunderscox.taskolotl.service.events;
+
+import com.saunderscox.taskolotl.dto.BoardChangeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published by board writes inside their transaction; delivered to subscribers only once it commits.
+ */
+public record BoardChangeEvent(UUID boardId, BoardChangeType type, Collection<UUID> boardItemIds) {
+
+  public static BoardChangeEvent of(UUID boardId, BoardChangeType type) {
+    return new BoardChangeEvent(boardId, type, List.of());
+  }
+
+  public static BoardChangeEvent of(UUID boardId, BoardChangeType type, UUID boardItemId) {
+    return new BoardChangeEvent(boardId, type, List.of(boardItemId));
+  }
+}
@@ -0,0 +1,227 @@
+package com.saunderscox.taskolotl.service.events;
+
+import com.saunderscox.taskolotl.config.events.BoardEventProps;
+import com.saunderscox.taskolotl.dto.BoardChangeType;
+import com.saunderscox.taskolotl.dto.BoardChanges;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes committed board changes to server-sent event subscribers.
+ * <ul>
+ *   <li>Changes to a board are coalesced over a short window and sent as one {@code changes} event</li>
+ *   <li>Each subscriber has a bounded buffer drained by its own virtual thread, so a slow client only
+ *   holds up itself</li>
+ *   <li>A subscriber whose buffer fills has it dropped and gets a single {@code resync} event, after
+ *   which the client should refetch the board</li>
+ *   <li>Deleting a board sends its final changes and closes its subscriptions</li>
+ * </ul>
+ * Subscriptions are held in memory, so each instance only sees changes committed on it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoardEventBroadcaster {
+
+  private static final String CHANGES_EVENT = "changes";
+  private static final String RESYNC_EVENT = "resync";
+
+  private final BoardEventProps boardEventProps;
+  private final TaskScheduler taskScheduler;
+
+  private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+  private final Map<UUID, PendingChanges> pending = new ConcurrentHashMap<>();
+
+  /**
+   * Opens a subscription to a board's changes. Access to the board is not checked here; the
+   * controller's {@code @PreAuthorize} does that.
+   */
+  public SseEmitter subscribe(UUID boardId) {
+    SseEmitter emitter = createEmitter(boardEventProps.getEmitterTimeout().toMillis());
+    Subscriber subscriber = new Subscriber(boardId, emitter, boardEventProps.getSubscriberBuffer());
+
+    subscribers.compute(boardId, (id, boardSubscribers) -> {
+      Set<Subscriber> result = boardSubscribers != null ? boardSubscribers : ConcurrentHashMap.newKeySet();
+      result.add(subscriber);
+      return result;
+    });
+    emitter.onCompletion(() -> unsubscribe(subscriber));
+    emitter.onTimeout(emitter::complete);
+    emitter.onError(e -> unsubscribe(subscriber));
+
+    subscriber.start();
+    log.debug("Subscribed to board {} events", boardId);
+    return emitter;
+  }
+
+  /**
+   * Creates the emitter of a new subscription; tests override it to stand in for a slow client.
+   */
+  protected SseEmitter createEmitter(long timeoutMillis) {
+    return new SseEmitter(timeoutMillis);
+  }
+
+  public int subscriberCount(UUID boardId) {
+    Set<Subscriber> boardSubscribers = subscribers.get(boardId);
+    return boardSubscribers == null ? 0 : boardSubscribers.size();
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onBoardChange(BoardChangeEvent event) {
+    UUID boardId = event.boardId();
+    if (!subscribers.containsKey(boardId)) return;
+
+    // Adding inside compute keeps it atomic with the flush removing the entry
+    pending.compute(boardId, (id, changes) -> {
+      if (changes == null) {
+        changes = new PendingChanges();
+        taskScheduler.schedule(() -> flush(boardId), Instant.now().plus(boardEventProps.getCoalesceWindow()));
+      }
+      changes.add(event);
+      return changes;
+    });
+  }
+
+  @Scheduled(fixedDelayString = "${app.board-events.heartbeat-interval:PT15S}")
+  public void sendHeartbeats() {
+    subscribers.values().forEach(boardSubscribers ->
+        boardSubscribers.forEach(subscriber -> subscriber.offerIfRoom(Message.HEARTBEAT)));
+  }
+
+  @PreDestroy
+  void close() {
+    subscribers.values().forEach(boardSubscribers -> boardSubscribers.forEach(Subscriber::close));
+    subscribers.clear();
+  }
+
+  private void flush(UUID boardId) {
+    PendingChanges changes = pending.remove(boardId);
+    Set<Subscriber> boardSubscribers = subscribers.get(boardId);
+    if (changes == null || boardSubscribers == null) return;
+
+    Message message = new Message(CHANGES_EVENT, changes.toDto(boardId));
+    boolean deleted = changes.types.contains(BoardChangeType.BOARD_DELETED);
+    for (Subscriber subscriber : boardSubscribers) {
+      subscriber.offer(message);
+      if (deleted) {
+        subscriber.offer(Message.COMPLETE);
+      }
+    }
+  }
+
+  private void unsubscribe(Subscriber subscriber) {
+    subscriber.close();
+    subscribers.computeIfPresent(subscriber.boardId, (id, boardSubscribers) -> {
+      boardSubscribers.remove(subscriber);
+      return boardSubscribers.isEmpty() ? null : boardSubscribers;
+    });
+  }
+
+  private static final class PendingChanges {
+
+    private final Set<BoardChangeType> types = EnumSet.noneOf(BoardChangeType.class);
+    private final Set<UUID> boardItemIds = new LinkedHashSet<>();
+
+    void add(BoardChangeEvent event) {
+      types.add(event.type());
+      boardItemIds.addAll(event.boardItemIds());
+    }
+
+    BoardChanges toDto(UUID boardId) {
+      return new BoardChanges(boardId, Set.copyOf(types), Set.copyOf(boardItemIds));
+    }
+  }
+
+  /**
+   * An event waiting to be sent. Builders are created per send because they cannot be reused.
+   */
+  private record Message(String name, Object data) {
+
+    static final Message HEARTBEAT = new Message(null, "heartbeat");
+    static final Message COMPLETE = new Message(null, null);
+
+    SseEmitter.SseEventBuilder toEvent() {
+      return name == null ? SseEmitter.event().comment(data.toString()) : SseEmitter.event().name(name).data(data);
+    }
+  }
+
+  private final class Subscriber {
+
+    private final UUID boardId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Message> queue;
+    private volatile Thread sender;
+    private volatile boolean closed;
+
+    Subscriber(UUID boardId, SseEmitter emitter, int capacity) {
+      this.boardId = boardId;
+      this.emitter = emitter;
+      this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    void start() {
+      sender = Thread.ofVirtual().name("board-events-" + boardId).start(this::drain);
+    }
+
+    synchronized void offer(Message message) {
+      if (closed || queue.offer(message)) return;
+
+      log.debug("Subscriber to board {} fell behind; dropping {} events", boardId, queue.size());
+      queue.clear();
+      queue.offer(new Message(RESYNC_EVENT, boardId));
+      if (message == Message.COMPLETE) {
+        queue.offer(message);
+      }
+    }
+
+    synchronized void offerIfRoom(Message message) {
+      if (!closed) {
+        queue.offer(message);
+      }
+    }
+
+    void close() {
+      closed = true;
+      Thread thread = sender;
+      if (thread != null && thread != Thread.currentThread()) {
+        thread.interrupt();
+      }
+    }
+
+    private void drain() {
+      try {
+        while (!closed) {
+          Message message = queue.take();
+          if (message == Message.COMPLETE) {
+            emitter.complete();
+            return;
+          }
+          emitter.send(message.toEvent());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (IOException | IllegalStateException e) {
+        // The client went away or the emitter already completed
+        log.debug("Closing subscription to board {}: {}", boardId, e.getMessage());
+        unsubscribe(this);
+      }
+    }
+  }
+}
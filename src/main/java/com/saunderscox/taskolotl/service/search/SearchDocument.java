@@ -0,0 +1,57 @@
+package com.saunderscox.taskolotl.service.search;
+
+import com.saunderscox.taskolotl.dto.SearchResultType;
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardItem;
+import com.saunderscox.taskolotl.entity.Comment;
+import com.saunderscox.taskolotl.entity.Study;
+import com.saunderscox.taskolotl.entity.Task;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Searchable snapshot of an entity. Built inside a persistence context, by
+ * {@link SearchDocumentLoader} after a change commits or by {@link SearchReindexer}, so writing it
+ * to the index never touches lazy associations.
+ *
+ * @param type        the entity kind
+ * @param id          the entity ID
+ * @param boardId     the board the entity belongs to (its own ID for boards)
+ * @param boardItemId the item the entity belongs to (its own ID for items, null for boards)
+ * @param title       the title, if the entity has one
+ * @param text        the remaining searchable text
+ */
+public record SearchDocument(
+    SearchResultType type, UUID id, UUID boardId, UUID boardItemId, String title, String text) {
+
+  public static SearchDocument of(Board board) {
+    return new SearchDocument(SearchResultType.BOARD, board.getId(), board.getId(), null,
+        board.getTitle(), board.getDescription());
+  }
+
+  public static SearchDocument of(BoardItem item) {
+    if (item instanceof Study study) {
+      return new SearchDocument(SearchResultType.STUDY, study.getId(), study.getBoard().getId(), study.getId(),
+          study.getTitle(), join(study.getDescription(), study.getResources()));
+    }
+    if (item instanceof Task task) {
+      return new SearchDocument(SearchResultType.TASK, task.getId(), task.getBoard().getId(), task.getId(),
+          task.getTitle(), task.getDescription());
+    }
+    throw new IllegalArgumentException("Unsupported board item type: " + item.getClass().getName());
+  }
+
+  public static SearchDocument of(Comment comment) {
+    BoardItem item = comment.getBoardItem();
+    return new SearchDocument(SearchResultType.COMMENT, comment.getId(), item.getBoard().getId(), item.getId(),
+        null, join(comment.getDescription(), String.join(" ", comment.getTags())));
+  }
+
+  private static String join(String... parts) {
+    return Stream.of(parts)
+        .filter(Objects::nonNull)
+        .collect(Collectors.joining("\n"));
+  }
+}
@@ -0,0 +1,81 @@
+package com.saunderscox.taskolotl.service.search;
+
+import com.saunderscox.taskolotl.config.search.SearchProps;
+import com.saunderscox.taskolotl.dto.SearchResultType;
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.Comment;
+import com.saunderscox.taskolotl.entity.Study;
+import com.saunderscox.taskolotl.entity.Task;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.CommentRepository;
+import com.saunderscox.taskolotl.repository.StudyRepository;
+import com.saunderscox.taskolotl.repository.TaskRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Builds search documents from committed rows by ID, one query per entity kind and batch of IDs, so
+ * index changes never read lazy state while a flush is running.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchDocumentLoader {
+
+  private final BoardRepository boardRepository;
+  private final TaskRepository taskRepository;
+  private final StudyRepository studyRepository;
+  private final CommentRepository commentRepository;
+  private final SearchProps searchProps;
+  private final PlatformTransactionManager transactionManager;
+
+  /**
+   * Loads the documents of the given entities in a read-only transaction of its own, so it can run
+   * from another transaction's completion callback. IDs of rows that no longer exist are left out.
+   *
+   * @param ids entity IDs by kind
+   * @return documents by entity ID
+   */
+  public Map<UUID, SearchDocument> load(Map<SearchResultType, ? extends Collection<UUID>> ids) {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    transaction.setReadOnly(true);
+    transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+    return transaction.execute(status -> {
+      Map<UUID, SearchDocument> documents = new HashMap<>();
+      this.<Board>loadInBatches(ids.get(SearchResultType.BOARD), boardRepository::findAllById,
+          SearchDocument::of, documents);
+      this.<Task>loadInBatches(ids.get(SearchResultType.TASK), taskRepository::findWithBoardByIdIn,
+          SearchDocument::of, documents);
+      this.<Study>loadInBatches(ids.get(SearchResultType.STUDY), studyRepository::findWithBoardByIdIn,
+          SearchDocument::of, documents);
+      this.<Comment>loadInBatches(ids.get(SearchResultType.COMMENT), commentRepository::findWithTagsByIds,
+          SearchDocument::of, documents);
+      return documents;
+    });
+  }
+
+  private <E> void loadInBatches(Collection<UUID> ids, Function<Collection<UUID>, List<E>> finder,
+      Function<E, SearchDocument> toDocument, Map<UUID, SearchDocument> documents) {
+    if (ids == null) return;
+
+    List<UUID> remaining = new ArrayList<>(ids);
+    int batchSize = searchProps.getReindexBatchSize();
+    for (int from = 0; from < remaining.size(); from += batchSize) {
+      List<UUID> batch = remaining.subList(from, Math.min(from + batchSize, remaining.size()));
+      for (E entity : finder.apply(batch)) {
+        SearchDocument document = toDocument.apply(entity);
+        documents.put(document.id(), document);
+      }
+    }
+  }
+}
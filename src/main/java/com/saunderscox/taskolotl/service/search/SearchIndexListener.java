@@ -0,0 +1,53 @@
+package com.saunderscox.taskolotl.service.search;
+
+import com.saunderscox.taskolotl.dto.SearchResultType;
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardItem;
+import com.saunderscox.taskolotl.entity.Comment;
+import com.saunderscox.taskolotl.entity.Study;
+import com.saunderscox.taskolotl.entity.Task;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that keeps the search index in step with {@link Board}, {@link BoardItem}
+ * and {@link Comment} changes. Only the entity's kind and ID are recorded here, since lazy state
+ * must not be read while a flush is running; documents are built from the committed rows.
+ */
+@Component
+public class SearchIndexListener {
+
+  private final SearchIndexService searchIndexService;
+
+  // Lazy so Hibernate can build the listener while the entity manager factory is starting
+  public SearchIndexListener(@Lazy SearchIndexService searchIndexService) {
+    this.searchIndexService = searchIndexService;
+  }
+
+  @PostPersist
+  @PostUpdate
+  public void onSave(Object entity) {
+    switch (entity) {
+      case Board board -> searchIndexService.index(SearchResultType.BOARD, board.getId());
+      case Task task -> searchIndexService.index(SearchResultType.TASK, task.getId());
+      case Study study -> searchIndexService.index(SearchResultType.STUDY, study.getId());
+      case Comment comment -> searchIndexService.index(SearchResultType.COMMENT, comment.getId());
+      default -> {
+      }
+    }
+  }
+
+  @PostRemove
+  public void onRemove(Object entity) {
+    switch (entity) {
+      case Board board -> searchIndexService.deleteBoard(board.getId());
+      case BoardItem item -> searchIndexService.deleteBoardItem(item.getId());
+      case Comment comment -> searchIndexService.delete(comment.getId());
+      default -> {
+      }
+    }
+  }
+}
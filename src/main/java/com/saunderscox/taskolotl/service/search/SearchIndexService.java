@@ -0,0 +1,317 @@
+package com.saunderscox.taskolotl.service.search;
+
+import com.saunderscox.taskolotl.config.search.SearchProps;
+import com.saunderscox.taskolotl.dto.SearchResult;
+import com.saunderscox.taskolotl.dto.SearchResultType;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherFactory;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Embedded Lucene index over boards, tasks, studies and comments. Changes are collected per
+ * transaction as entity IDs and applied only after it commits, so rolled-back writes never reach
+ * the index; documents are then built from the committed rows. Searches see applied changes
+ * immediately; they are committed to disk on a schedule.
+ */
+@Service
+@Slf4j
+public class SearchIndexService {
+
+  private static final String ID = "id";
+  private static final String TYPE = "type";
+  private static final String BOARD_ID = "boardId";
+  private static final String BOARD_ITEM_ID = "boardItemId";
+  private static final String TITLE = "title";
+  private static final String TEXT = "text";
+  private static final int SNIPPET_LENGTH = 200;
+
+  private final Analyzer analyzer = new EnglishAnalyzer();
+  private final Directory directory;
+  private final IndexWriter indexWriter;
+  private final SearcherManager searcherManager;
+  private final SearchDocumentLoader documentLoader;
+
+  public SearchIndexService(SearchProps searchProps, SearchDocumentLoader documentLoader) throws IOException {
+    this.documentLoader = documentLoader;
+    String indexDir = searchProps.getIndexDir();
+    this.directory = indexDir == null || indexDir.isBlank()
+        ? new ByteBuffersDirectory()
+        : FSDirectory.open(Path.of(indexDir));
+    IndexWriterConfig config = new IndexWriterConfig(analyzer)
+        .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+    this.indexWriter = new IndexWriter(directory, config);
+    this.searcherManager = new SearcherManager(indexWriter, new SearcherFactory());
+    log.info("Opened search index at {} with {} documents",
+        indexDir == null || indexDir.isBlank() ? "memory" : indexDir, indexWriter.getDocStats().numDocs);
+  }
+
+  /**
+   * Schedules an entity's document to be built and added or replaced once the current transaction
+   * commits. If the entity is gone by then, its document is removed instead.
+   *
+   * @param type the entity kind
+   * @param id   the entity ID
+   */
+  public void index(SearchResultType type, UUID id) {
+    enqueue(id, new Change(type, null));
+  }
+
+  /**
+   * Schedules removal of a document once the current transaction commits.
+   */
+  public void delete(UUID id) {
+    enqueue(id, new Change(null, null));
+  }
+
+  /**
+   * Schedules removal of a board and every item and comment document on it.
+   */
+  public void deleteBoard(UUID boardId) {
+    enqueue(boardId, new Change(null, BOARD_ID));
+  }
+
+  /**
+   * Schedules removal of a board item and its comment documents.
+   */
+  public void deleteBoardItem(UUID boardItemId) {
+    enqueue(boardItemId, new Change(null, BOARD_ITEM_ID));
+  }
+
+  public int documentCount() {
+    return indexWriter.getDocStats().numDocs;
+  }
+
+  /**
+   * Adds or replaces documents right away, without waiting for a transaction. Used for reindexing.
+   */
+  public void addAll(Collection<SearchDocument> documents) {
+    try {
+      for (SearchDocument document : documents) {
+        indexWriter.updateDocument(new Term(ID, document.id().toString()), toLucene(document));
+      }
+      searcherManager.maybeRefresh();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public void clear() {
+    try {
+      indexWriter.deleteAll();
+      searcherManager.maybeRefresh();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Ranked search across titles and text, titles weighing double, limited to documents on the given
+   * boards.
+   *
+   * @param query    user query; supports quotes, {@code -} to exclude and {@code *} as suffix
+   * @param types    kinds to include, or empty for all
+   * @param boardIds boards whose documents may be returned; no hits when empty
+   * @param pageable page to return; sorting is by relevance
+   * @return a page of hits
+   */
+  public Page<SearchResult> search(String query, Collection<SearchResultType> types, Collection<UUID> boardIds,
+      Pageable pageable) {
+    if (boardIds.isEmpty()) {
+      return Page.empty(pageable);
+    }
+
+    SimpleQueryParser parser = new SimpleQueryParser(analyzer, Map.of(TITLE, 2.0f, TEXT, 1.0f));
+    parser.setDefaultOperator(BooleanClause.Occur.MUST);
+    BooleanQuery.Builder builder = new BooleanQuery.Builder()
+        .add(parser.parse(query), BooleanClause.Occur.MUST)
+        .add(termsQuery(BOARD_ID, boardIds.stream().map(UUID::toString).toList()), BooleanClause.Occur.FILTER);
+    if (types != null && !types.isEmpty()) {
+      builder.add(termsQuery(TYPE, types.stream().map(SearchResultType::name).toList()), BooleanClause.Occur.FILTER);
+    }
+    Query luceneQuery = builder.build();
+
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        int end = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + pageable.getPageSize());
+        TopDocs topDocs = searcher.search(luceneQuery, Math.max(end, 1));
+        StoredFields storedFields = searcher.storedFields();
+
+        List<SearchResult> results = new ArrayList<>(pageable.getPageSize());
+        ScoreDoc[] hits = topDocs.scoreDocs;
+        for (int i = (int) pageable.getOffset(); i < hits.length; i++) {
+          results.add(toResult(storedFields.document(hits[i].doc), hits[i].score));
+        }
+        return new PageImpl<>(results, pageable, topDocs.totalHits.value);
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.search.commit-interval:PT10S}")
+  public void commit() {
+    try {
+      if (indexWriter.hasUncommittedChanges()) {
+        indexWriter.commit();
+      }
+    } catch (IOException e) {
+      log.error("Failed to commit search index", e);
+    }
+  }
+
+  @PreDestroy
+  void close() throws IOException {
+    searcherManager.close();
+    indexWriter.close();
+    directory.close();
+  }
+
+  private void enqueue(UUID id, Change change) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      // Outside a transaction there is nothing to roll back
+      apply(Map.of(id, change));
+      return;
+    }
+
+    @SuppressWarnings("unchecked")
+    Map<UUID, Change> pending = (Map<UUID, Change>) TransactionSynchronizationManager.getResource(this);
+    if (pending == null) {
+      Map<UUID, Change> changes = new LinkedHashMap<>();
+      TransactionSynchronizationManager.bindResource(this, changes);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          apply(changes);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+          TransactionSynchronizationManager.unbindResourceIfPossible(SearchIndexService.this);
+        }
+      });
+      pending = changes;
+    }
+    // Later changes to the same entity within the transaction replace earlier ones
+    pending.put(id, change);
+  }
+
+  private void apply(Map<UUID, Change> changes) {
+    try {
+      Map<UUID, SearchDocument> documents = loadDocuments(changes);
+      for (Map.Entry<UUID, Change> entry : changes.entrySet()) {
+        String id = entry.getKey().toString();
+        Change change = entry.getValue();
+        SearchDocument document = documents.get(entry.getKey());
+        if (document != null) {
+          indexWriter.updateDocument(new Term(ID, id), toLucene(document));
+        } else if (change.dependentField() != null) {
+          indexWriter.deleteDocuments(new Term(ID, id), new Term(change.dependentField(), id));
+        } else {
+          indexWriter.deleteDocuments(new Term(ID, id));
+        }
+      }
+      searcherManager.maybeRefresh();
+    } catch (IOException e) {
+      // The database is the source of truth; a reindex repairs a missed update
+      log.error("Failed to apply {} search index changes", changes.size(), e);
+    } catch (DataAccessException e) {
+      log.error("Failed to load documents for {} search index changes", changes.size(), e);
+    }
+  }
+
+  private Map<UUID, SearchDocument> loadDocuments(Map<UUID, Change> changes) {
+    Map<SearchResultType, List<UUID>> ids = new EnumMap<>(SearchResultType.class);
+    changes.forEach((id, change) -> {
+      if (change.type() != null) {
+        ids.computeIfAbsent(change.type(), type -> new ArrayList<>()).add(id);
+      }
+    });
+    return ids.isEmpty() ? Map.of() : documentLoader.load(ids);
+  }
+
+  private static Query termsQuery(String field, List<String> values) {
+    return new TermInSetQuery(field, values.stream().map(BytesRef::new).toList());
+  }
+
+  private static Document toLucene(SearchDocument document) {
+    Document doc = new Document();
+    doc.add(new StringField(ID, document.id().toString(), Field.Store.YES));
+    doc.add(new StringField(TYPE, document.type().name(), Field.Store.YES));
+    doc.add(new StringField(BOARD_ID, document.boardId().toString(), Field.Store.YES));
+    if (document.boardItemId() != null) {
+      doc.add(new StringField(BOARD_ITEM_ID, document.boardItemId().toString(), Field.Store.YES));
+    }
+    if (document.title() != null) {
+      doc.add(new TextField(TITLE, document.title(), Field.Store.YES));
+    }
+    if (document.text() != null && !document.text().isEmpty()) {
+      doc.add(new TextField(TEXT, document.text(), Field.Store.YES));
+    }
+    return doc;
+  }
+
+  private static SearchResult toResult(Document doc, float score) {
+    String boardItemId = doc.get(BOARD_ITEM_ID);
+    String text = doc.get(TEXT);
+    return SearchResult.builder()
+        .type(SearchResultType.valueOf(doc.get(TYPE)))
+        .id(UUID.fromString(doc.get(ID)))
+        .boardId(UUID.fromString(doc.get(BOARD_ID)))
+        .boardItemId(boardItemId == null ? null : UUID.fromString(boardItemId))
+        .title(doc.get(TITLE))
+        .snippet(text == null || text.length() <= SNIPPET_LENGTH ? text : text.substring(0, SNIPPET_LENGTH) + "…")
+        .score(score)
+        .build();
+  }
+
+  /**
+   * A pending change: index the entity of {@code type}, or remove its document when {@code type}
+   * is null, together with documents whose {@code dependentField} holds its ID when that is set.
+   */
+  private record Change(SearchResultType type, String dependentField) {
+  }
+}
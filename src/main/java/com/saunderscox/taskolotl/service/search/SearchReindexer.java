@@ -0,0 +1,126 @@
+package com.saunderscox.taskolotl.service.search;
+
+import com.saunderscox.taskolotl.config.search.SearchProps;
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.Comment;
+import com.saunderscox.taskolotl.entity.Study;
+import com.saunderscox.taskolotl.entity.Task;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.CommentRepository;
+import com.saunderscox.taskolotl.repository.StudyRepository;
+import com.saunderscox.taskolotl.repository.TaskRepository;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Rebuilds the search index from the database when it is empty at startup (always the case for an
+ * in-memory index) or when a rebuild is requested through {@code app.search.reindex-on-startup}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SearchReindexer {
+
+  private final SearchIndexService searchIndexService;
+  private final SearchProps searchProps;
+  private final BoardRepository boardRepository;
+  private final TaskRepository taskRepository;
+  private final StudyRepository studyRepository;
+  private final CommentRepository commentRepository;
+  private final PlatformTransactionManager transactionManager;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void reindexIfNeeded() {
+    if (searchProps.isReindexOnStartup() || searchIndexService.documentCount() == 0) {
+      reindex();
+    }
+  }
+
+  public void reindex() {
+    long start = System.currentTimeMillis();
+    searchIndexService.clear();
+
+    int count = this.<Board>indexAll(boardRepository::findAll, SearchDocument::of)
+        + this.<Task>indexAll(taskRepository::findAll, SearchDocument::of)
+        + this.<Study>indexAll(studyRepository::findAll, SearchDocument::of)
+        + this.<Comment>indexAll(commentRepository::findAll, SearchDocument::of);
+    searchIndexService.commit();
+
+    log.info("Rebuilt search index with {} documents in {} ms", count, System.currentTimeMillis() - start);
+  }
+
+  /**
+   * Indexes one board with its items and comments, e.g. after they were written without going
+   * through JPA.
+   *
+   * @param boardId the board ID
+   */
+  public void reindexBoard(UUID boardId) {
+    int count = this.<Board>indexAll(pageable -> boardRepository.findById(boardId)
+            .map(board -> (Page<Board>) new PageImpl<>(List.of(board), pageable, 1))
+            .orElse(Page.empty(pageable)), SearchDocument::of)
+        + this.<Task>indexAll(pageable -> taskRepository.findByBoardId(boardId, pageable), SearchDocument::of)
+        + this.<Study>indexAll(pageable -> studyRepository.findByBoardId(boardId, pageable), SearchDocument::of)
+        + this.<Comment>indexAll(pageable -> commentRepository.findByBoardItemBoardId(boardId, pageable),
+        SearchDocument::of);
+
+    log.debug("Indexed {} documents of board {}", count, boardId);
+  }
+
+  /**
+   * Reindexes a board once the current transaction commits. For boards whose rows were written with
+   * JDBC, which the search index listener never sees.
+   *
+   * @param boardId the board ID
+   */
+  public void reindexBoardAfterCommit(UUID boardId) {
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        reindexBoard(boardId);
+      }
+    });
+  }
+
+  /**
+   * Indexes every entity a paged finder returns, one read-only transaction per page so the
+   * persistence context never holds more than a page of entities. Each page runs in its own
+   * transaction even when called from another transaction's completion callback.
+   */
+  private <E> int indexAll(Function<Pageable, Page<E>> finder, Function<E, SearchDocument> toDocument) {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    transaction.setReadOnly(true);
+    transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+    int count = 0;
+    Pageable pageable = PageRequest.of(0, searchProps.getReindexBatchSize(), Sort.by("id"));
+    while (pageable != null) {
+      Pageable current = pageable;
+      Page<E> page = transaction.execute(status -> {
+        Page<E> entities = finder.apply(current);
+        List<SearchDocument> documents = entities.map(toDocument).getContent();
+        searchIndexService.addAll(documents);
+        return entities;
+      });
+      count += page.getNumberOfElements();
+      pageable = page.hasNext() ? page.nextPageable() : null;
+    }
+    return count;
+  }
+}
@@ -0,0 +1,415 @@
+package com.saunderscox.taskolotl.service.seed;
+
+import com.saunderscox.taskolotl.config.seed.SeedProps;
+import com.saunderscox.taskolotl.dto.BoardItemLine;
+import com.saunderscox.taskolotl.dto.BoardLine;
+import com.saunderscox.taskolotl.dto.CommentLine;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.FriendshipStatus;
+import com.saunderscox.taskolotl.entity.ItemOrdering;
+import com.saunderscox.taskolotl.entity.StudyStage;
+import com.saunderscox.taskolotl.entity.TaskStage;
+import com.saunderscox.taskolotl.entity.UuidV7Generator;
+import com.saunderscox.taskolotl.repository.BoardImportRepository;
+import com.saunderscox.taskolotl.repository.DatasetSeedRepository;
+import com.saunderscox.taskolotl.repository.DatasetSeedRepository.ConceptRow;
+import com.saunderscox.taskolotl.repository.DatasetSeedRepository.FriendshipRow;
+import com.saunderscox.taskolotl.repository.DatasetSeedRepository.SkillRow;
+import com.saunderscox.taskolotl.repository.DatasetSeedRepository.UserRow;
+import com.saunderscox.taskolotl.repository.DatasetSeedRepository.UserSkillRow;
+import com.saunderscox.taskolotl.service.stats.BoardStatsService;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Fills an empty database with a large synthetic dataset for performance testing. Runs on startup
+ * when the {@code seed} profile is active, e.g. {@code ENV=dev,seed}, against H2 or a local Postgres.
+ * <ul>
+ *   <li>Volumes come from {@link SeedProps}; users, friendships and boards are written in chunks,
+ *   one transaction per chunk, by {@code app.seed.threads} threads</li>
+ *   <li>Each chunk draws from its own random generator derived from the seed and the chunk number,
+ *   so the dataset does not depend on how chunks are scheduled</li>
+ *   <li>Popularity is skewed: low-numbered users and skills receive most friendships, boards and
+ *   items, and item and comment counts follow an exponential distribution</li>
+ *   <li>Rows are written with JDBC, so stage counts are recomputed afterwards and board access is
+ *   filled by {@link com.saunderscox.taskolotl.service.BoardAccessService#backfill()}. The search
+ *   index is only rebuilt if it is empty or {@code app.search.reindex-on-startup} is set</li>
+ * </ul>
+ * Seeding is skipped if the first seeded user already exists. A seeding run that failed part way
+ * leaves its committed chunks behind; drop the database before running it again.
+ */
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetSeeder implements ApplicationRunner {
+
+  private static final String EMAIL_DOMAIN = "@seed.taskolotl.test";
+
+  private static final String[] WORDS = {
+      "plan", "review", "design", "backlog", "release", "sprint", "schema", "query", "index", "cache",
+      "deploy", "metric", "budget", "draft", "report", "feature", "refactor", "migrate", "estimate", "pair",
+      "learn", "practice", "lecture", "chapter", "exercise", "project", "client", "server", "mobile", "layout",
+      "testing", "security", "network", "storage", "pipeline", "journal", "meeting", "roadmap", "feedback", "demo"
+  };
+  private static final String[] TAGS = {"question", "blocker", "idea", "decision", "followup", "praise"};
+  private static final String[] COLORS = {"#E57373", "#64B5F6", "#81C784", "#FFD54F", "#BA68C8", "#4DB6AC"};
+
+  private static final int MAX_MULTIPLE_OF_MEAN = 20;
+
+  private final SeedProps seedProps;
+  private final DatasetSeedRepository datasetSeedRepository;
+  private final BoardImportRepository boardImportRepository;
+  private final BoardStatsService boardStatsService;
+  private final PlatformTransactionManager transactionManager;
+
+  private Instant end;
+  private Instant start;
+  private UUID[] userIds;
+  private UUID[] skillIds;
+  private UUID[][] conceptIds;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (datasetSeedRepository.existsUserWithEmail(email(0))) {
+      log.info("Dataset already seeded, skipping");
+      return;
+    }
+
+    long started = System.currentTimeMillis();
+    end = seedProps.getEnd() != null ? seedProps.getEnd() : Instant.now().truncatedTo(ChronoUnit.DAYS);
+    start = end.minus(seedProps.getHistory());
+    log.info("Seeding {} users and {} boards with seed {} up to {}",
+        seedProps.getUsers(), seedProps.getBoards(), seedProps.getSeed(), end);
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> seedSkills());
+    generateUserIds();
+    inChunks(Phase.USERS, seedProps.getUsers(), seedProps.getUsersPerChunk(), this::seedUsers);
+    inChunks(Phase.USER_LINKS, seedProps.getUsers(), seedProps.getUsersPerChunk(), this::seedUserLinks);
+    inChunks(Phase.BOARDS, seedProps.getBoards(), seedProps.getBoardsPerChunk(), this::seedBoards);
+    boardStatsService.repair();
+
+    log.info("Seeded dataset in {} s", (System.currentTimeMillis() - started) / 1000);
+  }
+
+  private void seedSkills() {
+    SplittableRandom random = random(Phase.SKILLS, 0);
+    int skills = seedProps.getSkills();
+    int conceptsPerSkill = seedProps.getConceptsPerSkill();
+    skillIds = new UUID[skills];
+    conceptIds = new UUID[skills][conceptsPerSkill];
+
+    List<SkillRow> skillRows = new ArrayList<>(skills);
+    List<ConceptRow> conceptRows = new ArrayList<>(skills * conceptsPerSkill);
+    for (int i = 0; i < skills; i++) {
+      Instant createdAt = at(i, skills);
+      skillIds[i] = UuidV7Generator.of(createdAt, random);
+      skillRows.add(new SkillRow(skillIds[i], createdAt, capitalize(word(random)) + " " + i, words(random, 5, 15)));
+      for (int j = 0; j < conceptsPerSkill; j++) {
+        conceptIds[i][j] = UuidV7Generator.of(createdAt, random);
+        conceptRows.add(new ConceptRow(conceptIds[i][j], createdAt, skillIds[i], words(random, 2, 4),
+            words(random, 5, 30)));
+      }
+    }
+    datasetSeedRepository.insertSkills(skillRows);
+    datasetSeedRepository.insertConcepts(conceptRows);
+  }
+
+  private void generateUserIds() {
+    SplittableRandom random = random(Phase.USERS, -1);
+    userIds = new UUID[seedProps.getUsers()];
+    for (int i = 0; i < userIds.length; i++) {
+      userIds[i] = UuidV7Generator.of(at(i, userIds.length), random);
+    }
+  }
+
+  private void seedUsers(SplittableRandom random, int from, int to) {
+    List<UserRow> users = new ArrayList<>(to - from);
+    for (int i = from; i < to; i++) {
+      String profileDescription = random.nextInt(2) == 0 ? words(random, 5, 15) : null;
+      users.add(new UserRow(userIds[i], at(i, userIds.length), "user" + i, email(i), profileDescription));
+    }
+    datasetSeedRepository.insertUsers(users);
+  }
+
+  /**
+   * Writes the skills and friendships of a chunk of users. Each friendship row is the user's own
+   * side of it; targets are drawn with a bias toward popular users.
+   */
+  private void seedUserLinks(SplittableRandom random, int from, int to) {
+    List<UserSkillRow> userSkills = new ArrayList<>();
+    List<FriendshipRow> friendships = new ArrayList<>();
+    for (int i = from; i < to; i++) {
+      for (int skill : distinct(random, skillIds.length, count(random, seedProps.getSkillsPerUser()), -1)) {
+        userSkills.add(new UserSkillRow(skillIds[skill], userIds[i]));
+      }
+
+      Instant userCreatedAt = at(i, userIds.length);
+      for (int target : distinct(random, userIds.length, count(random, seedProps.getFriendsPerUser()), i)) {
+        Instant createdAt = after(random, max(userCreatedAt, at(target, userIds.length)));
+        friendships.add(new FriendshipRow(UuidV7Generator.of(createdAt, random), createdAt, userIds[i],
+            userIds[target], friendshipStatus(random)));
+      }
+    }
+    datasetSeedRepository.insertUserSkills(userSkills);
+    datasetSeedRepository.insertFriendships(friendships);
+  }
+
+  /**
+   * Writes a chunk of boards first, then their items and comments one board at a time.
+   */
+  private void seedBoards(SplittableRandom random, int from, int to) {
+    List<BoardPlan> plans = new ArrayList<>(to - from);
+    for (int i = from; i < to; i++) {
+      plans.add(planBoard(random, i));
+    }
+    datasetSeedRepository.insertBoards(plans.stream().map(BoardPlan::line).toList());
+
+    for (BoardPlan plan : plans) {
+      List<BoardItemLine> items = new ArrayList<>();
+      List<CommentLine> comments = new ArrayList<>();
+      int itemCount = count(random, seedProps.getItemsPerBoard());
+      for (int position = 0; position < itemCount; position++) {
+        BoardItemLine item = item(random, plan, position);
+        items.add(item);
+        for (int c = count(random, seedProps.getCommentsPerItem()); c > 0; c--) {
+          comments.add(comment(random, plan, item));
+        }
+      }
+      boardImportRepository.insertItems(plan.line().id(), items);
+      boardImportRepository.insertComments(comments);
+    }
+  }
+
+  private BoardPlan planBoard(SplittableRandom random, int index) {
+    Instant createdAt = at(index, seedProps.getBoards());
+    int owner = skewed(random, userIds.length);
+    int[] members = distinct(random, userIds.length, count(random, seedProps.getMembersPerBoard()), owner);
+    int[] skills = distinct(random, skillIds.length, random.nextInt(4), -1);
+
+    UUID[] participants = new UUID[members.length + 1];
+    participants[0] = userIds[owner];
+    Set<UUID> memberIds = new LinkedHashSet<>();
+    for (int i = 0; i < members.length; i++) {
+      participants[i + 1] = userIds[members[i]];
+      memberIds.add(userIds[members[i]]);
+    }
+    Set<UUID> boardSkillIds = new HashSet<>();
+    for (int skill : skills) {
+      boardSkillIds.add(skillIds[skill]);
+    }
+
+    BoardLine line = new BoardLine(
+        UuidV7Generator.of(createdAt, random), 0, createdAt, after(random, createdAt),
+        "Board " + index + " " + words(random, 1, 4), words(random, 5, 20),
+        random.nextInt(10) < 7 ? BoardType.TASK : BoardType.STUDY, random.nextInt(10) < 8,
+        ItemOrdering.POSITION, Set.of(userIds[owner]), memberIds, Set.of(), boardSkillIds);
+    return new BoardPlan(line, participants, skills);
+  }
+
+  private BoardItemLine item(SplittableRandom random, BoardPlan plan, int position) {
+    Instant createdAt = after(random, plan.line().createdAt());
+    UUID skillId = null;
+    UUID conceptId = null;
+    if (plan.skills().length > 0 && random.nextInt(2) == 0) {
+      int skill = plan.skills()[random.nextInt(plan.skills().length)];
+      skillId = skillIds[skill];
+      if (conceptIds[skill].length > 0 && random.nextInt(10) < 7) {
+        conceptId = conceptIds[skill][random.nextInt(conceptIds[skill].length)];
+      }
+    }
+    String title = words(random, 3, 8);
+    String description = random.nextInt(10) < 6 ? words(random, 5, 30) : null;
+    String color = random.nextInt(5) == 0 ? COLORS[random.nextInt(COLORS.length)] : null;
+    UUID ownerId = participant(random, plan);
+
+    if (plan.line().boardType() == BoardType.STUDY) {
+      StudyStage studyStage = StudyStage.values()[random.nextInt(StudyStage.values().length)];
+      UUID mentorId = random.nextInt(10) < 3 ? participant(random, plan) : null;
+      String resources = random.nextInt(10) < 3 ? "https://example.com/" + word(random) : null;
+      return new BoardItemLine("STUDY", UuidV7Generator.of(createdAt, random), 0, createdAt, createdAt, title,
+          description, position, null, color, ownerId, skillId, conceptId, null, null, null, null, null, null,
+          null, studyStage, resources, mentorId);
+    }
+
+    TaskStage taskStage = TaskStage.values()[random.nextInt(TaskStage.values().length)];
+    Instant dueDate = random.nextInt(10) < 6 ? createdAt.plus(Duration.ofDays(random.nextInt(1, 61))) : null;
+    Instant completedAt = taskStage == TaskStage.DONE ? after(random, createdAt) : null;
+    Float estimatedHours = random.nextInt(2) == 0 ? (float) random.nextInt(1, 41) : null;
+    Float actualHours = completedAt != null && estimatedHours != null
+        ? estimatedHours * (float) random.nextDouble(0.5, 2.0)
+        : null;
+    UUID assigneeId = random.nextInt(10) < 7 ? participant(random, plan) : null;
+    return new BoardItemLine("TASK", UuidV7Generator.of(createdAt, random), 0, createdAt,
+        completedAt != null ? completedAt : createdAt, title, description, position, null, color, ownerId, skillId,
+        conceptId, taskStage, dueDate, completedAt, estimatedHours, actualHours, assigneeId,
+        random.nextInt(100) < 15, null, null, null);
+  }
+
+  private CommentLine comment(SplittableRandom random, BoardPlan plan, BoardItemLine item) {
+    Instant createdAt = after(random, item.createdAt());
+    Set<String> tags = random.nextInt(5) == 0 ? Set.of(TAGS[random.nextInt(TAGS.length)]) : null;
+    return new CommentLine(UuidV7Generator.of(createdAt, random), 0, createdAt, createdAt, item.id(),
+        participant(random, plan), words(random, 3, 40), tags);
+  }
+
+  /**
+   * Runs {@code writer} over {@code total} rows split into chunks, in parallel and one transaction
+   * per chunk, and waits for all of them.
+   */
+  private void inChunks(Phase phase, int total, int chunkSize, ChunkWriter writer) {
+    long started = System.currentTimeMillis();
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, seedProps.getThreads()));
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int from = 0, chunk = 0; from < total; from += chunkSize, chunk++) {
+        int chunkFrom = from;
+        int chunkTo = Math.min(from + chunkSize, total);
+        SplittableRandom random = random(phase, chunk);
+        futures.add(executor.submit(() ->
+            transaction.executeWithoutResult(status -> writer.write(random, chunkFrom, chunkTo))));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Seeding interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Seeding " + phase + " failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+    log.info("Seeded {} of {} rows in {} ms", phase, total, System.currentTimeMillis() - started);
+  }
+
+  /**
+   * Random generator of one chunk, independent of the order chunks run in.
+   */
+  private SplittableRandom random(Phase phase, int chunk) {
+    return new SplittableRandom(mix(mix(seedProps.getSeed() + phase.ordinal()) + chunk));
+  }
+
+  /**
+   * Creation time of the {@code index}th of {@code total} rows, spread evenly over the history.
+   */
+  private Instant at(long index, long total) {
+    return start.plusMillis(seedProps.getHistory().toMillis() * index / Math.max(1, total));
+  }
+
+  private Instant after(SplittableRandom random, Instant from) {
+    long remaining = Math.max(1, end.toEpochMilli() - from.toEpochMilli());
+    return from.plusMillis(random.nextLong(remaining));
+  }
+
+  /**
+   * Exponentially distributed count with the given mean, capped at a multiple of it.
+   */
+  private static int count(SplittableRandom random, int mean) {
+    if (mean <= 0) return 0;
+    double sample = -mean * Math.log(1 - random.nextDouble());
+    return (int) Math.min(Math.round(sample), (long) mean * MAX_MULTIPLE_OF_MEAN);
+  }
+
+  /**
+   * Index below {@code bound}, biased toward low indexes.
+   */
+  private static int skewed(SplittableRandom random, int bound) {
+    double u = random.nextDouble();
+    return (int) (bound * u * u * u);
+  }
+
+  /**
+   * Up to {@code count} distinct skewed indexes below {@code bound}, never {@code excluded}.
+   */
+  private static int[] distinct(SplittableRandom random, int bound, int count, int excluded) {
+    int wanted = Math.min(count, bound - (excluded >= 0 ? 1 : 0));
+    Set<Integer> picked = new LinkedHashSet<>();
+    for (int attempt = 0; picked.size() < wanted && attempt < wanted * 4; attempt++) {
+      int index = skewed(random, bound);
+      if (index != excluded) {
+        picked.add(index);
+      }
+    }
+    return picked.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  private static FriendshipStatus friendshipStatus(SplittableRandom random) {
+    int roll = random.nextInt(100);
+    if (roll < 75) return FriendshipStatus.ACCEPTED;
+    if (roll < 90) return FriendshipStatus.PENDING;
+    if (roll < 96) return FriendshipStatus.DECLINED;
+    if (roll < 99) return FriendshipStatus.ENDED;
+    return FriendshipStatus.BLOCKED;
+  }
+
+  private static UUID participant(SplittableRandom random, BoardPlan plan) {
+    return plan.participants()[random.nextInt(plan.participants().length)];
+  }
+
+  private static String words(SplittableRandom random, int min, int max) {
+    int count = random.nextInt(min, max + 1);
+    StringBuilder text = new StringBuilder(capitalize(word(random)));
+    for (int i = 1; i < count; i++) {
+      text.append(' ').append(word(random));
+    }
+    return text.toString();
+  }
+
+  private static String word(SplittableRandom random) {
+    return WORDS[random.nextInt(WORDS.length)];
+  }
+
+  private static String capitalize(String word) {
+    return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+  }
+
+  private static String email(int index) {
+    return "user" + index + EMAIL_DOMAIN;
+  }
+
+  private static Instant max(Instant a, Instant b) {
+    return a.isAfter(b) ? a : b;
+  }
+
+  private static long mix(long z) {
+    z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+    z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    return z ^ (z >>> 33);
+  }
+
+  private enum Phase {SKILLS, USERS, USER_LINKS, BOARDS}
+
+  @FunctionalInterface
+  private interface ChunkWriter {
+
+    void write(SplittableRandom random, int from, int to);
+  }
+
+  /**
+   * A board about to be written, with the users and skill indexes its items draw from.
+   */
+  private record BoardPlan(BoardLine line, UUID[] participants, int[] skills) {
+  }
+}
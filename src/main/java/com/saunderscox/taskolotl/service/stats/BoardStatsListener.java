@@ -0,0 +1,130 @@
+package com.saunderscox.taskolotl.service.stats;
+
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.Study;
+import com.saunderscox.taskolotl.entity.Task;
+import com.saunderscox.taskolotl.repository.BoardStatsRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@code board_stage_counts} in step with tasks and studies as they are flushed, in the same
+ * transaction. A Hibernate listener rather than a JPA one, because moving an item between stages
+ * needs the stage it was loaded with, which only Hibernate's update event carries.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardStatsListener implements PostInsertEventListener, PostUpdateEventListener,
+    PostDeleteEventListener {
+
+  private final EntityManagerFactory entityManagerFactory;
+  private final BoardStatsRepository boardStatsRepository;
+
+  @PostConstruct
+  void register() {
+    EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+        .getServiceRegistry().getService(EventListenerRegistry.class);
+    registry.appendListeners(EventType.POST_INSERT, this);
+    registry.appendListeners(EventType.POST_UPDATE, this);
+    registry.appendListeners(EventType.POST_DELETE, this);
+  }
+
+  @Override
+  public void onPostInsert(PostInsertEvent event) {
+    Contribution added = Contribution.of(event.getEntity(), event.getPersister(), event.getState());
+    if (added != null) {
+      add(added);
+    }
+  }
+
+  @Override
+  public void onPostUpdate(PostUpdateEvent event) {
+    Contribution added = Contribution.of(event.getEntity(), event.getPersister(), event.getState());
+    if (added == null) return;
+    if (event.getOldState() == null) {
+      // Updated without a loaded snapshot; the repair job corrects the counts
+      log.debug("No previous state for {}; board {} stage counts may drift", event.getId(), added.boardId());
+      return;
+    }
+
+    Contribution removed = Contribution.of(event.getEntity(), event.getPersister(), event.getOldState());
+    if (added.equals(removed)) return;
+    if (added.boardId().equals(removed.boardId()) && added.stage().equals(removed.stage())) {
+      boardStatsRepository.add(added.boardId(), added.itemType(), added.stage(), 0,
+          added.estimatedHours() - removed.estimatedHours(), added.actualHours() - removed.actualHours());
+    } else {
+      subtract(removed);
+      add(added);
+    }
+  }
+
+  @Override
+  public void onPostDelete(PostDeleteEvent event) {
+    Contribution removed = Contribution.of(event.getEntity(), event.getPersister(), event.getDeletedState());
+    if (removed != null) {
+      subtract(removed);
+    }
+  }
+
+  @Override
+  public boolean requiresPostCommitHandling(EntityPersister persister) {
+    return false;
+  }
+
+  private void add(Contribution contribution) {
+    boardStatsRepository.add(contribution.boardId(), contribution.itemType(), contribution.stage(), 1,
+        contribution.estimatedHours(), contribution.actualHours());
+  }
+
+  private void subtract(Contribution contribution) {
+    boardStatsRepository.subtract(contribution.boardId(), contribution.itemType(), contribution.stage(), 1,
+        contribution.estimatedHours(), contribution.actualHours());
+  }
+
+  /**
+   * What one item adds to its board's counts, read from a state snapshot rather than the entity so the
+   * old and new states of an update can be compared.
+   */
+  private record Contribution(UUID boardId, String itemType, String stage, double estimatedHours,
+      double actualHours) {
+
+    static Contribution of(Object entity, EntityPersister persister, Object[] state) {
+      return switch (entity) {
+        case Task task -> new Contribution(boardIdOf(persister, state), "TASK",
+            stateOf(persister, state, "taskStage").toString(),
+            hoursOf(persister, state, "estimatedHours"), hoursOf(persister, state, "actualHours"));
+        case Study study -> new Contribution(boardIdOf(persister, state), "STUDY",
+            stateOf(persister, state, "studyStage").toString(), 0, 0);
+        default -> null;
+      };
+    }
+
+    private static Object stateOf(EntityPersister persister, Object[] state, String property) {
+      return state[persister.getPropertyIndex(property)];
+    }
+
+    // The entity holds the new board, so the old state's board must come from the snapshot too
+    private static UUID boardIdOf(EntityPersister persister, Object[] state) {
+      return ((Board) stateOf(persister, state, "board")).getId();
+    }
+
+    private static double hoursOf(EntityPersister persister, Object[] state, String property) {
+      return stateOf(persister, state, property) instanceof Float hours ? hours : 0;
+    }
+  }
+}
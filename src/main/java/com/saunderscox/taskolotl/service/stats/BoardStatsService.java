@@ -0,0 +1,119 @@
+package com.saunderscox.taskolotl.service.stats;
+
+import com.saunderscox.taskolotl.config.stats.BoardStatsProps;
+import com.saunderscox.taskolotl.dto.BoardStatsResponse;
+import com.saunderscox.taskolotl.entity.BoardStageCount;
+import com.saunderscox.taskolotl.entity.StudyStage;
+import com.saunderscox.taskolotl.entity.TaskStage;
+import com.saunderscox.taskolotl.exception.ResourceNotFoundException;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.BoardStageCountRepository;
+import com.saunderscox.taskolotl.repository.BoardStatsRepository;
+import com.saunderscox.taskolotl.repository.TaskRepository;
+import com.saunderscox.taskolotl.service.BoardService;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Per-board stage counts for Kanban columns, read from {@code board_stage_counts} instead of grouping
+ * the board's items.
+ * <ul>
+ *   <li>{@link BoardStatsListener} applies each flushed task and study change to the counts in the
+ *   same transaction</li>
+ *   <li>Services that write items with JDBC recompute the affected boards through
+ *   {@link BoardStatsRepository#recompute}</li>
+ *   <li>A repair job recomputes every board from scratch, correcting any drift</li>
+ * </ul>
+ * Overdue tasks depend on the clock rather than on writes, so they are counted when read through the
+ * board and due date index.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoardStatsService {
+
+  private static final String TASK = "TASK";
+  private static final String STUDY = "STUDY";
+
+  private final BoardStatsProps boardStatsProps;
+  private final BoardRepository boardRepository;
+  private final BoardStageCountRepository boardStageCountRepository;
+  private final BoardStatsRepository boardStatsRepository;
+  private final TaskRepository taskRepository;
+  private final PlatformTransactionManager transactionManager;
+
+  /**
+   * Gets a board's item counts per stage, overdue tasks and hour totals.
+   *
+   * @param boardId the board ID
+   * @return the statistics, with every stage present
+   * @throws ResourceNotFoundException if the board does not exist
+   */
+  @Transactional(readOnly = true)
+  public BoardStatsResponse getStats(UUID boardId) {
+    if (!boardRepository.existsById(boardId)) {
+      throw new ResourceNotFoundException(BoardService.BOARD_NOT_FOUND_WITH_ID + boardId);
+    }
+
+    Map<TaskStage, Long> tasksByStage = new EnumMap<>(TaskStage.class);
+    Map<StudyStage, Long> studiesByStage = new EnumMap<>(StudyStage.class);
+    for (TaskStage stage : TaskStage.values()) tasksByStage.put(stage, 0L);
+    for (StudyStage stage : StudyStage.values()) studiesByStage.put(stage, 0L);
+
+    double estimatedHours = 0;
+    double actualHours = 0;
+    for (BoardStageCount count : boardStageCountRepository.findByBoardId(boardId)) {
+      switch (count.getItemType()) {
+        case TASK -> {
+          tasksByStage.put(TaskStage.valueOf(count.getStage()), count.getItemCount());
+          estimatedHours += count.getEstimatedHours();
+          actualHours += count.getActualHours();
+        }
+        case STUDY -> studiesByStage.put(StudyStage.valueOf(count.getStage()), count.getItemCount());
+        default -> log.warn("Unknown item type {} in stage counts of board {}", count.getItemType(), boardId);
+      }
+    }
+
+    long overdueTasks = taskRepository.countByBoardIdAndDueDateBeforeAndTaskStageNot(
+        boardId, Instant.now(), TaskStage.DONE);
+    return new BoardStatsResponse(boardId, tasksByStage, studiesByStage, overdueTasks, estimatedHours,
+        actualHours);
+  }
+
+  /**
+   * Recomputes every board's counts from its items, one batch of boards per transaction, and drops
+   * counts of deleted boards. A write racing the recomputation of its board can leave that board off
+   * until the next run.
+   */
+  @Scheduled(fixedDelayString = "${app.board-stats.repair-interval:P1D}",
+      initialDelayString = "${app.board-stats.repair-interval:P1D}")
+  public void repair() {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    int boards = 0;
+    UUID after = null;
+    List<UUID> boardIds;
+    do {
+      boardIds = boardStatsRepository.findBoardIds(after, boardStatsProps.getRepairBatchSize());
+      if (boardIds.isEmpty()) break;
+
+      List<UUID> batch = boardIds;
+      transaction.executeWithoutResult(status -> boardStatsRepository.recompute(batch));
+      boards += boardIds.size();
+      after = boardIds.getLast();
+    } while (boardIds.size() == boardStatsProps.getRepairBatchSize());
+
+    int orphaned = Objects.requireNonNull(transaction.execute(status -> boardStatsRepository.deleteOrphaned()));
+    log.info("Recomputed stage counts of {} boards and dropped {} orphaned rows", boards, orphaned);
+  }
+}
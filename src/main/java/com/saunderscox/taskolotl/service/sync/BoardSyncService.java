@@ -0,0 +1,102 @@
+package com.saunderscox.taskolotl.service.sync;
+
+import com.saunderscox.taskolotl.config.sync.SyncProps;
+import com.saunderscox.taskolotl.dto.BoardDelta;
+import com.saunderscox.taskolotl.dto.BoardItemSnapshot;
+import com.saunderscox.taskolotl.dto.BoardResponse;
+import com.saunderscox.taskolotl.dto.CommentLine;
+import com.saunderscox.taskolotl.dto.DeletedEntity;
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.exception.ResourceNotFoundException;
+import com.saunderscox.taskolotl.mapper.BoardBatchMapper;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.CommentRepository;
+import com.saunderscox.taskolotl.repository.CommentTagRow;
+import com.saunderscox.taskolotl.repository.TombstoneRepository;
+import com.saunderscox.taskolotl.service.BoardService;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Serves "changes since" deltas of a board so clients can resync by transferring only what changed.
+ * Changed items and comments are found by {@code updatedAt} through indexes that lead with their
+ * board or item column; deletions come from {@link com.saunderscox.taskolotl.entity.Tombstone}s.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoardSyncService {
+
+  private final BoardRepository boardRepository;
+  private final CommentRepository commentRepository;
+  private final TombstoneRepository tombstoneRepository;
+  private final BoardBatchMapper boardBatchMapper;
+  private final SyncProps syncProps;
+
+  /**
+   * Collects everything on a board changed after {@code since}.
+   *
+   * @param boardId the board ID
+   * @param since   watermark returned by the previous call
+   * @return the delta, or one asking for a full resync if deletions since then were already purged
+   * @throws ResourceNotFoundException if the board does not exist
+   */
+  @Transactional(readOnly = true)
+  public BoardDelta getChanges(UUID boardId, Instant since) {
+    Instant now = Instant.now();
+    Instant watermark = now.minus(syncProps.getCommitLag());
+
+    Board board = boardRepository.findById(boardId)
+        .orElseThrow(() -> new ResourceNotFoundException(BoardService.BOARD_NOT_FOUND_WITH_ID + boardId));
+    if (since.isBefore(now.minus(syncProps.getTombstoneRetention()))) {
+      return BoardDelta.resync(boardId, watermark);
+    }
+
+    BoardResponse boardResponse = board.getUpdatedAt().isAfter(since)
+        ? boardBatchMapper.toResponseDto(board)
+        : null;
+    List<BoardItemSnapshot> items = boardRepository.findItemSnapshotsUpdatedAfter(boardId, since);
+    List<CommentLine> comments = withTags(commentRepository.findLinesUpdatedAfter(boardId, since));
+    List<DeletedEntity> deleted = tombstoneRepository
+        .findByBoardIdAndDeletedAtAfterOrderByDeletedAtAsc(boardId, since).stream()
+        .map(tombstone -> new DeletedEntity(tombstone.getId(), tombstone.getEntityType(), tombstone.getDeletedAt()))
+        .toList();
+
+    log.debug("Delta of board {} since {}: {} items, {} comments, {} deleted",
+        boardId, since, items.size(), comments.size(), deleted.size());
+    return new BoardDelta(boardId, watermark, false, boardResponse, items, comments, deleted);
+  }
+
+  @Scheduled(fixedDelayString = "${app.sync.tombstone-purge-interval:PT1H}")
+  @Transactional
+  public void purgeTombstones() {
+    int expired = tombstoneRepository.deleteOlderThan(Instant.now().minus(syncProps.getTombstoneRetention()));
+    int orphaned = tombstoneRepository.deleteOrphaned();
+    if (expired + orphaned > 0) {
+      log.info("Purged {} expired and {} orphaned tombstones", expired, orphaned);
+    }
+  }
+
+  private List<CommentLine> withTags(List<CommentLine> comments) {
+    if (comments.isEmpty()) return comments;
+
+    Map<UUID, Set<String>> tags = new HashMap<>();
+    List<UUID> commentIds = comments.stream().map(CommentLine::id).toList();
+    for (CommentTagRow row : commentRepository.findTagsByCommentIds(commentIds)) {
+      tags.computeIfAbsent(row.commentId(), id -> new HashSet<>()).add(row.tag());
+    }
+    return comments.stream()
+        .map(comment -> comment.withTags(tags.getOrDefault(comment.id(), Set.of())))
+        .toList();
+  }
+}
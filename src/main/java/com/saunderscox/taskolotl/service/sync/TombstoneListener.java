@@ -0,0 +1,53 @@
+package com.saunderscox.taskolotl.service.sync;
+
+import com.saunderscox.taskolotl.entity.BoardItem;
+import com.saunderscox.taskolotl.entity.Comment;
+import com.saunderscox.taskolotl.entity.TombstoneType;
+import jakarta.persistence.PostRemove;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that records a tombstone for every deleted {@link BoardItem} and
+ * {@link Comment}. Rows are written with JDBC on the flushing transaction's connection, since the
+ * persistence context cannot take new entities mid-flush. Comments removed by the database cascade
+ * when their item is deleted get no tombstone of their own; the item's tombstone covers them.
+ */
+@Component
+public class TombstoneListener {
+
+  private static final String DELETE_TOMBSTONE = "DELETE FROM tombstones WHERE id = ?";
+  private static final String INSERT_TOMBSTONE =
+      "INSERT INTO tombstones (id, board_id, entity_type, deleted_at) VALUES (?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // Lazy so Hibernate can build the listener while the entity manager factory is starting
+  public TombstoneListener(@Lazy JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @PostRemove
+  public void onRemove(Object entity) {
+    switch (entity) {
+      case BoardItem item -> record(item.getId(), item.getBoard().getId(), TombstoneType.BOARD_ITEM);
+      case Comment comment ->
+          record(comment.getId(), comment.getBoardItem().getBoard().getId(), TombstoneType.COMMENT);
+      default -> {
+      }
+    }
+  }
+
+  /**
+   * Records a deletion directly. For rows deleted with JDBC, which never reach this listener.
+   */
+  public void record(UUID id, UUID boardId, TombstoneType type) {
+    // Imports keep IDs, so an entity can be deleted again after being restored
+    jdbcTemplate.update(DELETE_TOMBSTONE, id);
+    jdbcTemplate.update(INSERT_TOMBSTONE, id, boardId, type.name(), Timestamp.from(Instant.now()));
+  }
+}
@@ -0,0 +1,50 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.entity.Permission;
+import com.saunderscox.taskolotl.service.AuthService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Actuator endpoints other than health are reachable with an admin access token only.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ActuatorSecurityTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private AuthService authService;
+
+  @Test
+  void cacheMetrics_ShouldBeReadableByAdmin() throws Exception {
+    mockMvc.perform(get("/actuator/metrics/cache.gets").header("Authorization", bearer(Permission.ADMIN)))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void cacheMetrics_ShouldBeForbiddenForUser() throws Exception {
+    mockMvc.perform(get("/actuator/metrics/cache.gets").header("Authorization", bearer(Permission.USER)))
+        .andExpect(status().isForbidden());
+  }
+
+  @Test
+  void health_ShouldBePublic() throws Exception {
+    mockMvc.perform(get("/actuator/health"))
+        .andExpect(status().isOk());
+  }
+
+  private String bearer(Permission permission) {
+    return "Bearer " + authService.userIdToAuthResponse(UUID.randomUUID(), permission).getAccessToken();
+  }
+}
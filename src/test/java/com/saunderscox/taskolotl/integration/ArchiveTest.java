@@ -0,0 +1,175 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.Comment;
+import com.saunderscox.taskolotl.entity.Task;
+import com.saunderscox.taskolotl.entity.TaskStage;
+import com.saunderscox.taskolotl.entity.Tombstone;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.ArchiveEntryRepository;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.CommentRepository;
+import com.saunderscox.taskolotl.repository.TaskRepository;
+import com.saunderscox.taskolotl.repository.TombstoneRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.archive.ArchiveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Archiving a completed task or an old comment removes it from the board and leaves a tombstone, and
+ * restoring it brings back the same IDs, comments and tags.
+ */
+@SpringBootTest
+class ArchiveTest {
+
+  @Autowired
+  private ArchiveService archiveService;
+
+  @Autowired
+  private ArchiveEntryRepository archiveEntryRepository;
+
+  @Autowired
+  private TombstoneRepository tombstoneRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private CommentRepository commentRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transaction;
+  private UUID boardId;
+  private UUID taskId;
+  private UUID taggedCommentId;
+  private UUID plainCommentId;
+
+  @BeforeEach
+  void setUp() {
+    transaction = new TransactionTemplate(transactionManager);
+    String name = "archive-" + UUID.randomUUID();
+    User owner = userRepository.save(User.builder()
+        .username(name)
+        .email(name + "@example.com")
+        .build());
+
+    transaction.executeWithoutResult(status -> {
+      Board board = Board.builder()
+          .title(name)
+          .boardType(BoardType.TASK)
+          .visible(true)
+          .build();
+      board.addOwner(owner);
+      board = boardRepository.save(board);
+
+      Task task = taskRepository.save(Task.builder()
+          .title("Done long ago")
+          .board(board)
+          .owner(owner)
+          .taskStage(TaskStage.DONE)
+          .completedAt(Instant.now())
+          .build());
+      Comment tagged = commentRepository.save(Comment.builder()
+          .author(owner)
+          .boardItem(task)
+          .description("Tagged")
+          .tags(new HashSet<>(Set.of("first", "second")))
+          .build());
+      Comment plain = commentRepository.save(Comment.builder()
+          .author(owner)
+          .boardItem(task)
+          .description("Plain")
+          .build());
+
+      boardId = board.getId();
+      taskId = task.getId();
+      taggedCommentId = tagged.getId();
+      plainCommentId = plain.getId();
+    });
+  }
+
+  @Test
+  void restore_ShouldBringBackArchivedTaskWithComments() {
+    backdate("UPDATE board_items SET completed_at = ? WHERE id = ?", taskId, 365);
+
+    assertThat(archiveService.archiveCompletedTasks(Instant.now().minus(180, ChronoUnit.DAYS))).isPositive();
+
+    assertThat(taskRepository.existsById(taskId)).isFalse();
+    assertThat(commentRepository.findAllById(List.of(taggedCommentId, plainCommentId))).isEmpty();
+    assertThat(archiveEntryRepository.existsById(taskId)).isTrue();
+    assertThat(tombstones()).contains(taskId);
+
+    archiveService.restore(boardId, taskId);
+
+    assertThat(taskRepository.findById(taskId)).get()
+        .extracting(Task::getTaskStage)
+        .isEqualTo(TaskStage.DONE);
+    assertThat(commentRepository.findWithTagsByIds(List.of(taggedCommentId, plainCommentId)))
+        .extracting(Comment::getId, Comment::getTags)
+        .containsExactlyInAnyOrder(
+            tuple(taggedCommentId, Set.of("first", "second")),
+            tuple(plainCommentId, Set.of()));
+    assertThat(archiveEntryRepository.existsById(taskId)).isFalse();
+    assertThat(tombstones()).contains(taskId);
+  }
+
+  @Test
+  void restore_ShouldBringBackArchivedCommentWithTags() {
+    backdate("UPDATE comments SET updated_at = ? WHERE id = ?", taggedCommentId, 1000);
+
+    assertThat(archiveService.archiveComments(Instant.now().minus(730, ChronoUnit.DAYS))).isPositive();
+
+    assertThat(commentRepository.existsById(taggedCommentId)).isFalse();
+    assertThat(commentRepository.existsById(plainCommentId)).isTrue();
+    assertThat(tombstones()).contains(taggedCommentId);
+
+    archiveService.restore(boardId, taggedCommentId);
+
+    assertThat(commentRepository.findWithTagsByIds(List.of(taggedCommentId)))
+        .singleElement()
+        .satisfies(comment -> {
+          assertThat(comment.getBoardItem().getId()).isEqualTo(taskId);
+          assertThat(comment.getTags()).containsExactlyInAnyOrder("first", "second");
+        });
+    assertThat(tombstones()).contains(taggedCommentId);
+  }
+
+  private void backdate(String sql, UUID id, int days) {
+    jdbcTemplate.update(sql, Timestamp.from(Instant.now().minus(days, ChronoUnit.DAYS)), id);
+  }
+
+  private List<UUID> tombstones() {
+    return tombstoneRepository.findByBoardIdAndDeletedAtAfterOrderByDeletedAtAsc(boardId, Instant.EPOCH).stream()
+        .map(Tombstone::getId)
+        .toList();
+  }
+}
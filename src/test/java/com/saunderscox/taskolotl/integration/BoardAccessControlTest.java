@@ -0,0 +1,212 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.Permission;
+import com.saunderscox.taskolotl.entity.Task;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.TaskRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.AuthService;
+import com.saunderscox.taskolotl.service.BoardAccessService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Every board-scoped endpoint answers 403 to a user who neither owns nor is a member of the board,
+ * and 404 for a board that does not exist.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BoardAccessControlTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private AuthService authService;
+
+  @Autowired
+  private BoardAccessService boardAccessService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private final String marker = "ac" + UUID.randomUUID().toString().substring(0, 8);
+  private User member;
+  private User outsider;
+  private UUID boardId;
+  private UUID taskId;
+
+  @BeforeEach
+  void setUp() {
+    User owner = createUser("owner");
+    member = createUser("member");
+    outsider = createUser("outsider");
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      Board board = Board.builder()
+          .title(marker + " board")
+          .boardType(BoardType.TASK)
+          .visible(true)
+          .build();
+      board.addOwner(userRepository.getReferenceById(owner.getId()));
+      board.addMember(userRepository.getReferenceById(member.getId()));
+      board = boardRepository.save(board);
+      boardAccessService.refreshBoard(board.getId());
+
+      Task first = taskRepository.save(Task.builder()
+          .title("First")
+          .position(0)
+          .board(board)
+          .owner(userRepository.getReferenceById(owner.getId()))
+          .build());
+      taskRepository.save(Task.builder()
+          .title("Second")
+          .position(1)
+          .board(board)
+          .owner(userRepository.getReferenceById(owner.getId()))
+          .build());
+
+      boardId = board.getId();
+      taskId = first.getId();
+    });
+  }
+
+  @Test
+  void updateBoard_ShouldBeForbiddenForNonMember() throws Exception {
+    assertForbidden(put("/api/boards/{id}", boardId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"title\":\"" + marker + " taken\"}"));
+
+    assertThat(boardRepository.findById(boardId)).get()
+        .extracting(Board::getTitle)
+        .isEqualTo(marker + " board");
+    mockMvc.perform(put("/api/boards/{id}", boardId)
+            .header("Authorization", bearer(member))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"title\":\"" + marker + " renamed\"}"))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void deleteBoard_ShouldBeForbiddenForNonMember() throws Exception {
+    assertForbidden(delete("/api/boards/{id}", boardId));
+
+    assertThat(boardRepository.existsById(boardId)).isTrue();
+  }
+
+  @Test
+  void moveItemToPosition_ShouldBeForbiddenForNonMember() throws Exception {
+    assertForbidden(post("/api/boards/{boardId}/items/{boardItemId}/move", boardId, taskId)
+        .param("position", "1"));
+
+    assertThat(taskRepository.findById(taskId)).get()
+        .extracting(Task::getPosition)
+        .isEqualTo(0);
+  }
+
+  @Test
+  void cloneBoard_ShouldBeForbiddenForNonMember() throws Exception {
+    assertForbidden(post("/api/boards/{id}/clone", boardId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"title\":\"" + marker + " stolen\"}"));
+
+    assertThat(boardRepository.existsByTitleIgnoreCase(marker + " stolen")).isFalse();
+  }
+
+  @Test
+  void reorderItems_ShouldBeForbiddenForNonMember() throws Exception {
+    assertForbidden(put("/api/boards/{boardId}/items/order", boardId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"boardItemIds\":[\"" + taskId + "\"]}"));
+  }
+
+  @Test
+  void getBoardSnapshot_ShouldBeForbiddenForNonMember() throws Exception {
+    assertForbidden(get("/api/boards/{id}/snapshot", boardId));
+  }
+
+  @Test
+  void exportBoard_ShouldBeForbiddenForNonMember() throws Exception {
+    assertForbidden(get("/api/boards/{id}/export", boardId));
+  }
+
+  @Test
+  void subscribeToBoardEvents_ShouldBeForbiddenForNonMember() throws Exception {
+    assertForbidden(get("/api/boards/{id}/events", boardId));
+  }
+
+  @Test
+  void getBoardStats_ShouldBeForbiddenForNonMember() throws Exception {
+    assertForbidden(get("/api/boards/{id}/stats", boardId));
+  }
+
+  @Test
+  void getBoardChanges_ShouldBeForbiddenForNonMember() throws Exception {
+    assertForbidden(get("/api/boards/{id}/changes", boardId)
+        .param("since", Instant.EPOCH.toString()));
+  }
+
+  @Test
+  void getArchive_ShouldBeForbiddenForNonMember() throws Exception {
+    assertForbidden(get("/api/boards/{id}/archive", boardId));
+  }
+
+  @Test
+  void restoreArchiveEntry_ShouldBeForbiddenForNonMember() throws Exception {
+    assertForbidden(post("/api/boards/{id}/archive/{entryId}/restore", boardId, UUID.randomUUID()));
+  }
+
+  @Test
+  void deleteBoard_ShouldBeNotFoundForUnknownBoard() throws Exception {
+    mockMvc.perform(delete("/api/boards/{id}", UUID.randomUUID())
+            .header("Authorization", bearer(outsider)))
+        .andExpect(status().isNotFound());
+  }
+
+  private void assertForbidden(MockHttpServletRequestBuilder request) throws Exception {
+    mockMvc.perform(request.header("Authorization", bearer(outsider)))
+        .andExpect(status().isForbidden());
+  }
+
+  private String bearer(User user) {
+    return "Bearer " + authService.userIdToAuthResponse(user.getId(), Permission.USER).getAccessToken();
+  }
+
+  private User createUser(String role) {
+    String name = marker + "-" + role;
+    return userRepository.save(User.builder()
+        .username(name)
+        .email(name + "@example.com")
+        .build());
+  }
+}
@@ -0,0 +1,240 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.dto.BoardCloneRequest;
+import com.saunderscox.taskolotl.dto.BoardResponse;
+import com.saunderscox.taskolotl.dto.BoardUpdateRequest;
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.BoardAccessService;
+import com.saunderscox.taskolotl.service.BoardService;
+import com.saunderscox.taskolotl.service.BoardTransferService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The {@code board_access} table and cached access decisions follow owner and member changes made by
+ * updates, clones and imports, and evicting a board or a user drops only that board's or user's decisions.
+ */
+@SpringBootTest
+class BoardAccessTest {
+
+  @Autowired
+  private BoardAccessService boardAccessService;
+
+  @Autowired
+  private BoardService boardService;
+
+  @Autowired
+  private BoardTransferService boardTransferService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private final String marker = "ba" + UUID.randomUUID().toString().substring(0, 8);
+  private User owner;
+  private User member;
+  private User outsider;
+  private User otherOutsider;
+  private UUID boardId;
+  private UUID otherBoardId;
+
+  @BeforeEach
+  void setUp() {
+    owner = createUser("owner");
+    member = createUser("member");
+    outsider = createUser("outsider");
+    otherOutsider = createUser("other-outsider");
+    boardId = createBoard("board");
+    otherBoardId = createBoard("other board");
+  }
+
+  @Test
+  void hasAccess_ShouldFollowMembersAddedAndRemoved() {
+    assertThat(boardAccessService.hasAccess(boardId, outsider.getId())).isFalse();
+
+    updateMembers(Set.of(member.getId(), outsider.getId()));
+    assertThat(boardAccessService.hasAccess(boardId, outsider.getId())).isTrue();
+
+    updateMembers(Set.of(member.getId()));
+    assertThat(boardAccessService.hasAccess(boardId, outsider.getId())).isFalse();
+    assertThat(boardAccessService.hasAccess(boardId, member.getId())).isTrue();
+  }
+
+  @Test
+  void hasAccess_ShouldFollowOwnersReplaced() {
+    assertThat(boardAccessService.hasAccess(boardId, owner.getId())).isTrue();
+
+    BoardUpdateRequest request = new BoardUpdateRequest();
+    request.setOwnerIds(Set.of(outsider.getId()));
+    request.setMemberIds(Set.of());
+    boardService.updateBoard(boardId, request, null);
+
+    assertThat(boardAccessService.hasAccess(boardId, owner.getId())).isFalse();
+    assertThat(boardAccessService.hasAccess(boardId, member.getId())).isFalse();
+    assertThat(boardAccessService.hasAccess(boardId, outsider.getId())).isTrue();
+  }
+
+  @Test
+  void evictBoard_ShouldKeepOtherBoardsDecisions() {
+    assertThat(boardAccessService.hasAccess(boardId, outsider.getId())).isFalse();
+    assertThat(boardAccessService.hasAccess(otherBoardId, outsider.getId())).isFalse();
+    // Granted behind the service's back, so only an eviction can reveal it
+    grant(boardId, outsider);
+    grant(otherBoardId, outsider);
+
+    boardAccessService.evictBoard(boardId);
+
+    assertThat(boardAccessService.hasAccess(boardId, outsider.getId())).isTrue();
+    assertThat(boardAccessService.hasAccess(otherBoardId, outsider.getId())).isFalse();
+
+    boardAccessService.evictBoard(otherBoardId);
+
+    assertThat(boardAccessService.hasAccess(otherBoardId, outsider.getId())).isTrue();
+  }
+
+  @Test
+  void evictUser_ShouldKeepOtherUsersDecisions() {
+    assertThat(boardAccessService.hasAccess(boardId, outsider.getId())).isFalse();
+    assertThat(boardAccessService.hasAccess(otherBoardId, outsider.getId())).isFalse();
+    assertThat(boardAccessService.hasAccess(boardId, otherOutsider.getId())).isFalse();
+    grant(boardId, outsider);
+    grant(otherBoardId, outsider);
+    grant(boardId, otherOutsider);
+
+    boardAccessService.evictUser(outsider.getId());
+
+    assertThat(boardAccessService.hasAccess(boardId, outsider.getId())).isTrue();
+    assertThat(boardAccessService.hasAccess(otherBoardId, outsider.getId())).isTrue();
+    assertThat(boardAccessService.hasAccess(boardId, otherOutsider.getId())).isFalse();
+  }
+
+  @Test
+  void updateBoard_ShouldRewriteAccessRows() {
+    assertThat(accessRows(boardId)).isEqualTo(Map.of(owner.getId(), "OWNER", member.getId(), "MEMBER"));
+
+    BoardUpdateRequest request = new BoardUpdateRequest();
+    request.setOwnerIds(Set.of(outsider.getId(), member.getId()));
+    request.setMemberIds(Set.of(owner.getId(), member.getId()));
+    boardService.updateBoard(boardId, request, null);
+
+    assertThat(accessRows(boardId)).isEqualTo(Map.of(
+        outsider.getId(), "OWNER", member.getId(), "OWNER", owner.getId(), "MEMBER"));
+
+    updateMembers(Set.of());
+    assertThat(accessRows(boardId)).isEqualTo(Map.of(outsider.getId(), "OWNER", member.getId(), "OWNER"));
+  }
+
+  @Test
+  void cloneBoard_ShouldGrantClonerAndCopiedMemberships() {
+    BoardResponse withMemberships = boardService.cloneBoard(boardId,
+        BoardCloneRequest.builder().title(marker + " with memberships").includeMemberships(true).build(),
+        outsider.getId());
+    BoardResponse withoutMemberships = boardService.cloneBoard(boardId,
+        BoardCloneRequest.builder().title(marker + " without memberships").build(),
+        outsider.getId());
+
+    assertThat(accessRows(withMemberships.getId())).isEqualTo(Map.of(
+        owner.getId(), "OWNER", member.getId(), "MEMBER", outsider.getId(), "OWNER"));
+    assertThat(accessRows(withoutMemberships.getId())).isEqualTo(Map.of(outsider.getId(), "OWNER"));
+    assertThat(boardAccessService.hasAccess(withoutMemberships.getId(), member.getId())).isFalse();
+  }
+
+  @Test
+  void importBoard_ShouldRestoreAccessRows() throws Exception {
+    ByteArrayOutputStream exported = new ByteArrayOutputStream();
+    boardTransferService.exportBoard(boardId, exported);
+    assertThat(boardAccessService.hasAccess(boardId, member.getId())).isTrue();
+    boardService.deleteBoard(boardId);
+    assertThat(accessRows(boardId)).isEmpty();
+
+    boardTransferService.importBoard(new ByteArrayInputStream(exported.toByteArray()));
+
+    assertThat(accessRows(boardId)).isEqualTo(Map.of(owner.getId(), "OWNER", member.getId(), "MEMBER"));
+    assertThat(boardAccessService.hasAccess(boardId, member.getId())).isTrue();
+  }
+
+  @Test
+  void backfill_ShouldFillEmptyTableFromMemberships() {
+    Map<UUID, String> expected = accessRows(boardId);
+
+    // Rolled back so the other tests' rows are left alone
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      jdbcTemplate.update("DELETE FROM board_access");
+
+      boardAccessService.backfill();
+
+      assertThat(accessRows(boardId)).isEqualTo(expected);
+      assertThat(accessRows(otherBoardId)).isEqualTo(expected);
+      status.setRollbackOnly();
+    });
+  }
+
+  private Map<UUID, String> accessRows(UUID board) {
+    Map<UUID, String> rows = new HashMap<>();
+    jdbcTemplate.query("SELECT user_id, access_level FROM board_access WHERE board_id = ?",
+        rs -> {
+          rows.put(rs.getObject(1, UUID.class), rs.getString(2));
+        }, board);
+    return rows;
+  }
+
+  private void updateMembers(Set<UUID> memberIds) {
+    BoardUpdateRequest request = new BoardUpdateRequest();
+    request.setMemberIds(memberIds);
+    boardService.updateBoard(boardId, request, null);
+  }
+
+  private void grant(UUID board, User user) {
+    jdbcTemplate.update("INSERT INTO board_access (user_id, board_id, access_level) VALUES (?, ?, 'MEMBER')",
+        user.getId(), board);
+  }
+
+  private UUID createBoard(String title) {
+    return new TransactionTemplate(transactionManager).execute(status -> {
+      Board board = Board.builder()
+          .title(marker + " " + title)
+          .boardType(BoardType.TASK)
+          .visible(true)
+          .build();
+      board.addOwner(userRepository.getReferenceById(owner.getId()));
+      board.addMember(userRepository.getReferenceById(member.getId()));
+      board = boardRepository.save(board);
+      boardAccessService.refreshBoard(board.getId());
+      return board.getId();
+    });
+  }
+
+  private User createUser(String role) {
+    String name = marker + "-" + role;
+    return userRepository.save(User.builder()
+        .username(name)
+        .email(name + "@example.com")
+        .build());
+  }
+}
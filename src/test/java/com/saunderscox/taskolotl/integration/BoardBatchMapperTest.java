@@ -0,0 +1,122 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.dto.BoardResponse;
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.mapper.BoardBatchMapper;
+import com.saunderscox.taskolotl.mapper.BoardMapper;
+import com.saunderscox.taskolotl.repository.BoardRelationId;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class BoardBatchMapperTest {
+
+  private final BoardMapper boardMapper = Mappers.getMapper(BoardMapper.class);
+
+  private BoardRepository boardRepository;
+  private BoardBatchMapper boardBatchMapper;
+
+  private Board firstBoard;
+  private Board secondBoard;
+
+  @BeforeEach
+  void setUp() {
+    boardRepository = mock(BoardRepository.class);
+    boardBatchMapper = new BoardBatchMapper(boardRepository, boardMapper);
+
+    firstBoard = mockBoard("First Board");
+    secondBoard = mockBoard("Second Board");
+  }
+
+  @Test
+  void toResponsePage_shouldAssembleRelationIdsPerBoard() {
+    // Given
+    UUID ownerId = UUID.randomUUID();
+    UUID memberId = UUID.randomUUID();
+    UUID itemId = UUID.randomUUID();
+    UUID roleId = UUID.randomUUID();
+    UUID skillId = UUID.randomUUID();
+
+    List<BoardRelationId> owners = List.of(
+      relation(firstBoard.getId(), ownerId), relation(secondBoard.getId(), ownerId));
+    List<BoardRelationId> members = List.of(relation(firstBoard.getId(), memberId));
+    List<BoardRelationId> items = List.of(relation(secondBoard.getId(), itemId));
+    List<BoardRelationId> roles = List.of(relation(firstBoard.getId(), roleId));
+    List<BoardRelationId> skills = List.of(relation(secondBoard.getId(), skillId));
+
+    when(boardRepository.findOwnerIdsByBoardIds(anyCollection())).thenReturn(owners);
+    when(boardRepository.findMemberIdsByBoardIds(anyCollection())).thenReturn(members);
+    when(boardRepository.findBoardItemIdsByBoardIds(anyCollection())).thenReturn(items);
+    when(boardRepository.findRoleIdsByBoardIds(anyCollection())).thenReturn(roles);
+    when(boardRepository.findSkillIdsByBoardIds(anyCollection())).thenReturn(skills);
+
+    Page<Board> page = new PageImpl<>(List.of(firstBoard, secondBoard), PageRequest.of(0, 2), 5);
+
+    // When
+    Page<BoardResponse> result = boardBatchMapper.toResponsePage(page);
+
+    // Then
+    assertThat(result.getTotalElements()).isEqualTo(5);
+    assertThat(result.getContent())
+      .extracting(BoardResponse::getTitle)
+      .containsExactly("First Board", "Second Board");
+
+    BoardResponse first = result.getContent().get(0);
+    assertThat(first.getOwnerIds()).containsExactly(ownerId);
+    assertThat(first.getMemberIds()).containsExactly(memberId);
+    assertThat(first.getBoardItemIds()).isEmpty();
+    assertThat(first.getRoleIds()).containsExactly(roleId);
+    assertThat(first.getSkillIds()).isEmpty();
+
+    BoardResponse second = result.getContent().get(1);
+    assertThat(second.getOwnerIds()).containsExactly(ownerId);
+    assertThat(second.getMemberIds()).isEmpty();
+    assertThat(second.getBoardItemIds()).containsExactly(itemId);
+    assertThat(second.getRoleIds()).isEmpty();
+    assertThat(second.getSkillIds()).containsExactly(skillId);
+
+    // Lazy collections are never touched
+    verify(firstBoard, never()).getOwners();
+    verify(firstBoard, never()).getMembers();
+    verify(firstBoard, never()).getBoardItems();
+    verify(firstBoard, never()).getRoles();
+    verify(firstBoard, never()).getSkills();
+  }
+
+  @Test
+  void toResponsePage_shouldNotQueryForEmptyPage() {
+    // When
+    Page<BoardResponse> result = boardBatchMapper.toResponsePage(Page.empty());
+
+    // Then
+    assertThat(result.getContent()).isEmpty();
+    verifyNoInteractions(boardRepository);
+  }
+
+  private static Board mockBoard(String title) {
+    Board board = mock(Board.class);
+    when(board.getId()).thenReturn(UUID.randomUUID());
+    when(board.getTitle()).thenReturn(title);
+    when(board.getBoardType()).thenReturn(BoardType.TASK);
+    return board;
+  }
+
+  private static BoardRelationId relation(UUID boardId, UUID relatedId) {
+    BoardRelationId relation = mock(BoardRelationId.class);
+    when(relation.getBoardId()).thenReturn(boardId);
+    when(relation.getRelatedId()).thenReturn(relatedId);
+    return relation;
+  }
+}
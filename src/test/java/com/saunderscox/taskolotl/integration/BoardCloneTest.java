@@ -0,0 +1,155 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.dto.BoardCloneRequest;
+import com.saunderscox.taskolotl.dto.BoardResponse;
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.Concept;
+import com.saunderscox.taskolotl.entity.RankKeys;
+import com.saunderscox.taskolotl.entity.Skill;
+import com.saunderscox.taskolotl.entity.Study;
+import com.saunderscox.taskolotl.entity.Task;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.ConceptRepository;
+import com.saunderscox.taskolotl.repository.SkillRepository;
+import com.saunderscox.taskolotl.repository.StudyRepository;
+import com.saunderscox.taskolotl.repository.TaskRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.BoardAccessService;
+import com.saunderscox.taskolotl.service.BoardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * A cloned board gets fresh copies of the template's items that keep their type, skill, concept,
+ * position and rank key, while the template's items stay where they were.
+ */
+@SpringBootTest
+class BoardCloneTest {
+
+  private static final String SELECT_ITEMS = """
+      SELECT id, item_type, title, position, rank_key, skill_id, concept_id
+      FROM board_items WHERE board_id = ? ORDER BY position
+      """;
+
+  @Autowired
+  private BoardService boardService;
+
+  @Autowired
+  private BoardAccessService boardAccessService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private StudyRepository studyRepository;
+
+  @Autowired
+  private SkillRepository skillRepository;
+
+  @Autowired
+  private ConceptRepository conceptRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private final String marker = "cl" + UUID.randomUUID().toString().substring(0, 8);
+  private User owner;
+  private UUID templateId;
+  private UUID skillId;
+  private UUID conceptId;
+  private String firstRankKey;
+  private String secondRankKey;
+
+  @BeforeEach
+  void setUp() {
+    owner = userRepository.save(User.builder()
+        .username(marker)
+        .email(marker + "@example.com")
+        .build());
+    Skill skill = skillRepository.save(Skill.builder().name(marker + " skill").build());
+    Concept concept = conceptRepository.save(Concept.builder().name(marker + " concept").skill(skill).build());
+    skillId = skill.getId();
+    conceptId = concept.getId();
+    firstRankKey = RankKeys.between(null, null);
+    secondRankKey = RankKeys.between(firstRankKey, null);
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      Board board = Board.builder()
+          .title(marker + " template")
+          .boardType(BoardType.TASK)
+          .visible(true)
+          .build();
+      board.addOwner(owner);
+      board = boardRepository.save(board);
+      boardAccessService.refreshBoard(board.getId());
+
+      taskRepository.save(Task.builder()
+          .title("Skilled task")
+          .position(0)
+          .rankKey(firstRankKey)
+          .board(board)
+          .owner(owner)
+          .skill(skill)
+          .concept(concept)
+          .build());
+      studyRepository.save(Study.builder()
+          .title("Conceptual study")
+          .position(1)
+          .rankKey(secondRankKey)
+          .board(board)
+          .owner(owner)
+          .concept(concept)
+          .build());
+      taskRepository.save(Task.builder()
+          .title("Plain task")
+          .position(2)
+          .board(board)
+          .owner(owner)
+          .build());
+      templateId = board.getId();
+    });
+  }
+
+  @Test
+  void cloneBoard_ShouldCopyItemsWithSkillsConceptsPositionsAndRankKeys() {
+    List<Map<String, Object>> templateItems = jdbcTemplate.queryForList(SELECT_ITEMS, templateId);
+
+    BoardResponse clone = boardService.cloneBoard(templateId,
+        BoardCloneRequest.builder().title(marker + " clone").build(), owner.getId());
+
+    List<Map<String, Object>> cloneItems = jdbcTemplate.queryForList(SELECT_ITEMS, clone.getId());
+    assertThat(cloneItems)
+        .extracting(row -> row.get("ITEM_TYPE"), row -> row.get("TITLE"), row -> row.get("POSITION"),
+            row -> row.get("RANK_KEY"), row -> row.get("SKILL_ID"), row -> row.get("CONCEPT_ID"))
+        .containsExactly(
+            tuple("TASK", "Skilled task", 0, firstRankKey, skillId, conceptId),
+            tuple("STUDY", "Conceptual study", 1, secondRankKey, null, conceptId),
+            tuple("TASK", "Plain task", 2, null, null, null));
+    assertThat(cloneItems).extracting(row -> row.get("ID"))
+        .doesNotContainAnyElementsOf(templateItems.stream().map(row -> row.get("ID")).toList());
+    assertThat(jdbcTemplate.queryForList(SELECT_ITEMS, templateId)).isEqualTo(templateItems);
+  }
+}
@@ -0,0 +1,310 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.config.events.BoardEventProps;
+import com.saunderscox.taskolotl.dto.BoardChangeType;
+import com.saunderscox.taskolotl.dto.BoardChanges;
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.Comment;
+import com.saunderscox.taskolotl.entity.Task;
+import com.saunderscox.taskolotl.entity.TaskStage;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.CommentRepository;
+import com.saunderscox.taskolotl.repository.TaskRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.archive.ArchiveService;
+import com.saunderscox.taskolotl.service.events.BoardChangeEvent;
+import com.saunderscox.taskolotl.service.events.BoardEventBroadcaster;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Board changes reach event subscribers coalesced per window, a subscriber that falls behind gets a
+ * single resync in place of the dropped events, and deleting a board completes its subscriptions.
+ * Archiving and restoring publish changes like other board writes.
+ */
+@SpringBootTest
+@RecordApplicationEvents
+class BoardEventsTest {
+
+  private static final int BUFFER = 2;
+
+  @Autowired
+  private ApplicationEvents applicationEvents;
+
+  @Autowired
+  private ArchiveService archiveService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private CommentRepository commentRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  // Flushes run when the test says so instead of after the coalescing window
+  private final Queue<Runnable> scheduledFlushes = new ConcurrentLinkedQueue<>();
+  private final BlockingQueue<Sent> sent = new LinkedBlockingQueue<>();
+  private final Semaphore sending = new Semaphore(0);
+  private final UUID boardId = UUID.randomUUID();
+  private CountDownLatch clientReady = new CountDownLatch(0);
+  private BoardEventBroadcaster broadcaster;
+
+  @BeforeEach
+  void setUp() {
+    TaskScheduler taskScheduler = mock(TaskScheduler.class);
+    doAnswer(invocation -> {
+      scheduledFlushes.add(invocation.getArgument(0));
+      return null;
+    }).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    BoardEventProps props = new BoardEventProps();
+    props.setSubscriberBuffer(BUFFER);
+
+    broadcaster = new BoardEventBroadcaster(props, taskScheduler) {
+      @Override
+      protected SseEmitter createEmitter(long timeoutMillis) {
+        return new RecordingEmitter(timeoutMillis);
+      }
+    };
+  }
+
+  @AfterEach
+  void tearDown() {
+    clientReady.countDown();
+    // Ends the subscribers' sender threads
+    broadcaster.onBoardChange(BoardChangeEvent.of(boardId, BoardChangeType.BOARD_DELETED));
+    runScheduledFlushes();
+  }
+
+  @Test
+  void onBoardChange_ShouldCoalesceChangesWithinWindow() throws InterruptedException {
+    UUID firstItemId = UUID.randomUUID();
+    UUID secondItemId = UUID.randomUUID();
+    broadcaster.subscribe(boardId);
+    broadcaster.onBoardChange(BoardChangeEvent.of(UUID.randomUUID(), BoardChangeType.BOARD_UPDATED));
+    assertThat(scheduledFlushes).as("flushes for a board without subscribers").isEmpty();
+
+    broadcaster.onBoardChange(BoardChangeEvent.of(boardId, BoardChangeType.ITEM_MOVED, firstItemId));
+    broadcaster.onBoardChange(new BoardChangeEvent(boardId, BoardChangeType.ITEMS_REORDERED,
+        List.of(secondItemId, firstItemId)));
+    broadcaster.onBoardChange(BoardChangeEvent.of(boardId, BoardChangeType.BOARD_UPDATED));
+    assertThat(scheduledFlushes).hasSize(1);
+    runScheduledFlushes();
+
+    assertThat(nextSent()).isEqualTo(new Sent("changes", new BoardChanges(boardId,
+        Set.of(BoardChangeType.ITEM_MOVED, BoardChangeType.ITEMS_REORDERED, BoardChangeType.BOARD_UPDATED),
+        Set.of(firstItemId, secondItemId))));
+
+    broadcaster.onBoardChange(BoardChangeEvent.of(boardId, BoardChangeType.ITEM_MOVED, secondItemId));
+    assertThat(scheduledFlushes).hasSize(1);
+    runScheduledFlushes();
+
+    assertThat(nextSent()).isEqualTo(new Sent("changes",
+        new BoardChanges(boardId, Set.of(BoardChangeType.ITEM_MOVED), Set.of(secondItemId))));
+  }
+
+  @Test
+  void onBoardChange_ShouldSendSingleResyncWhenBufferOverflows() throws InterruptedException {
+    clientReady = new CountDownLatch(1);
+    broadcaster.subscribe(boardId);
+    List<UUID> itemIds = new ArrayList<>();
+    for (int i = 0; i < BUFFER + 2; i++) {
+      itemIds.add(UUID.randomUUID());
+      broadcaster.onBoardChange(BoardChangeEvent.of(boardId, BoardChangeType.ITEM_MOVED, itemIds.get(i)));
+      runScheduledFlushes();
+      if (i == 0) {
+        // The first event is being sent to the stalled client; the rest queue up behind it
+        assertThat(sending.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+      }
+    }
+
+    clientReady.countDown();
+
+    assertThat(nextSent()).isEqualTo(new Sent("changes",
+        new BoardChanges(boardId, Set.of(BoardChangeType.ITEM_MOVED), Set.of(itemIds.get(0)))));
+    assertThat(nextSent()).isEqualTo(new Sent("resync", boardId));
+    assertThat(sent.poll(200, TimeUnit.MILLISECONDS)).as("events after the resync").isNull();
+  }
+
+  @Test
+  void onBoardChange_ShouldCompleteSubscriptionsWhenBoardIsDeleted() throws InterruptedException {
+    UUID itemId = UUID.randomUUID();
+    broadcaster.subscribe(boardId);
+    broadcaster.subscribe(boardId);
+
+    broadcaster.onBoardChange(BoardChangeEvent.of(boardId, BoardChangeType.ITEM_MOVED, itemId));
+    broadcaster.onBoardChange(BoardChangeEvent.of(boardId, BoardChangeType.BOARD_DELETED));
+    runScheduledFlushes();
+
+    Sent finalChanges = new Sent("changes", new BoardChanges(boardId,
+        Set.of(BoardChangeType.ITEM_MOVED, BoardChangeType.BOARD_DELETED), Set.of(itemId)));
+    List<Sent> received = List.of(nextSent(), nextSent(), nextSent(), nextSent());
+    assertThat(received).containsExactlyInAnyOrder(finalChanges, finalChanges, Sent.COMPLETE, Sent.COMPLETE);
+    // Each subscriber gets its final changes before its completion
+    assertThat(received.indexOf(finalChanges)).isLessThan(received.indexOf(Sent.COMPLETE));
+  }
+
+  @Test
+  void archiveAndRestore_ShouldPublishBoardChanges() {
+    String name = "events-" + UUID.randomUUID();
+    User owner = userRepository.save(User.builder()
+        .username(name)
+        .email(name + "@example.com")
+        .build());
+    UUID[] ids = new TransactionTemplate(transactionManager).execute(status -> {
+      Board board = Board.builder()
+          .title(name)
+          .boardType(BoardType.TASK)
+          .visible(true)
+          .build();
+      board.addOwner(owner);
+      board = boardRepository.save(board);
+      Task done = taskRepository.save(Task.builder()
+          .title("Done long ago")
+          .board(board)
+          .owner(owner)
+          .taskStage(TaskStage.DONE)
+          .completedAt(Instant.now())
+          .build());
+      Task open = taskRepository.save(Task.builder()
+          .title("Still open")
+          .board(board)
+          .owner(owner)
+          .build());
+      Comment comment = commentRepository.save(Comment.builder()
+          .author(owner)
+          .boardItem(open)
+          .description("Old comment")
+          .build());
+      return new UUID[] {board.getId(), done.getId(), open.getId(), comment.getId()};
+    });
+    UUID archivedBoardId = ids[0];
+    UUID doneTaskId = ids[1];
+    UUID openTaskId = ids[2];
+    jdbcTemplate.update("UPDATE board_items SET completed_at = ? WHERE id = ?",
+        Timestamp.from(Instant.now().minus(365, ChronoUnit.DAYS)), doneTaskId);
+    jdbcTemplate.update("UPDATE comments SET updated_at = ? WHERE id = ?",
+        Timestamp.from(Instant.now().minus(1000, ChronoUnit.DAYS)), ids[3]);
+
+    archiveService.archiveCompletedTasks(Instant.now().minus(180, ChronoUnit.DAYS));
+    archiveService.archiveComments(Instant.now().minus(730, ChronoUnit.DAYS));
+    archiveService.restore(archivedBoardId, doneTaskId);
+
+    assertThat(applicationEvents.stream(BoardChangeEvent.class)
+        .filter(event -> event.boardId().equals(archivedBoardId)))
+        .containsExactly(
+            new BoardChangeEvent(archivedBoardId, BoardChangeType.ITEMS_ARCHIVED, List.of(doneTaskId)),
+            new BoardChangeEvent(archivedBoardId, BoardChangeType.ITEMS_ARCHIVED, List.of(openTaskId)),
+            BoardChangeEvent.of(archivedBoardId, BoardChangeType.ITEMS_RESTORED, doneTaskId));
+  }
+
+  private void runScheduledFlushes() {
+    for (Runnable flush; (flush = scheduledFlushes.poll()) != null; ) {
+      flush.run();
+    }
+  }
+
+  private Sent nextSent() throws InterruptedException {
+    Sent next = sent.poll(5, TimeUnit.SECONDS);
+    assertThat(next).as("next event").isNotNull();
+    return next;
+  }
+
+  /**
+   * An event as the client sees it: its name and its data object.
+   */
+  private record Sent(String name, Object data) {
+
+    static final Sent COMPLETE = new Sent("complete", null);
+
+    static Sent of(SseEmitter.SseEventBuilder builder) {
+      StringBuilder text = new StringBuilder();
+      Object data = null;
+      for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+        if (part.getData() instanceof String string) {
+          text.append(string);
+        } else {
+          data = part.getData();
+        }
+      }
+      String name = text.toString().lines()
+          .filter(line -> line.startsWith("event:"))
+          .map(line -> line.substring("event:".length()))
+          .findFirst()
+          .orElse(null);
+      return new Sent(name, data);
+    }
+  }
+
+  /**
+   * Records what is sent, and stalls each send until the client is ready, like a slow connection.
+   */
+  private final class RecordingEmitter extends SseEmitter {
+
+    RecordingEmitter(long timeoutMillis) {
+      super(timeoutMillis);
+    }
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+      sending.release();
+      try {
+        clientReady.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException();
+      }
+      sent.add(Sent.of(builder));
+    }
+
+    @Override
+    public void complete() {
+      sent.add(Sent.COMPLETE);
+    }
+  }
+}
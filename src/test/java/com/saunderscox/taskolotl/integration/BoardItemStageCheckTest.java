@@ -0,0 +1,103 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.Study;
+import com.saunderscox.taskolotl.entity.StudyStage;
+import com.saunderscox.taskolotl.entity.Task;
+import com.saunderscox.taskolotl.entity.TaskStage;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.StudyRepository;
+import com.saunderscox.taskolotl.repository.TaskRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tasks and studies share the {@code board_items} table, so each subtype's stage column is nullable
+ * and the {@code ck_board_item_stage} check requires it on that subtype's rows only.
+ */
+@SpringBootTest
+class BoardItemStageCheckTest {
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private StudyRepository studyRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private UUID taskId;
+  private UUID studyId;
+
+  @BeforeEach
+  void setUp() {
+    String name = "stage-" + UUID.randomUUID();
+    User owner = userRepository.save(User.builder()
+        .username(name)
+        .email(name + "@example.com")
+        .build());
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      Board board = Board.builder()
+          .title(name)
+          .boardType(BoardType.TASK)
+          .visible(true)
+          .build();
+      board.addOwner(owner);
+      board = boardRepository.save(board);
+      taskId = taskRepository.save(Task.builder()
+          .title("Task")
+          .board(board)
+          .owner(owner)
+          .taskStage(TaskStage.IN_PROGRESS)
+          .build()).getId();
+      studyId = studyRepository.save(Study.builder()
+          .title("Study")
+          .position(1)
+          .board(board)
+          .owner(owner)
+          .studyStage(StudyStage.LEARNING)
+          .build()).getId();
+    });
+  }
+
+  @Test
+  void save_ShouldLeaveOtherSubtypesStageEmpty() {
+    assertThat(jdbcTemplate.queryForObject("SELECT study_stage FROM board_items WHERE id = ?", String.class, taskId))
+        .isNull();
+    assertThat(jdbcTemplate.queryForObject("SELECT task_stage FROM board_items WHERE id = ?", String.class, studyId))
+        .isNull();
+  }
+
+  @Test
+  void stageCheck_ShouldRequireEachSubtypesOwnStage() {
+    assertThatThrownBy(() -> jdbcTemplate.update("UPDATE board_items SET task_stage = NULL WHERE id = ?", taskId))
+        .isInstanceOf(DataIntegrityViolationException.class);
+    assertThatThrownBy(() -> jdbcTemplate.update("UPDATE board_items SET study_stage = NULL WHERE id = ?", studyId))
+        .isInstanceOf(DataIntegrityViolationException.class);
+  }
+}
@@ -0,0 +1,219 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.ItemOrdering;
+import com.saunderscox.taskolotl.entity.Permission;
+import com.saunderscox.taskolotl.entity.RankKeys;
+import com.saunderscox.taskolotl.entity.Task;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.BoardItemOrderRepository;
+import com.saunderscox.taskolotl.repository.BoardItemSlot;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.TaskRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.AuthService;
+import com.saunderscox.taskolotl.service.BoardAccessService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Moving an item on a rank-ordered board places it at the requested index of the display order,
+ * writing only its own key while its neighbours leave room, and rebalancing the board first when
+ * they do not: next to unranked items, which display last, or between tied keys.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BoardRankMoveTest {
+
+  private static final String SELECT_IN_DISPLAY_ORDER = """
+      SELECT title, rank_key, version FROM board_items WHERE board_id = ?
+      ORDER BY rank_key NULLS LAST, position
+      """;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private AuthService authService;
+
+  @Autowired
+  private BoardAccessService boardAccessService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private BoardItemOrderRepository boardItemOrderRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private final String marker = "rm" + UUID.randomUUID().toString().substring(0, 8);
+  private User owner;
+  private Map<String, UUID> itemIds;
+
+  @BeforeEach
+  void setUp() {
+    owner = userRepository.save(User.builder()
+        .username(marker)
+        .email(marker + "@example.com")
+        .build());
+    itemIds = new LinkedHashMap<>();
+  }
+
+  @Test
+  void moveItem_ShouldWriteOnlyMovedItemWhenNeighboursLeaveRoom() throws Exception {
+    UUID boardId = createBoard(RankKeys.spread(4));
+    Map<String, Object> keysBefore = column(boardId, "RANK_KEY");
+    Map<String, Object> versionsBefore = column(boardId, "VERSION");
+
+    move(boardId, "D", 1).andExpect(status().isOk());
+
+    assertThat(order(boardId)).containsExactly("A", "D", "B", "C");
+    Map<String, Object> keysAfter = column(boardId, "RANK_KEY");
+    Map<String, Object> versionsAfter = column(boardId, "VERSION");
+    for (String title : List.of("A", "B", "C")) {
+      assertThat(keysAfter.get(title)).isEqualTo(keysBefore.get(title));
+      assertThat(versionsAfter.get(title)).isEqualTo(versionsBefore.get(title));
+    }
+    assertThat(keysAfter.get("D")).isNotEqualTo(keysBefore.get("D"));
+  }
+
+  @Test
+  void moveItem_ShouldMoveToFirstAndLastIndex() throws Exception {
+    UUID boardId = createBoard(RankKeys.spread(4));
+
+    move(boardId, "A", 3).andExpect(status().isOk());
+    assertThat(order(boardId)).containsExactly("B", "C", "D", "A");
+
+    move(boardId, "D", 0).andExpect(status().isOk());
+    assertThat(order(boardId)).containsExactly("D", "B", "C", "A");
+  }
+
+  @Test
+  void moveItem_ShouldRebalanceWhenMovedAmongUnrankedItems() throws Exception {
+    String[] rankKeys = RankKeys.spread(2);
+    UUID boardId = createBoard(rankKeys[0], rankKeys[1], null, null);
+
+    move(boardId, "A", 3).andExpect(status().isOk());
+
+    assertThat(order(boardId)).containsExactly("B", "C", "D", "A");
+    assertThat(column(boardId, "RANK_KEY").values()).doesNotContainNull();
+
+    move(boardId, "D", 1).andExpect(status().isOk());
+    assertThat(order(boardId)).containsExactly("B", "D", "C", "A");
+  }
+
+  @Test
+  void moveItem_ShouldRebalanceTiedNeighbours() throws Exception {
+    String[] rankKeys = RankKeys.spread(2);
+    UUID boardId = createBoard(rankKeys[0], rankKeys[0], rankKeys[1]);
+
+    move(boardId, "C", 1).andExpect(status().isOk());
+
+    assertThat(order(boardId)).containsExactly("A", "C", "B");
+    List<String> keys = column(boardId, "RANK_KEY").values().stream().map(String.class::cast).toList();
+    assertThat(keys).doesNotHaveDuplicates().isSorted();
+  }
+
+  @Test
+  void moveItem_ShouldRejectPositionPastTheEnd() throws Exception {
+    UUID boardId = createBoard(RankKeys.spread(2));
+
+    move(boardId, "A", 2).andExpect(status().isBadRequest());
+
+    assertThat(order(boardId)).containsExactly("A", "B");
+  }
+
+  @Test
+  void updateRankKeysIfUnchanged_ShouldFailWhenItemChangedSinceRead() {
+    UUID boardId = createBoard(RankKeys.spread(2));
+    List<BoardItemSlot> slots = boardRepository.findItemSlotsInRankOrder(boardId);
+    String[] rankKeys = RankKeys.spread(3);
+    jdbcTemplate.update("UPDATE board_items SET version = version + 1 WHERE id = ?", itemIds.get("B"));
+
+    assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+        boardItemOrderRepository.updateRankKeysIfUnchanged(boardId, slots,
+            Map.of(itemIds.get("A"), rankKeys[0], itemIds.get("B"), rankKeys[1]))))
+        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+    assertThat(column(boardId, "RANK_KEY").get("A")).isEqualTo(RankKeys.spread(2)[0]);
+  }
+
+  private ResultActions move(UUID boardId, String title, int position) throws Exception {
+    return mockMvc.perform(post("/api/boards/{boardId}/items/{boardItemId}/move", boardId, itemIds.get(title))
+        .header("Authorization", "Bearer "
+            + authService.userIdToAuthResponse(owner.getId(), Permission.USER).getAccessToken())
+        .param("position", String.valueOf(position)));
+  }
+
+  private List<String> order(UUID boardId) {
+    return List.copyOf(column(boardId, "TITLE").keySet());
+  }
+
+  private Map<String, Object> column(UUID boardId, String column) {
+    Map<String, Object> values = new LinkedHashMap<>();
+    jdbcTemplate.queryForList(SELECT_IN_DISPLAY_ORDER, boardId)
+        .forEach(row -> values.put((String) row.get("TITLE"), row.get(column)));
+    return values;
+  }
+
+  /**
+   * Creates a rank-ordered board with items titled A, B, C... at positions 0, 1, 2... and the given keys.
+   */
+  private UUID createBoard(String... rankKeys) {
+    return new TransactionTemplate(transactionManager).execute(status -> {
+      Board board = Board.builder()
+          .title(marker + " " + Arrays.toString(rankKeys))
+          .boardType(BoardType.TASK)
+          .itemOrdering(ItemOrdering.RANK)
+          .visible(true)
+          .build();
+      board.addOwner(owner);
+      board = boardRepository.save(board);
+      boardAccessService.refreshBoard(board.getId());
+
+      for (int i = 0; i < rankKeys.length; i++) {
+        String title = String.valueOf((char) ('A' + i));
+        itemIds.put(title, taskRepository.save(Task.builder()
+            .title(title)
+            .position(i)
+            .rankKey(rankKeys[i])
+            .board(board)
+            .owner(owner)
+            .build()).getId());
+      }
+      return board.getId();
+    });
+  }
+}
@@ -0,0 +1,181 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.ItemOrdering;
+import com.saunderscox.taskolotl.entity.Permission;
+import com.saunderscox.taskolotl.entity.RankKeys;
+import com.saunderscox.taskolotl.entity.Task;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.TaskRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.AuthService;
+import com.saunderscox.taskolotl.service.BoardAccessService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Bulk reordering rearranges the listed items among the slots they already occupy, leaves unlisted
+ * items where they are, and rejects duplicate IDs and items of other boards without writing anything.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BoardReorderTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private AuthService authService;
+
+  @Autowired
+  private BoardAccessService boardAccessService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private final String marker = "ro" + UUID.randomUUID().toString().substring(0, 8);
+  private User owner;
+
+  @BeforeEach
+  void setUp() {
+    owner = userRepository.save(User.builder()
+        .username(marker)
+        .email(marker + "@example.com")
+        .build());
+  }
+
+  @Test
+  void reorderItems_ShouldSwapListedItemsAmongTheirOwnPositions() throws Exception {
+    UUID boardId = createBoard("positions", ItemOrdering.POSITION, 4);
+    List<UUID> items = itemIds(boardId);
+    Map<UUID, Object> before = slots(boardId, "position");
+
+    reorder(boardId, List.of(items.get(3), items.get(1))).andExpect(status().isNoContent());
+
+    Map<UUID, Object> after = slots(boardId, "position");
+    assertThat(after.get(items.get(0))).isEqualTo(before.get(items.get(0)));
+    assertThat(after.get(items.get(3))).isEqualTo(before.get(items.get(1)));
+    assertThat(after.get(items.get(2))).isEqualTo(before.get(items.get(2)));
+    assertThat(after.get(items.get(1))).isEqualTo(before.get(items.get(3)));
+  }
+
+  @Test
+  void reorderItems_ShouldSwapListedItemsAmongTheirOwnRankKeys() throws Exception {
+    UUID boardId = createBoard("ranks", ItemOrdering.RANK, 4);
+    List<UUID> items = itemIds(boardId);
+    Map<UUID, Object> before = slots(boardId, "rank_key");
+
+    reorder(boardId, List.of(items.get(2), items.get(0))).andExpect(status().isNoContent());
+
+    Map<UUID, Object> after = slots(boardId, "rank_key");
+    assertThat(after.get(items.get(2))).isEqualTo(before.get(items.get(0)));
+    assertThat(after.get(items.get(1))).isEqualTo(before.get(items.get(1)));
+    assertThat(after.get(items.get(0))).isEqualTo(before.get(items.get(2)));
+    assertThat(after.get(items.get(3))).isEqualTo(before.get(items.get(3)));
+  }
+
+  @Test
+  void reorderItems_ShouldRejectDuplicateIds() throws Exception {
+    UUID boardId = createBoard("duplicates", ItemOrdering.POSITION, 3);
+    List<UUID> items = itemIds(boardId);
+    Map<UUID, Object> before = slots(boardId, "position");
+
+    reorder(boardId, List.of(items.get(2), items.get(0), items.get(2))).andExpect(status().isBadRequest());
+
+    assertThat(slots(boardId, "position")).isEqualTo(before);
+  }
+
+  @Test
+  void reorderItems_ShouldRejectItemsOfAnotherBoard() throws Exception {
+    UUID boardId = createBoard("target", ItemOrdering.POSITION, 3);
+    UUID otherBoardId = createBoard("other", ItemOrdering.POSITION, 1);
+    List<UUID> items = itemIds(boardId);
+    Map<UUID, Object> before = slots(boardId, "position");
+
+    reorder(boardId, List.of(items.get(2), itemIds(otherBoardId).get(0))).andExpect(status().isNotFound());
+
+    assertThat(slots(boardId, "position")).isEqualTo(before);
+  }
+
+  private ResultActions reorder(UUID boardId, List<UUID> boardItemIds) throws Exception {
+    String ids = boardItemIds.stream().map(id -> "\"" + id + "\"").collect(Collectors.joining(","));
+    return mockMvc.perform(put("/api/boards/{boardId}/items/order", boardId)
+        .header("Authorization", "Bearer "
+            + authService.userIdToAuthResponse(owner.getId(), Permission.USER).getAccessToken())
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"boardItemIds\":[" + ids + "]}"));
+  }
+
+  private List<UUID> itemIds(UUID boardId) {
+    return new ArrayList<>(slots(boardId, "position").keySet());
+  }
+
+  private Map<UUID, Object> slots(UUID boardId, String column) {
+    Map<UUID, Object> slots = new LinkedHashMap<>();
+    jdbcTemplate.query("SELECT id, " + column + " FROM board_items WHERE board_id = ? ORDER BY title",
+        rs -> {
+          slots.put(rs.getObject(1, UUID.class), rs.getObject(2));
+        }, boardId);
+    return slots;
+  }
+
+  private UUID createBoard(String title, ItemOrdering ordering, int itemCount) {
+    return new TransactionTemplate(transactionManager).execute(status -> {
+      Board board = Board.builder()
+          .title(marker + " " + title)
+          .boardType(BoardType.TASK)
+          .itemOrdering(ordering)
+          .visible(true)
+          .build();
+      board.addOwner(owner);
+      board = boardRepository.save(board);
+      boardAccessService.refreshBoard(board.getId());
+
+      String[] rankKeys = RankKeys.spread(itemCount);
+      for (int i = 0; i < itemCount; i++) {
+        taskRepository.save(Task.builder()
+            .title("Item " + i)
+            .position(i * 10)
+            .rankKey(ordering == ItemOrdering.RANK ? rankKeys[i] : null)
+            .board(board)
+            .owner(owner)
+            .build());
+      }
+      return board.getId();
+    });
+  }
+}
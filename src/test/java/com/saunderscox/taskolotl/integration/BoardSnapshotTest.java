@@ -0,0 +1,169 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.Comment;
+import com.saunderscox.taskolotl.entity.Permission;
+import com.saunderscox.taskolotl.entity.RankKeys;
+import com.saunderscox.taskolotl.entity.Study;
+import com.saunderscox.taskolotl.entity.StudyStage;
+import com.saunderscox.taskolotl.entity.Task;
+import com.saunderscox.taskolotl.entity.TaskStage;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.CommentRepository;
+import com.saunderscox.taskolotl.repository.StudyRepository;
+import com.saunderscox.taskolotl.repository.TaskRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.AuthService;
+import com.saunderscox.taskolotl.service.BoardAccessService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A board snapshot lists every task and study in display order, ranked items first, each with its
+ * own subtype fields and its comment count.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BoardSnapshotTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private AuthService authService;
+
+  @Autowired
+  private BoardAccessService boardAccessService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private StudyRepository studyRepository;
+
+  @Autowired
+  private CommentRepository commentRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private User owner;
+  private UUID boardId;
+  private UUID rankedTaskId;
+  private UUID studyId;
+  private UUID taskId;
+
+  @BeforeEach
+  void setUp() {
+    String name = "snapshot-" + UUID.randomUUID();
+    owner = userRepository.save(User.builder()
+        .username(name)
+        .email(name + "@example.com")
+        .build());
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      Board board = Board.builder()
+          .title(name)
+          .boardType(BoardType.TASK)
+          .visible(true)
+          .build();
+      board.addOwner(owner);
+      board = boardRepository.save(board);
+      boardAccessService.refreshBoard(board.getId());
+
+      Task task = taskRepository.save(Task.builder()
+          .title("Unranked task")
+          .position(1)
+          .board(board)
+          .owner(owner)
+          .taskStage(TaskStage.IN_PROGRESS)
+          .estimatedHours(2f)
+          .build());
+      Study study = studyRepository.save(Study.builder()
+          .title("Unranked study")
+          .position(0)
+          .board(board)
+          .owner(owner)
+          .studyStage(StudyStage.LEARNING)
+          .resources("A book")
+          .build());
+      Task rankedTask = taskRepository.save(Task.builder()
+          .title("Ranked task")
+          .position(2)
+          .rankKey(RankKeys.between(null, null))
+          .board(board)
+          .owner(owner)
+          .build());
+      for (int i = 0; i < 2; i++) {
+        commentRepository.save(Comment.builder()
+            .author(owner)
+            .boardItem(task)
+            .description("Comment " + i)
+            .build());
+      }
+      commentRepository.save(Comment.builder()
+          .author(owner)
+          .boardItem(rankedTask)
+          .description("Only comment")
+          .build());
+
+      boardId = board.getId();
+      rankedTaskId = rankedTask.getId();
+      studyId = study.getId();
+      taskId = task.getId();
+    });
+  }
+
+  @Test
+  void getBoardSnapshot_ShouldListItemsInDisplayOrderWithCommentCounts() throws Exception {
+    MvcResult result = mockMvc.perform(get("/api/boards/{id}/snapshot", boardId)
+            .header("Authorization", "Bearer "
+                + authService.userIdToAuthResponse(owner.getId(), Permission.USER).getAccessToken()))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.board.id").value(boardId.toString()))
+        .andExpect(jsonPath("$.items", hasSize(3)))
+        .andExpect(jsonPath("$.items[0].id").value(rankedTaskId.toString()))
+        .andExpect(jsonPath("$.items[0].type").value("TASK"))
+        .andExpect(jsonPath("$.items[0].commentCount").value(1))
+        .andExpect(jsonPath("$.items[1].id").value(studyId.toString()))
+        .andExpect(jsonPath("$.items[1].type").value("STUDY"))
+        .andExpect(jsonPath("$.items[1].studyStage").value("LEARNING"))
+        .andExpect(jsonPath("$.items[1].resources").value("A book"))
+        .andExpect(jsonPath("$.items[1].commentCount").value(0))
+        .andExpect(jsonPath("$.items[1].taskStage").doesNotExist())
+        .andExpect(jsonPath("$.items[2].id").value(taskId.toString()))
+        .andExpect(jsonPath("$.items[2].type").value("TASK"))
+        .andExpect(jsonPath("$.items[2].taskStage").value("IN_PROGRESS"))
+        .andExpect(jsonPath("$.items[2].estimatedHours").value(2.0))
+        .andExpect(jsonPath("$.items[2].commentCount").value(2))
+        .andExpect(jsonPath("$.items[2].studyStage").doesNotExist());
+  }
+}
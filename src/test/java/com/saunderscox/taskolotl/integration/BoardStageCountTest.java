@@ -0,0 +1,145 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.Study;
+import com.saunderscox.taskolotl.entity.Task;
+import com.saunderscox.taskolotl.entity.TaskStage;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.StudyRepository;
+import com.saunderscox.taskolotl.repository.TaskRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.stats.BoardStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Stage counts maintained as tasks and studies are created, moved between stages, re-estimated and
+ * deleted must equal the counts the repair job recomputes from the items.
+ */
+@SpringBootTest
+class BoardStageCountTest {
+
+  @Autowired
+  private BoardStatsService boardStatsService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private StudyRepository studyRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transaction;
+  private User owner;
+  private UUID boardId;
+
+  @BeforeEach
+  void setUp() {
+    transaction = new TransactionTemplate(transactionManager);
+    String name = "stats-" + UUID.randomUUID();
+    owner = userRepository.save(User.builder()
+        .username(name)
+        .email(name + "@example.com")
+        .build());
+    boardId = transaction.execute(status -> {
+      Board board = Board.builder()
+          .title(name)
+          .boardType(BoardType.TASK)
+          .visible(true)
+          .build();
+      board.addOwner(owner);
+      return boardRepository.save(board).getId();
+    });
+  }
+
+  @Test
+  void repair_ShouldMatchIncrementallyMaintainedCounts() {
+    List<UUID> taskIds = new ArrayList<>();
+    List<UUID> studyIds = new ArrayList<>();
+    transaction.executeWithoutResult(status -> {
+      Board board = boardRepository.getReferenceById(boardId);
+      for (int i = 0; i < 4; i++) {
+        taskIds.add(taskRepository.save(Task.builder()
+            .title("Task " + i)
+            .board(board)
+            .owner(owner)
+            .estimatedHours(i + 1f)
+            .build()).getId());
+      }
+      for (int i = 0; i < 2; i++) {
+        studyIds.add(studyRepository.save(Study.builder()
+            .title("Study " + i)
+            .board(board)
+            .owner(owner)
+            .build()).getId());
+      }
+    });
+
+    updateTask(taskIds.get(0), Task::advanceStage);
+    updateTask(taskIds.get(0), Task::advanceStage);
+    updateTask(taskIds.get(1), task -> task.setTaskStage(TaskStage.DONE));
+    updateTask(taskIds.get(1), task -> task.setActualHours(5f));
+    updateTask(taskIds.get(0), Task::regressStage);
+    updateTask(taskIds.get(2), task -> task.setEstimatedHours(10f));
+    updateStudy(studyIds.get(0), Study::advanceStage);
+    updateStudy(studyIds.get(0), Study::advanceStage);
+    updateStudy(studyIds.get(0), Study::regressStage);
+    transaction.executeWithoutResult(status -> {
+      Task task = taskRepository.findById(taskIds.get(3)).orElseThrow();
+      task.getBoard().getBoardItems().remove(task);
+      taskRepository.delete(task);
+      Study study = studyRepository.findById(studyIds.get(1)).orElseThrow();
+      study.getBoard().getBoardItems().remove(study);
+      studyRepository.delete(study);
+    });
+
+    List<String> maintained = counts();
+    boardStatsService.repair();
+
+    assertThat(maintained).isNotEmpty().isEqualTo(counts());
+  }
+
+  private void updateTask(UUID id, Consumer<Task> change) {
+    transaction.executeWithoutResult(status -> change.accept(taskRepository.findById(id).orElseThrow()));
+  }
+
+  private void updateStudy(UUID id, Consumer<Study> change) {
+    transaction.executeWithoutResult(status -> change.accept(studyRepository.findById(id).orElseThrow()));
+  }
+
+  // Stages emptied by updates keep a zero row that a recomputation does not write
+  private List<String> counts() {
+    return jdbcTemplate.queryForList("""
+        SELECT item_type || ' ' || stage || ' ' || item_count || ' '
+          || CAST(estimated_hours AS DECIMAL(10, 2)) || ' ' || CAST(actual_hours AS DECIMAL(10, 2))
+        FROM board_stage_counts
+        WHERE board_id = ? AND item_count <> 0
+        ORDER BY item_type, stage
+        """, String.class, boardId);
+  }
+}
@@ -0,0 +1,213 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.config.sync.SyncProps;
+import com.saunderscox.taskolotl.dto.BoardDelta;
+import com.saunderscox.taskolotl.dto.BoardItemSnapshot;
+import com.saunderscox.taskolotl.dto.DeletedEntity;
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.Comment;
+import com.saunderscox.taskolotl.entity.Task;
+import com.saunderscox.taskolotl.entity.TombstoneType;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.exception.ResourceNotFoundException;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.CommentRepository;
+import com.saunderscox.taskolotl.repository.TaskRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.BoardService;
+import com.saunderscox.taskolotl.service.sync.BoardSyncService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Board deltas return rows changed after the watermark, trail the clock by the commit lag so late
+ * commits are sent again, list deletions from tombstones, and ask for a resync once those are purged.
+ * Deleting a whole board leaves no tombstones behind, since its delta goes with it.
+ */
+@SpringBootTest
+class BoardSyncTest {
+
+  @Autowired
+  private BoardSyncService boardSyncService;
+
+  @Autowired
+  private SyncProps syncProps;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private CommentRepository commentRepository;
+
+  @Autowired
+  private BoardService boardService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transactionTemplate;
+  private UUID boardId;
+  private UUID firstTaskId;
+  private UUID secondTaskId;
+  private Instant since;
+
+  @BeforeEach
+  void setUp() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    String name = "sync-" + UUID.randomUUID();
+    User owner = userRepository.save(User.builder()
+        .username(name)
+        .email(name + "@example.com")
+        .build());
+
+    transactionTemplate.executeWithoutResult(status -> {
+      Board board = Board.builder()
+          .title(name)
+          .boardType(BoardType.TASK)
+          .visible(true)
+          .build();
+      board.addOwner(owner);
+      board = boardRepository.save(board);
+      firstTaskId = taskRepository.save(Task.builder()
+          .title("First")
+          .position(0)
+          .board(board)
+          .owner(owner)
+          .build()).getId();
+      secondTaskId = taskRepository.save(Task.builder()
+          .title("Second")
+          .position(1)
+          .board(board)
+          .owner(owner)
+          .build()).getId();
+      boardId = board.getId();
+    });
+
+    // Backdate everything so only changes made by a test are newer than the watermark
+    Timestamp anHourAgo = Timestamp.from(Instant.now().minus(Duration.ofHours(1)));
+    jdbcTemplate.update("UPDATE boards SET updated_at = ? WHERE id = ?", anHourAgo, boardId);
+    jdbcTemplate.update("UPDATE board_items SET updated_at = ? WHERE board_id = ?", anHourAgo, boardId);
+    since = Instant.now().minus(Duration.ofMinutes(30));
+  }
+
+  @Test
+  void getChanges_ShouldReturnNothingWhenUnchanged() {
+    BoardDelta delta = boardSyncService.getChanges(boardId, since);
+
+    assertThat(delta.resyncRequired()).isFalse();
+    assertThat(delta.board()).isNull();
+    assertThat(delta.items()).isEmpty();
+    assertThat(delta.comments()).isEmpty();
+    assertThat(delta.deleted()).isEmpty();
+  }
+
+  @Test
+  void getChanges_ShouldReturnWatermarkTrailingTheClockByCommitLag() {
+    Instant before = Instant.now();
+    BoardDelta delta = boardSyncService.getChanges(boardId, since);
+    Instant after = Instant.now();
+
+    assertThat(delta.watermark())
+        .isBetween(before.minus(syncProps.getCommitLag()), after.minus(syncProps.getCommitLag()));
+  }
+
+  @Test
+  void getChanges_ShouldResendChangesWithinCommitLag() {
+    rename(firstTaskId, "First renamed");
+
+    BoardDelta delta = boardSyncService.getChanges(boardId, since);
+    assertThat(delta.items()).extracting(BoardItemSnapshot::id).containsExactly(firstTaskId);
+    assertThat(delta.items()).extracting(BoardItemSnapshot::title).containsExactly("First renamed");
+
+    // A change stamped just before the watermark may have committed after it, so it is sent again
+    BoardDelta next = boardSyncService.getChanges(boardId, delta.watermark());
+    assertThat(next.items()).extracting(BoardItemSnapshot::id).containsExactly(firstTaskId);
+
+    jdbcTemplate.update("UPDATE board_items SET updated_at = ? WHERE id = ?",
+        Timestamp.from(delta.watermark().minusMillis(1)), firstTaskId);
+    assertThat(boardSyncService.getChanges(boardId, delta.watermark()).items()).isEmpty();
+  }
+
+  @Test
+  void getChanges_ShouldListDeletedItemsFromTombstones() {
+    transactionTemplate.executeWithoutResult(status -> taskRepository.deleteById(secondTaskId));
+
+    BoardDelta delta = boardSyncService.getChanges(boardId, since);
+
+    assertThat(delta.items()).extracting(BoardItemSnapshot::id).doesNotContain(secondTaskId);
+    assertThat(delta.deleted()).extracting(DeletedEntity::id).containsExactly(secondTaskId);
+    assertThat(delta.deleted()).extracting(DeletedEntity::type).containsExactly(TombstoneType.BOARD_ITEM);
+    assertThat(boardSyncService.getChanges(boardId, Instant.now()).deleted()).isEmpty();
+  }
+
+  @Test
+  void getChanges_ShouldRequireResyncWhenSinceIsOlderThanTombstoneRetention() {
+    rename(firstTaskId, "First renamed");
+    Instant expired = Instant.now().minus(syncProps.getTombstoneRetention()).minus(Duration.ofMinutes(1));
+
+    BoardDelta delta = boardSyncService.getChanges(boardId, expired);
+
+    assertThat(delta.resyncRequired()).isTrue();
+    assertThat(delta.board()).isNull();
+    assertThat(delta.items()).isEmpty();
+    assertThat(delta.deleted()).isEmpty();
+    assertThat(delta.watermark()).isBefore(Instant.now());
+  }
+
+  @Test
+  void deleteBoard_ShouldRemoveItemsAndCommentsWithoutTombstones() {
+    UUID commentId = transactionTemplate.execute(status -> {
+      Task task = taskRepository.findById(firstTaskId).orElseThrow();
+      return commentRepository.save(Comment.builder()
+          .author(task.getOwner())
+          .boardItem(task)
+          .description("Tagged")
+          .tags(new HashSet<>(Set.of("one", "two")))
+          .build()).getId();
+    });
+
+    boardService.deleteBoard(boardId);
+
+    assertThat(count("SELECT COUNT(*) FROM board_items WHERE board_id = ?", boardId)).isZero();
+    assertThat(count("SELECT COUNT(*) FROM comments WHERE id = ?", commentId)).isZero();
+    assertThat(count("SELECT COUNT(*) FROM comment_tags WHERE comment_id = ?", commentId)).isZero();
+    assertThat(count("SELECT COUNT(*) FROM board_stage_counts WHERE board_id = ?", boardId)).isZero();
+    assertThat(count("SELECT COUNT(*) FROM tombstones WHERE board_id = ?", boardId)).isZero();
+    assertThatThrownBy(() -> boardSyncService.getChanges(boardId, since))
+        .isInstanceOf(ResourceNotFoundException.class);
+  }
+
+  private long count(String sql, UUID id) {
+    return jdbcTemplate.queryForObject(sql, Long.class, id);
+  }
+
+  private void rename(UUID taskId, String title) {
+    transactionTemplate.executeWithoutResult(status ->
+        taskRepository.findById(taskId).orElseThrow().setTitle(title));
+  }
+}
@@ -0,0 +1,200 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.Comment;
+import com.saunderscox.taskolotl.entity.Permission;
+import com.saunderscox.taskolotl.entity.Study;
+import com.saunderscox.taskolotl.entity.StudyStage;
+import com.saunderscox.taskolotl.entity.Task;
+import com.saunderscox.taskolotl.entity.TaskStage;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.CommentRepository;
+import com.saunderscox.taskolotl.repository.StudyRepository;
+import com.saunderscox.taskolotl.repository.TaskRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.AuthService;
+import com.saunderscox.taskolotl.service.BoardAccessService;
+import com.saunderscox.taskolotl.service.BoardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A board exported as NDJSON and imported again comes back with the same IDs, stages, comments and
+ * tags, and only admins may import.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BoardTransferTest {
+
+  private static final String NDJSON = "application/x-ndjson";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private AuthService authService;
+
+  @Autowired
+  private BoardService boardService;
+
+  @Autowired
+  private BoardAccessService boardAccessService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private StudyRepository studyRepository;
+
+  @Autowired
+  private CommentRepository commentRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private final String marker = "bt" + UUID.randomUUID().toString().substring(0, 8);
+  private User owner;
+  private UUID boardId;
+  private UUID taskId;
+  private UUID studyId;
+
+  @BeforeEach
+  void setUp() {
+    owner = createUser("owner");
+    User member = createUser("member");
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      User boardOwner = userRepository.getReferenceById(owner.getId());
+      Board board = Board.builder()
+          .title(marker + " board")
+          .description("Exported and imported again")
+          .boardType(BoardType.TASK)
+          .visible(true)
+          .build();
+      board.addOwner(boardOwner);
+      board.addMember(userRepository.getReferenceById(member.getId()));
+      board = boardRepository.save(board);
+      boardAccessService.refreshBoard(board.getId());
+
+      Task task = taskRepository.save(Task.builder()
+          .title("Task")
+          .position(0)
+          .board(board)
+          .owner(boardOwner)
+          .taskStage(TaskStage.IN_PROGRESS)
+          .estimatedHours(3f)
+          .build());
+      Study study = studyRepository.save(Study.builder()
+          .title("Study")
+          .position(1)
+          .board(board)
+          .owner(boardOwner)
+          .studyStage(StudyStage.LEARNING)
+          .resources("A book")
+          .build());
+      commentRepository.save(Comment.builder()
+          .author(boardOwner)
+          .boardItem(task)
+          .description("On the task")
+          .tags(new HashSet<>(Set.of("first", "second")))
+          .build());
+      commentRepository.save(Comment.builder()
+          .author(boardOwner)
+          .boardItem(study)
+          .description("On the study")
+          .build());
+
+      boardId = board.getId();
+      taskId = task.getId();
+      studyId = study.getId();
+    });
+  }
+
+  @Test
+  void importBoard_ShouldRestoreExportedBoard() throws Exception {
+    String exported = export(boardId);
+    boardService.deleteBoard(boardId);
+    assertThat(boardRepository.existsById(boardId)).isFalse();
+
+    mockMvc.perform(post("/api/boards/import")
+            .header("Authorization", bearer(Permission.ADMIN))
+            .contentType(NDJSON)
+            .content(exported))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.id").value(boardId.toString()));
+
+    assertThat(export(boardId)).isEqualTo(exported);
+    assertThat(taskRepository.findById(taskId)).get()
+        .extracting(Task::getTaskStage)
+        .isEqualTo(TaskStage.IN_PROGRESS);
+    assertThat(studyRepository.findById(studyId)).get()
+        .extracting(Study::getStudyStage)
+        .isEqualTo(StudyStage.LEARNING);
+    assertThat(boardService.hasAccess(boardId, owner.getId())).isTrue();
+  }
+
+  @Test
+  void importBoard_ShouldBeForbiddenForUser() throws Exception {
+    String exported = export(boardId);
+    boardService.deleteBoard(boardId);
+
+    mockMvc.perform(post("/api/boards/import")
+            .header("Authorization", bearer(Permission.USER))
+            .contentType(NDJSON)
+            .content(exported))
+        .andExpect(status().isForbidden());
+    assertThat(boardRepository.existsById(boardId)).isFalse();
+  }
+
+  private String export(UUID id) throws Exception {
+    MvcResult result = mockMvc.perform(get("/api/boards/{id}/export", id)
+            .header("Authorization", "Bearer " + authService.userIdToAuthResponse(owner.getId(), Permission.USER)
+                .getAccessToken()))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    return mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getContentAsString();
+  }
+
+  private String bearer(Permission permission) {
+    return "Bearer " + authService.userIdToAuthResponse(UUID.randomUUID(), permission).getAccessToken();
+  }
+
+  private User createUser(String role) {
+    String name = marker + "-" + role;
+    return userRepository.save(User.builder()
+        .username(name)
+        .email(name + "@example.com")
+        .build());
+  }
+}
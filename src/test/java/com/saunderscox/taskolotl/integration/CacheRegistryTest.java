@@ -0,0 +1,120 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.saunderscox.taskolotl.config.cache.CacheConfig;
+import com.saunderscox.taskolotl.config.cache.CacheNames;
+import com.saunderscox.taskolotl.config.cache.CacheProps;
+import com.saunderscox.taskolotl.config.cache.CacheRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheRegistryTest {
+
+  private CacheProps cacheProps;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    cacheProps = new CacheProps();
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void annotatedCaches_ShouldBeBoundedAndInstrumented() {
+    CacheProps.Spec spec = new CacheProps.Spec();
+    spec.setMaximumSize(2);
+    cacheProps.getSpecs().put(CacheNames.BOARDS, spec);
+
+    CacheManager cacheManager = new CacheConfig().cacheManager(new CacheRegistry(cacheProps, meterRegistry));
+
+    assertThat(cacheManager.getCacheNames()).contains(CacheNames.BOARDS);
+    assertThat(cacheManager.getCache("typoCache")).isNull();
+    assertThat(meterRegistry.find("cache.gets").tag("cache", CacheNames.BOARDS).meters()).isNotEmpty();
+  }
+
+  @Test
+  void loadingCache_ShouldLoadAndRecordStats() {
+    CacheRegistry cacheRegistry = new CacheRegistry(cacheProps, meterRegistry);
+
+    LoadingCache<String, Integer> cache = cacheRegistry.loadingCache(CacheNames.BOARD_ACCESS, String::length);
+
+    assertThat(cache.get("abc")).isEqualTo(3);
+    assertThat(cache.get("abc")).isEqualTo(3);
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+    assertThat(cache.stats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  void register_ShouldRejectDuplicateNames() {
+    CacheRegistry cacheRegistry = new CacheRegistry(cacheProps, meterRegistry);
+    cacheRegistry.loadingCache(CacheNames.BOARD_ACCESS, key -> key);
+
+    assertThatThrownBy(() -> cacheRegistry.loadingCache(CacheNames.BOARD_ACCESS, key -> key))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void refreshAfterWrite_ShouldBeRejectedForCachesWithoutLoader() {
+    CacheProps.Spec spec = new CacheProps.Spec();
+    spec.setRefreshAfterWrite(Duration.ofMinutes(1));
+    cacheProps.getSpecs().put(CacheNames.BOARDS, spec);
+
+    assertThatThrownBy(() -> new CacheRegistry(cacheProps, meterRegistry))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void variableExpiryCache_ShouldIgnoreDefaultFixedExpiry() {
+    cacheProps.getDefaults().setExpireAfterWrite(Duration.ofMinutes(10));
+    CacheRegistry cacheRegistry = new CacheRegistry(cacheProps, meterRegistry);
+
+    Cache<String, Integer> cache = cacheRegistry.variableExpiryCache(CacheNames.VERIFIED_TOKENS,
+        new SecondsExpiry());
+    cache.put("a", 30);
+
+    assertThat(cache.getIfPresent("a")).isEqualTo(30);
+    assertThat(cache.policy().expireVariably()).isPresent();
+    assertThat(cache.policy().expireAfterWrite()).isEmpty();
+  }
+
+  @Test
+  void variableExpiryCache_ShouldRejectSpecWithFixedExpiry() {
+    CacheProps.Spec spec = new CacheProps.Spec();
+    spec.setExpireAfterWrite(Duration.ofMinutes(10));
+    cacheProps.getSpecs().put(CacheNames.VERIFIED_TOKENS, spec);
+    CacheRegistry cacheRegistry = new CacheRegistry(cacheProps, meterRegistry);
+
+    assertThatThrownBy(() -> cacheRegistry.variableExpiryCache(CacheNames.VERIFIED_TOKENS,
+        new SecondsExpiry()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("app.cache.specs." + CacheNames.VERIFIED_TOKENS);
+  }
+
+  // Entries live for as many seconds as their value
+  private static final class SecondsExpiry implements Expiry<String, Integer> {
+
+    @Override
+    public long expireAfterCreate(String key, Integer value, long currentTime) {
+      return Duration.ofSeconds(value).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, Integer value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, Integer value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
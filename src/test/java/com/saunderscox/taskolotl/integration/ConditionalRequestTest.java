@@ -0,0 +1,173 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.Permission;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.AuthService;
+import com.saunderscox.taskolotl.service.BoardAccessService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A matching {@code If-None-Match} on a board or user is answered with 304 from the version lookup
+ * alone, before anything is loaded or mapped, and an update with a stale {@code If-Match} fails with
+ * 412 without writing.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(QueryCountConfig.class)
+class ConditionalRequestTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private AuthService authService;
+
+  @Autowired
+  private BoardAccessService boardAccessService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private final String marker = "cr" + UUID.randomUUID().toString().substring(0, 8);
+  private User user;
+  private UUID boardId;
+  private String bearer;
+
+  @BeforeEach
+  void setUp() {
+    user = userRepository.save(User.builder()
+        .username(marker)
+        .email(marker + "@example.com")
+        .build());
+    bearer = "Bearer " + authService.userIdToAuthResponse(user.getId(), Permission.USER).getAccessToken();
+
+    boardId = new TransactionTemplate(transactionManager).execute(status -> {
+      Board board = Board.builder()
+          .title(marker + " board")
+          .boardType(BoardType.TASK)
+          .visible(true)
+          .build();
+      board.addOwner(user);
+      board = boardRepository.save(board);
+      boardAccessService.refreshBoard(board.getId());
+      return board.getId();
+    });
+  }
+
+  @Test
+  void getBoardById_ShouldAnswerMatchingIfNoneMatchFromVersionAlone() throws Exception {
+    String eTag = eTagOf("/api/boards/{id}", boardId);
+
+    QueryCountConfig.reset();
+    mockMvc.perform(get("/api/boards/{id}", boardId)
+            .header("Authorization", bearer)
+            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag))
+        .andExpect(content().string(""));
+
+    assertThat(QueryCountConfig.count()).isEqualTo(1);
+  }
+
+  @Test
+  void getUserById_ShouldAnswerMatchingIfNoneMatchFromVersionAlone() throws Exception {
+    String eTag = eTagOf("/api/users/{id}", user.getId());
+
+    QueryCountConfig.reset();
+    mockMvc.perform(get("/api/users/{id}", user.getId())
+            .header("Authorization", bearer)
+            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag))
+        .andExpect(content().string(""));
+
+    assertThat(QueryCountConfig.count()).isEqualTo(1);
+  }
+
+  @Test
+  void updateBoard_ShouldRejectStaleIfMatch() throws Exception {
+    String staleETag = eTagOf("/api/boards/{id}", boardId);
+    String currentETag = update("/api/boards/{id}", boardId, staleETag, "{\"title\":\"" + marker + " first\"}");
+
+    mockMvc.perform(put("/api/boards/{id}", boardId)
+            .header("Authorization", bearer)
+            .header(HttpHeaders.IF_MATCH, staleETag)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"title\":\"" + marker + " second\"}"))
+        .andExpect(status().isPreconditionFailed());
+
+    assertThat(boardRepository.findById(boardId)).get()
+        .extracting(Board::getTitle)
+        .isEqualTo(marker + " first");
+    assertThat(eTagOf("/api/boards/{id}", boardId)).isEqualTo(currentETag);
+  }
+
+  @Test
+  void updateUser_ShouldRejectStaleIfMatch() throws Exception {
+    String staleETag = eTagOf("/api/users/{id}", user.getId());
+    String currentETag = update("/api/users/{id}", user.getId(), staleETag, "{\"profileDescription\":\"First\"}");
+
+    mockMvc.perform(put("/api/users/{id}", user.getId())
+            .header("Authorization", bearer)
+            .header(HttpHeaders.IF_MATCH, staleETag)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"profileDescription\":\"Second\"}"))
+        .andExpect(status().isPreconditionFailed());
+
+    assertThat(userRepository.findById(user.getId())).get()
+        .extracting(User::getProfileDescription)
+        .isEqualTo("First");
+    assertThat(eTagOf("/api/users/{id}", user.getId())).isEqualTo(currentETag);
+  }
+
+  private String eTagOf(String path, UUID id) throws Exception {
+    return mockMvc.perform(get(path, id).header("Authorization", bearer))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+  }
+
+  private String update(String path, UUID id, String ifMatch, String json) throws Exception {
+    String eTag = mockMvc.perform(put(path, id)
+            .header("Authorization", bearer)
+            .header(HttpHeaders.IF_MATCH, ifMatch)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+    assertThat(eTag).isNotEqualTo(ifMatch);
+    return eTag;
+  }
+}
@@ -0,0 +1,166 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.Permission;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.AuthService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Following {@code nextCursor} visits every row exactly once, even when rows share a
+ * {@code createdAt} across slice boundaries, and a malformed cursor is a client error.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class CursorPagingTest {
+
+  private static final int ROWS = 7;
+  private static final int PAGE_SIZE = 3;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private AuthService authService;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private final String marker = "cp" + UUID.randomUUID().toString().substring(0, 8);
+  private String bearer;
+
+  @BeforeEach
+  void setUp() {
+    User admin = createUser("admin");
+    bearer = "Bearer " + authService.userIdToAuthResponse(admin.getId(), Permission.ADMIN).getAccessToken();
+  }
+
+  @Test
+  void scrollSearchBoards_ShouldVisitEveryBoardOnceAcrossEqualCreatedAt() throws Exception {
+    List<UUID> boardIds = IntStream.range(0, ROWS)
+        .mapToObj(i -> boardRepository.save(Board.builder()
+            .title(marker + " board " + i)
+            .boardType(BoardType.TASK)
+            .visible(true)
+            .build()).getId())
+        .toList();
+    shareCreatedAt("boards", boardIds);
+
+    List<UUID> visited = scroll("/api/boards/search/scroll", marker + " board");
+
+    assertThat(visited).hasSize(ROWS).containsExactlyInAnyOrderElementsOf(boardIds);
+    assertThat(visited).isSorted();
+  }
+
+  @Test
+  void scrollSearchUsers_ShouldVisitEveryUserOnceAcrossEqualCreatedAt() throws Exception {
+    List<UUID> userIds = IntStream.range(0, ROWS)
+        .mapToObj(i -> createUser("user-" + i).getId())
+        .toList();
+    shareCreatedAt("users", userIds);
+
+    List<UUID> visited = scroll("/api/users/search/scroll", marker + "-user");
+
+    assertThat(visited).hasSize(ROWS).containsExactlyInAnyOrderElementsOf(userIds);
+    assertThat(visited).isSorted();
+  }
+
+  @Test
+  void scroll_ShouldRejectMalformedCursor() throws Exception {
+    List<String> cursors = List.of(
+        "not a cursor!",
+        encode("no separator"),
+        encode("yesterday|" + UUID.randomUUID()),
+        encode(Instant.now() + "|not-a-uuid"));
+
+    for (String cursor : cursors) {
+      mockMvc.perform(get("/api/boards/scroll").param("cursor", cursor).header("Authorization", bearer))
+          .andExpect(status().isBadRequest());
+      mockMvc.perform(get("/api/users/scroll").param("cursor", cursor).header("Authorization", bearer))
+          .andExpect(status().isBadRequest());
+    }
+  }
+
+  private List<UUID> scroll(String path, String query) throws Exception {
+    List<UUID> visited = new ArrayList<>();
+    String cursor = null;
+    int pages = 0;
+    do {
+      MockHttpServletRequestBuilder request = get(path)
+          .param("query", query)
+          .param("size", String.valueOf(PAGE_SIZE))
+          .header("Authorization", bearer);
+      if (cursor != null) {
+        request.param("cursor", cursor);
+      }
+      String body = mockMvc.perform(request)
+          .andExpect(status().isOk())
+          .andReturn()
+          .getResponse()
+          .getContentAsString();
+      JsonNode page = objectMapper.readTree(body);
+      page.get("content").forEach(row -> visited.add(UUID.fromString(row.get("id").asText())));
+      cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+      assertThat(++pages).isLessThanOrEqualTo(ROWS);
+    } while (cursor != null);
+    return visited;
+  }
+
+  private void shareCreatedAt(String table, List<UUID> ids) {
+    Timestamp createdAt = Timestamp.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+    ids.forEach(id -> jdbcTemplate.update("UPDATE " + table + " SET created_at = ? WHERE id = ?", createdAt, id));
+    // Rows were changed behind Hibernate's back
+    entityManagerFactory.getCache().evictAll();
+  }
+
+  private static String encode(String raw) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private User createUser(String role) {
+    String name = marker + "-" + role;
+    return userRepository.save(User.builder()
+        .username(name)
+        .email(name + "@example.com")
+        .build());
+  }
+}
@@ -0,0 +1,88 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.service.seed.DatasetSeeder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The {@code seed} profile fills its own small H2 database on startup, and seeding again with the
+ * same seed and end time writes the same IDs.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:seeddb;DB_CLOSE_DELAY=-1",
+    "app.seed.seed=7",
+    "app.seed.end=2026-01-01T00:00:00Z",
+    "app.seed.users=10",
+    "app.seed.boards=5",
+    "app.seed.skills=4",
+    "app.seed.concepts-per-skill=2",
+    "app.seed.skills-per-user=2",
+    "app.seed.friends-per-user=3",
+    "app.seed.members-per-board=2",
+    "app.seed.items-per-board=6",
+    "app.seed.comments-per-item=2",
+    "app.seed.users-per-chunk=4",
+    "app.seed.boards-per-chunk=2",
+    "app.seed.threads=2"
+})
+@ActiveProfiles({"test", "seed"})
+class DatasetSeederTest {
+
+  private static final List<String> SEEDED_TABLES =
+      List.of("users", "skills", "concepts", "friendships", "boards", "board_items", "comments");
+
+  @Autowired
+  private DatasetSeeder datasetSeeder;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void run_ShouldWriteConfiguredVolumes() {
+    assertThat(count("users")).isEqualTo(10);
+    assertThat(count("boards")).isEqualTo(5);
+    assertThat(count("skills")).isEqualTo(4);
+    assertThat(count("concepts")).isEqualTo(8);
+    assertThat(count("board_items")).isPositive();
+    assertThat(count("comments")).isPositive();
+    assertThat(jdbcTemplate.queryForObject("SELECT SUM(item_count) FROM board_stage_counts", Long.class))
+        .isEqualTo(count("board_items"));
+  }
+
+  @Test
+  void run_ShouldWriteSameIdsForSameSeed() {
+    Map<String, List<UUID>> first = ids();
+
+    truncateAll();
+    datasetSeeder.run(null);
+
+    assertThat(ids()).isEqualTo(first);
+  }
+
+  private long count(String table) {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+  }
+
+  private Map<String, List<UUID>> ids() {
+    return SEEDED_TABLES.stream().collect(Collectors.toMap(table -> table,
+        table -> jdbcTemplate.queryForList("SELECT id FROM " + table + " ORDER BY id", UUID.class)));
+  }
+
+  private void truncateAll() {
+    List<String> tables = jdbcTemplate.queryForList(
+        "SELECT table_name FROM information_schema.tables WHERE table_schema = 'PUBLIC'", String.class);
+    jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+    tables.forEach(table -> jdbcTemplate.execute("TRUNCATE TABLE \"" + table + "\""));
+    jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+  }
+}
@@ -0,0 +1,63 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.exception.PreconditionFailedException;
+import com.saunderscox.taskolotl.service.ETags;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ETagsTest {
+
+  private static final UUID ID = UUID.randomUUID();
+
+  @Test
+  void matches_ShouldUseWeakComparisonAndAcceptLists() {
+    String eTag = ETags.of(ID, 3);
+
+    assertThat(ETags.matches(eTag, eTag)).isTrue();
+    assertThat(ETags.matches("W/" + eTag, eTag)).isTrue();
+    assertThat(ETags.matches("\"other\", " + eTag, eTag)).isTrue();
+    assertThat(ETags.matches("*", eTag)).isTrue();
+    assertThat(ETags.matches(ETags.of(ID, 2), eTag)).isFalse();
+    assertThat(ETags.matches(null, eTag)).isFalse();
+  }
+
+  @Test
+  void requireMatch_ShouldUseStrongComparison() {
+    String eTag = ETags.of(ID, 3);
+
+    assertThatCode(() -> ETags.requireMatch(null, eTag)).doesNotThrowAnyException();
+    assertThatCode(() -> ETags.requireMatch(eTag, eTag)).doesNotThrowAnyException();
+    assertThatThrownBy(() -> ETags.requireMatch("W/" + eTag, eTag))
+        .isInstanceOf(PreconditionFailedException.class);
+    assertThatThrownBy(() -> ETags.requireMatch(ETags.of(ID, 2), eTag))
+        .isInstanceOf(PreconditionFailedException.class);
+  }
+
+  @Test
+  void pageTag_ShouldChangeWithAnyVersionOnThePage() {
+    UUID otherId = UUID.randomUUID();
+    PageRequest pageable = PageRequest.of(0, 2);
+
+    String before = ETags.of(new PageImpl<>(List.of(board(ID, 1), board(otherId, 1)), pageable, 5));
+    String same = ETags.of(new PageImpl<>(List.of(board(ID, 1), board(otherId, 1)), pageable, 5));
+    String updated = ETags.of(new PageImpl<>(List.of(board(ID, 1), board(otherId, 2)), pageable, 5));
+    String grown = ETags.of(new PageImpl<>(List.of(board(ID, 1), board(otherId, 1)), pageable, 6));
+
+    assertThat(same).isEqualTo(before);
+    assertThat(updated).isNotEqualTo(before);
+    assertThat(grown).isNotEqualTo(before);
+  }
+
+  private static Board board(UUID id, int version) {
+    return Board.builder().id(id).version(version).title("Board").build();
+  }
+}
@@ -0,0 +1,120 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.exception.ResourceNotFoundException;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.JoinTableSync;
+import com.saunderscox.taskolotl.repository.JoinTableSync.Association;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Syncing a join table writes only the links that differ from the requested set, and rejects targets
+ * that do not exist before writing anything.
+ */
+@SpringBootTest
+class JoinTableSyncTest {
+
+  @Autowired
+  private JoinTableSync joinTableSync;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private UUID boardId;
+  private List<UUID> userIds;
+
+  @BeforeEach
+  void setUp() {
+    List<User> users = IntStream.range(0, 4).mapToObj(i -> createUser()).toList();
+    userIds = users.stream().map(User::getId).toList();
+    boardId = new TransactionTemplate(transactionManager).execute(status -> {
+      Board board = Board.builder()
+          .title("sync-" + UUID.randomUUID())
+          .boardType(BoardType.TASK)
+          .visible(true)
+          .build();
+      board.addOwner(users.get(0));
+      return boardRepository.save(board).getId();
+    });
+  }
+
+  @Test
+  void sync_ShouldInsertAddedTargets() {
+    joinTableSync.link(Association.BOARD_MEMBERS, boardId, userIds.get(1));
+
+    assertThat(joinTableSync.sync(Association.BOARD_MEMBERS, boardId, userIds.subList(1, 4))).isTrue();
+
+    assertThat(joinTableSync.findTargetIds(Association.BOARD_MEMBERS, boardId))
+        .containsExactlyInAnyOrderElementsOf(userIds.subList(1, 4));
+  }
+
+  @Test
+  void sync_ShouldDeleteRemovedTargets() {
+    joinTableSync.sync(Association.BOARD_MEMBERS, boardId, userIds.subList(1, 4));
+
+    assertThat(joinTableSync.sync(Association.BOARD_MEMBERS, boardId, List.of(userIds.get(2)))).isTrue();
+
+    assertThat(joinTableSync.findTargetIds(Association.BOARD_MEMBERS, boardId))
+        .containsExactly(userIds.get(2));
+    assertThat(joinTableSync.findTargetIds(Association.BOARD_OWNERS, boardId))
+        .containsExactly(userIds.get(0));
+  }
+
+  @Test
+  void sync_ShouldWriteNothingWhenTargetsAreUnchanged() {
+    joinTableSync.sync(Association.BOARD_MEMBERS, boardId, userIds.subList(1, 3));
+
+    assertThat(joinTableSync.sync(Association.BOARD_MEMBERS, boardId, List.of(userIds.get(2), userIds.get(1))))
+        .isFalse();
+    assertThat(joinTableSync.link(Association.BOARD_MEMBERS, boardId, userIds.get(1))).isFalse();
+
+    assertThat(joinTableSync.findTargetIds(Association.BOARD_MEMBERS, boardId))
+        .containsExactlyInAnyOrderElementsOf(userIds.subList(1, 3));
+  }
+
+  @Test
+  void sync_ShouldRejectUnknownTargetsWithoutWriting() {
+    joinTableSync.sync(Association.BOARD_MEMBERS, boardId, List.of(userIds.get(1)));
+    UUID unknownId = UUID.randomUUID();
+
+    List<UUID> targetIds = List.of(userIds.get(2), unknownId);
+
+    assertThatThrownBy(() -> joinTableSync.sync(Association.BOARD_MEMBERS, boardId, targetIds))
+        .isInstanceOf(ResourceNotFoundException.class)
+        .hasMessageContaining(unknownId.toString())
+        .hasMessageNotContaining(userIds.get(2).toString());
+
+    assertThat(joinTableSync.findTargetIds(Association.BOARD_MEMBERS, boardId))
+        .isEqualTo(Set.of(userIds.get(1)));
+  }
+
+  private User createUser() {
+    String name = "sync-" + UUID.randomUUID();
+    return userRepository.save(User.builder()
+        .username(name)
+        .email(name + "@example.com")
+        .build());
+  }
+}
@@ -0,0 +1,101 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.entity.Permission;
+import com.saunderscox.taskolotl.entity.Skill;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.SkillRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.AuthService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code @PreAuthorize} on controllers is enforced against the authentication the token filter builds,
+ * with roles from the token's permission and the principal's user ID.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class MethodSecurityTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private AuthService authService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private SkillRepository skillRepository;
+
+  private User user;
+  private User otherUser;
+
+  @BeforeEach
+  void setUp() {
+    user = createUser();
+    otherUser = createUser();
+  }
+
+  @Test
+  void getAllUsers_ShouldRequireAdminRole() throws Exception {
+    mockMvc.perform(get("/api/users")
+            .header("Authorization", bearer(user, Permission.USER)))
+        .andExpect(status().isForbidden());
+    mockMvc.perform(get("/api/users")
+            .header("Authorization", bearer(user, Permission.ADMIN)))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void updateUser_ShouldBeForbiddenForOtherUser() throws Exception {
+    mockMvc.perform(put("/api/users/{id}", otherUser.getId())
+            .header("Authorization", bearer(user, Permission.USER))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"profileDescription\":\"Not mine\"}"))
+        .andExpect(status().isForbidden());
+    mockMvc.perform(put("/api/users/{id}", user.getId())
+            .header("Authorization", bearer(user, Permission.USER))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"profileDescription\":\"Mine\"}"))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  void addSkillToUser_ShouldAllowOnlySelf() throws Exception {
+    Skill skill = skillRepository.save(Skill.builder()
+        .name("skill-" + UUID.randomUUID())
+        .build());
+
+    mockMvc.perform(put("/api/users/{id}/skills/{skillId}", otherUser.getId(), skill.getId())
+            .header("Authorization", bearer(user, Permission.USER)))
+        .andExpect(status().isForbidden());
+    mockMvc.perform(put("/api/users/{id}/skills/{skillId}", user.getId(), skill.getId())
+            .header("Authorization", bearer(user, Permission.USER)))
+        .andExpect(status().isOk());
+  }
+
+  private String bearer(User tokenUser, Permission permission) {
+    return "Bearer " + authService.userIdToAuthResponse(tokenUser.getId(), permission).getAccessToken();
+  }
+
+  private User createUser() {
+    String name = "ms-" + UUID.randomUUID().toString().substring(0, 8);
+    return userRepository.save(User.builder()
+        .username(name)
+        .email(name + "@example.com")
+        .build());
+  }
+}
@@ -0,0 +1,652 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saunderscox.taskolotl.config.security.TokenPrincipal;
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardItem;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.Comment;
+import com.saunderscox.taskolotl.entity.Role;
+import com.saunderscox.taskolotl.entity.Skill;
+import com.saunderscox.taskolotl.entity.Task;
+import com.saunderscox.taskolotl.entity.TaskStage;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.CommentRepository;
+import com.saunderscox.taskolotl.repository.RoleRepository;
+import com.saunderscox.taskolotl.repository.SkillRepository;
+import com.saunderscox.taskolotl.repository.TaskRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.BoardAccessService;
+import com.saunderscox.taskolotl.service.BoardService;
+import com.saunderscox.taskolotl.service.BoardTransferService;
+import com.saunderscox.taskolotl.service.archive.ArchiveService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statement budgets of the board and user read endpoints. Each endpoint is called at a small and
+ * a large data size, either a board with few or many members and items or a page of few or many
+ * rows; the statement count must be the same for both and within the endpoint's budget. A lazy
+ * collection walked per row or an association loaded per element shows up as a count that grows.
+ * Write endpoints are measured the same way, on a small and a large board or relation set.
+ * <p>
+ * Requests are measured cold: every board is read once, so neither the board cache nor the board
+ * access cache can hide queries, and the second-level cache is cleared before each request. Budgets
+ * of board-scoped endpoints include the {@code board_access} lookup of their {@code @PreAuthorize}
+ * check.
+ * Streaming and event endpoints are not covered.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(QueryCountConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest {
+
+  private static final int LISTED_BOARDS = 25;
+  private static final int USERS = 60;
+  private static final int LARGE = 20;
+  private static final String NDJSON = "application/x-ndjson";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private BoardAccessService boardAccessService;
+
+  @Autowired
+  private SkillRepository skillRepository;
+
+  @Autowired
+  private RoleRepository roleRepository;
+
+  @Autowired
+  private CommentRepository commentRepository;
+
+  @Autowired
+  private BoardService boardService;
+
+  @Autowired
+  private BoardTransferService boardTransferService;
+
+  @Autowired
+  private ArchiveService archiveService;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  // Included in every title, username and email, so searches only match this test's rows
+  private final String marker = "qb" + UUID.randomUUID().toString().substring(0, 8);
+
+  private final List<User> users = new ArrayList<>();
+  private final List<Skill> skills = new ArrayList<>();
+  private final List<Role> roles = new ArrayList<>();
+  private User owner;
+  private User member;
+
+  @BeforeAll
+  void setUp() {
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      for (int i = 0; i < USERS; i++) {
+        users.add(userRepository.save(User.builder()
+            .username(marker + "-user-" + i)
+            .email(marker + "-user-" + i + "@example.com")
+            .oauthId(marker + "-oauth-" + i)
+            .build()));
+      }
+      for (int i = 0; i <= LARGE; i++) {
+        skills.add(skillRepository.save(Skill.builder().name(marker + " skill " + i).build()));
+        roles.add(roleRepository.save(Role.builder().name(marker + " role " + i).build()));
+      }
+      owner = users.get(0);
+      member = users.get(1);
+      for (int i = 0; i < LISTED_BOARDS; i++) {
+        createBoard(1, 1);
+      }
+    });
+  }
+
+  @Test
+  void getAllBoards_ShouldStayWithinBudget() throws Exception {
+    assertWithinBudget(
+        queries(get("/api/boards").param("size", "2")),
+        queries(get("/api/boards").param("size", String.valueOf(LARGE))),
+        7);
+  }
+
+  @Test
+  void scrollBoards_ShouldStayWithinBudget() throws Exception {
+    assertWithinBudget(
+        queries(get("/api/boards/scroll").param("size", "2")),
+        queries(get("/api/boards/scroll").param("size", String.valueOf(LARGE))),
+        6);
+  }
+
+  @Test
+  void getBoardById_ShouldStayWithinBudget() throws Exception {
+    UUID small = createBoardInTransaction(1, 1);
+    UUID large = createBoardInTransaction(LARGE, LARGE);
+
+    // ETag lookup, the board and its five collections; one more if item owners are not joined
+    assertWithinBudget(
+        queries(get("/api/boards/{id}", small)),
+        queries(get("/api/boards/{id}", large)),
+        8);
+  }
+
+  @Test
+  void getBoardStats_ShouldStayWithinBudget() throws Exception {
+    UUID small = createBoardInTransaction(1, 1);
+    UUID large = createBoardInTransaction(LARGE, LARGE);
+
+    assertWithinBudget(
+        queries(get("/api/boards/{id}/stats", small)),
+        queries(get("/api/boards/{id}/stats", large)),
+        4);
+  }
+
+  @Test
+  void getBoardChanges_ShouldStayWithinBudget() throws Exception {
+    UUID small = createBoardInTransaction(1, 1);
+    UUID large = createBoardInTransaction(LARGE, LARGE);
+    String since = Instant.now().minus(1, ChronoUnit.HOURS).toString();
+
+    assertWithinBudget(
+        queries(get("/api/boards/{id}/changes", small).param("since", since)),
+        queries(get("/api/boards/{id}/changes", large).param("since", since)),
+        10);
+  }
+
+  @Test
+  void getArchive_ShouldStayWithinBudget() throws Exception {
+    UUID small = createBoardInTransaction(1, 1);
+    UUID large = createBoardInTransaction(LARGE, LARGE);
+
+    assertWithinBudget(
+        queries(get("/api/boards/{id}/archive", small)),
+        queries(get("/api/boards/{id}/archive", large)),
+        2);
+  }
+
+  @Test
+  void searchBoards_ShouldStayWithinBudget() throws Exception {
+    assertWithinBudget(
+        queries(get("/api/boards/search").param("query", marker).param("size", "2")),
+        queries(get("/api/boards/search").param("query", marker).param("size", String.valueOf(LARGE))),
+        7);
+  }
+
+  @Test
+  void scrollSearchBoards_ShouldStayWithinBudget() throws Exception {
+    assertWithinBudget(
+        queries(get("/api/boards/search/scroll").param("query", marker).param("size", "2")),
+        queries(get("/api/boards/search/scroll").param("query", marker).param("size", String.valueOf(LARGE))),
+        6);
+  }
+
+  @Test
+  void getBoardsByOwner_ShouldStayWithinBudget() throws Exception {
+    assertWithinBudget(
+        queries(get("/api/boards/owner/{userId}", owner.getId()).param("size", "2")),
+        queries(get("/api/boards/owner/{userId}", owner.getId()).param("size", String.valueOf(LARGE))),
+        7);
+  }
+
+  @Test
+  void getBoardsByMember_ShouldStayWithinBudget() throws Exception {
+    assertWithinBudget(
+        queries(get("/api/boards/member/{userId}", member.getId()).param("size", "2")),
+        queries(get("/api/boards/member/{userId}", member.getId()).param("size", String.valueOf(LARGE))),
+        7);
+  }
+
+  @Test
+  void getAccessibleBoards_ShouldStayWithinBudget() throws Exception {
+    assertWithinBudget(
+        queries(get("/api/boards/accessible/{userId}", member.getId()).param("size", "2")),
+        queries(get("/api/boards/accessible/{userId}", member.getId()).param("size", String.valueOf(LARGE))),
+        7);
+  }
+
+  @Test
+  void scrollAccessibleBoards_ShouldStayWithinBudget() throws Exception {
+    assertWithinBudget(
+        queries(get("/api/boards/accessible/{userId}/scroll", member.getId()).param("size", "2")),
+        queries(get("/api/boards/accessible/{userId}/scroll", member.getId())
+            .param("size", String.valueOf(LARGE))),
+        6);
+  }
+
+  @Test
+  void createBoard_ShouldStayWithinBudget() throws Exception {
+    assertWithinBudget(
+        queries(post("/api/boards").contentType(MediaType.APPLICATION_JSON).content(json(newBoard(1)))),
+        queries(post("/api/boards").contentType(MediaType.APPLICATION_JSON).content(json(newBoard(LARGE)))),
+        10);
+  }
+
+  @Test
+  void updateBoard_ShouldStayWithinBudget() throws Exception {
+    UUID small = createBoardInTransaction(1, 1);
+    UUID large = createBoardInTransaction(1, LARGE);
+
+    // Replaces the single member with two members, or with LARGE members
+    assertWithinBudget(
+        queries(put("/api/boards/{id}", small).contentType(MediaType.APPLICATION_JSON)
+            .content(json(Map.of("memberIds", userIds(2, 4))))),
+        queries(put("/api/boards/{id}", large).contentType(MediaType.APPLICATION_JSON)
+            .content(json(Map.of("memberIds", userIds(2, 2 + LARGE))))),
+        15);
+  }
+
+  @Test
+  void deleteBoard_ShouldStayWithinBudget() throws Exception {
+    UUID small = createBoardInTransaction(1, 1);
+    UUID large = createBoardInTransaction(LARGE, LARGE);
+
+    assertWithinBudget(
+        queries(delete("/api/boards/{id}", small)),
+        queries(delete("/api/boards/{id}", large)),
+        11);
+  }
+
+  @Test
+  void cloneBoard_ShouldStayWithinBudget() throws Exception {
+    UUID small = createBoardInTransaction(1, 1);
+    UUID large = createBoardInTransaction(LARGE, LARGE);
+
+    assertWithinBudget(
+        queries(post("/api/boards/{id}/clone", small).contentType(MediaType.APPLICATION_JSON)
+            .content(json(Map.of("title", marker + " clone " + UUID.randomUUID(), "includeMemberships", true)))),
+        queries(post("/api/boards/{id}/clone", large).contentType(MediaType.APPLICATION_JSON)
+            .content(json(Map.of("title", marker + " clone " + UUID.randomUUID(), "includeMemberships", true)))),
+        26);
+  }
+
+  @Test
+  void moveItem_ShouldStayWithinBudget() throws Exception {
+    UUID small = createBoardInTransaction(1, 2);
+    UUID large = createBoardInTransaction(1, LARGE);
+
+    assertWithinBudget(
+        queries(post("/api/boards/{boardId}/items/{boardItemId}/move", small, itemIds(small).get(0))
+            .param("position", "1")),
+        queries(post("/api/boards/{boardId}/items/{boardItemId}/move", large, itemIds(large).get(0))
+            .param("position", String.valueOf(LARGE - 1))),
+        7);
+  }
+
+  @Test
+  void reorderItems_ShouldStayWithinBudget() throws Exception {
+    UUID small = createBoardInTransaction(1, 2);
+    UUID large = createBoardInTransaction(1, LARGE);
+
+    assertWithinBudget(
+        queries(put("/api/boards/{boardId}/items/order", small).contentType(MediaType.APPLICATION_JSON)
+            .content(json(Map.of("boardItemIds", itemIds(small).reversed())))),
+        queries(put("/api/boards/{boardId}/items/order", large).contentType(MediaType.APPLICATION_JSON)
+            .content(json(Map.of("boardItemIds", itemIds(large).reversed())))),
+        4);
+  }
+
+  @Test
+  void restoreArchiveEntry_ShouldStayWithinBudget() throws Exception {
+    UUID smallBoard = createBoardInTransaction(1, 0);
+    UUID largeBoard = createBoardInTransaction(1, 0);
+    UUID small = createCompletedTaskInTransaction(smallBoard, 1);
+    UUID large = createCompletedTaskInTransaction(largeBoard, LARGE);
+    archiveService.archiveCompletedTasks(Instant.now());
+
+    assertWithinBudget(
+        queries(post("/api/boards/{id}/archive/{entryId}/restore", smallBoard, small)),
+        queries(post("/api/boards/{id}/archive/{entryId}/restore", largeBoard, large)),
+        14);
+  }
+
+  @Test
+  void importBoard_ShouldStayWithinBudget() throws Exception {
+    byte[] small = exportAndDelete(createBoardInTransaction(1, 1));
+    byte[] large = exportAndDelete(createBoardInTransaction(LARGE, LARGE));
+
+    assertWithinBudget(
+        queries(post("/api/boards/import").contentType(NDJSON).content(small), admin()),
+        queries(post("/api/boards/import").contentType(NDJSON).content(large), admin()),
+        25);
+  }
+
+  @Test
+  void getAllUsers_ShouldStayWithinBudget() throws Exception {
+    assertWithinBudget(
+        queries(get("/api/users").param("size", "5"), admin()),
+        queries(get("/api/users").param("size", "50"), admin()),
+        2);
+  }
+
+  @Test
+  void scrollUsers_ShouldStayWithinBudget() throws Exception {
+    assertWithinBudget(
+        queries(get("/api/users/scroll").param("size", "5"), admin()),
+        queries(get("/api/users/scroll").param("size", "50"), admin()),
+        1);
+  }
+
+  @Test
+  void getUserById_ShouldStayWithinBudget() throws Exception {
+    // The owner is on every listed board, the other user on none
+    assertWithinBudget(
+        queries(get("/api/users/{id}", users.get(USERS - 1).getId())),
+        queries(get("/api/users/{id}", owner.getId())),
+        2);
+  }
+
+  @Test
+  void getUserByOauthId_ShouldStayWithinBudget() throws Exception {
+    assertWithinBudget(
+        queries(get("/api/users/oauth/{oauthId}", users.get(USERS - 1).getOauthId())),
+        queries(get("/api/users/oauth/{oauthId}", owner.getOauthId())),
+        1);
+  }
+
+  @Test
+  void getCurrentUser_ShouldStayWithinBudget() throws Exception {
+    assertWithinBudget(
+        queries(get("/api/users/me"), as(users.get(USERS - 1))),
+        queries(get("/api/users/me"), as(owner)),
+        1);
+  }
+
+  @Test
+  void searchUsers_ShouldStayWithinBudget() throws Exception {
+    assertWithinBudget(
+        queries(get("/api/users/search").param("query", marker).param("size", "5")),
+        queries(get("/api/users/search").param("query", marker).param("size", "50")),
+        2);
+  }
+
+  @Test
+  void scrollSearchUsers_ShouldStayWithinBudget() throws Exception {
+    assertWithinBudget(
+        queries(get("/api/users/search/scroll").param("query", marker).param("size", "5")),
+        queries(get("/api/users/search/scroll").param("query", marker).param("size", "50")),
+        1);
+  }
+
+  @Test
+  void createUser_ShouldStayWithinBudget() throws Exception {
+    // Creation takes no relations, so the small and large requests are alike
+    assertWithinBudget(
+        queries(post("/api/users").contentType(MediaType.APPLICATION_JSON).content(json(newUser())), admin()),
+        queries(post("/api/users").contentType(MediaType.APPLICATION_JSON).content(json(newUser())), admin()),
+        3);
+  }
+
+  @Test
+  void updateUser_ShouldStayWithinBudget() throws Exception {
+    User small = createUserInTransaction(1);
+    User large = createUserInTransaction(1);
+
+    assertWithinBudget(
+        queries(put("/api/users/{id}", small.getId()).contentType(MediaType.APPLICATION_JSON)
+            .content(json(Map.of("skillIds", skillIds(1, 3), "roleIds", roleIds(0, 2)))), as(small)),
+        queries(put("/api/users/{id}", large.getId()).contentType(MediaType.APPLICATION_JSON)
+            .content(json(Map.of("skillIds", skillIds(1, 1 + LARGE), "roleIds", roleIds(0, LARGE)))), as(large)),
+        8);
+  }
+
+  @Test
+  void deleteUser_ShouldStayWithinBudget() throws Exception {
+    User small = createUserInTransaction(1);
+    User large = createUserInTransaction(LARGE);
+
+    assertWithinBudget(
+        queries(delete("/api/users/{id}", small.getId()), admin()),
+        queries(delete("/api/users/{id}", large.getId()), admin()),
+        3);
+  }
+
+  @Test
+  void addSkillToUser_ShouldStayWithinBudget() throws Exception {
+    User small = createUserInTransaction(0);
+    User large = createUserInTransaction(LARGE);
+
+    assertWithinBudget(
+        queries(put("/api/users/{id}/skills/{skillId}", small.getId(), skills.get(LARGE).getId()), admin()),
+        queries(put("/api/users/{id}/skills/{skillId}", large.getId(), skills.get(LARGE).getId()), admin()),
+        5);
+  }
+
+  @Test
+  void removeSkillFromUser_ShouldStayWithinBudget() throws Exception {
+    User small = createUserInTransaction(1);
+    User large = createUserInTransaction(LARGE);
+
+    assertWithinBudget(
+        queries(delete("/api/users/{id}/skills/{skillId}", small.getId(), skills.get(0).getId()), admin()),
+        queries(delete("/api/users/{id}/skills/{skillId}", large.getId(), skills.get(0).getId()), admin()),
+        2);
+  }
+
+  @Test
+  void addRoleToUser_ShouldStayWithinBudget() throws Exception {
+    User small = createUserInTransaction(0);
+    User large = createUserInTransaction(0);
+    addRoles(large, LARGE);
+
+    assertWithinBudget(
+        queries(put("/api/users/{id}/roles/{roleId}", small.getId(), roles.get(LARGE).getId()), admin()),
+        queries(put("/api/users/{id}/roles/{roleId}", large.getId(), roles.get(LARGE).getId()), admin()),
+        5);
+  }
+
+  @Test
+  void removeRoleFromUser_ShouldStayWithinBudget() throws Exception {
+    User small = createUserInTransaction(0);
+    User large = createUserInTransaction(0);
+    addRoles(small, 1);
+    addRoles(large, LARGE);
+
+    assertWithinBudget(
+        queries(delete("/api/users/{id}/roles/{roleId}", small.getId(), roles.get(0).getId()), admin()),
+        queries(delete("/api/users/{id}/roles/{roleId}", large.getId(), roles.get(0).getId()), admin()),
+        2);
+  }
+
+  /**
+   * Statements executed by one request made as the board owner.
+   */
+  private long queries(MockHttpServletRequestBuilder request) throws Exception {
+    return queries(request, as(owner));
+  }
+
+  private long queries(MockHttpServletRequestBuilder request, RequestPostProcessor user) throws Exception {
+    entityManagerFactory.getCache().evictAll();
+    QueryCountConfig.reset();
+    mockMvc.perform(request.with(user)).andExpect(status().is2xxSuccessful());
+    return QueryCountConfig.count();
+  }
+
+  private static void assertWithinBudget(long small, long large, int budget) {
+    assertThat(large).as("statements at the large size compared to the small one").isEqualTo(small);
+    assertThat(large).as("statements against the budget").isLessThanOrEqualTo(budget);
+  }
+
+  private UUID createBoardInTransaction(int members, int items) {
+    return new TransactionTemplate(transactionManager).execute(status -> createBoard(members, items));
+  }
+
+  /**
+   * Creates a board owned by {@link #owner} with {@code members} members, the first of them
+   * {@link #member}, and {@code items} tasks owned by the owner.
+   */
+  private UUID createBoard(int members, int items) {
+    User boardOwner = userRepository.getReferenceById(owner.getId());
+    Board board = Board.builder()
+        .title(marker + " board " + UUID.randomUUID())
+        .boardType(BoardType.TASK)
+        .visible(true)
+        .build();
+    board.addOwner(boardOwner);
+    for (int i = 0; i < members; i++) {
+      board.addMember(userRepository.getReferenceById(users.get(i + 1).getId()));
+    }
+    board = boardRepository.save(board);
+
+    for (int i = 0; i < items; i++) {
+      taskRepository.save(Task.builder()
+          .title("Task " + i)
+          .position(i)
+          .board(board)
+          .owner(boardOwner)
+          .build());
+    }
+    boardAccessService.refreshBoard(board.getId());
+    return board.getId();
+  }
+
+  private UUID createCompletedTaskInTransaction(UUID boardId, int comments) {
+    return new TransactionTemplate(transactionManager).execute(status -> {
+      User author = userRepository.getReferenceById(owner.getId());
+      Task task = taskRepository.save(Task.builder()
+          .title("Done task")
+          .board(boardRepository.getReferenceById(boardId))
+          .owner(author)
+          .taskStage(TaskStage.DONE)
+          .completedAt(Instant.now().minus(365, ChronoUnit.DAYS))
+          .build());
+      for (int i = 0; i < comments; i++) {
+        commentRepository.save(Comment.builder()
+            .author(author)
+            .boardItem(task)
+            .description("Comment " + i)
+            .tags(new HashSet<>(Set.of("tag" + i)))
+            .build());
+      }
+      return task.getId();
+    });
+  }
+
+  /**
+   * Creates a user with the first {@code skillCount} skills.
+   */
+  private User createUserInTransaction(int skillCount) {
+    return new TransactionTemplate(transactionManager).execute(status -> {
+      String name = marker + "-" + UUID.randomUUID().toString().substring(0, 8);
+      User user = User.builder().username(name).email(name + "@example.com").build();
+      user.setSkills(new HashSet<>(skills.subList(0, skillCount)));
+      return userRepository.save(user);
+    });
+  }
+
+  private void addRoles(User user, int roleCount) {
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      User managed = userRepository.findById(user.getId()).orElseThrow();
+      managed.setRoles(new HashSet<>(roles.subList(0, roleCount)));
+    });
+  }
+
+  private List<UUID> itemIds(UUID boardId) {
+    return new TransactionTemplate(transactionManager).execute(status ->
+        boardRepository.findById(boardId).orElseThrow().getBoardItems().stream()
+            .map(BoardItem::getId)
+            .toList());
+  }
+
+  private byte[] exportAndDelete(UUID boardId) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    boardTransferService.exportBoard(boardId, out);
+    boardService.deleteBoard(boardId);
+    return out.toByteArray();
+  }
+
+  private Map<String, Object> newBoard(int members) {
+    return Map.of(
+        "title", marker + " new board " + UUID.randomUUID(),
+        "boardType", BoardType.TASK,
+        "ownerIds", Set.of(owner.getId()),
+        "memberIds", userIds(1, 1 + members));
+  }
+
+  private Map<String, Object> newUser() {
+    String name = marker + "-" + UUID.randomUUID().toString().substring(0, 8);
+    return Map.of("username", name, "email", name + "@example.com");
+  }
+
+  private Set<UUID> userIds(int from, int to) {
+    return users.subList(from, to).stream().map(User::getId).collect(Collectors.toSet());
+  }
+
+  private Set<UUID> skillIds(int from, int to) {
+    return skills.subList(from, to).stream().map(Skill::getId).collect(Collectors.toSet());
+  }
+
+  private Set<UUID> roleIds(int from, int to) {
+    return roles.subList(from, to).stream().map(Role::getId).collect(Collectors.toSet());
+  }
+
+  private String json(Object body) throws JsonProcessingException {
+    return objectMapper.writeValueAsString(body);
+  }
+
+  private static RequestPostProcessor as(User user) {
+    return as(user, "ROLE_USER");
+  }
+
+  private RequestPostProcessor admin() {
+    return as(owner, "ROLE_ADMIN");
+  }
+
+  private static RequestPostProcessor as(User user, String role) {
+    return authentication(new UsernamePasswordAuthenticationToken(
+        new TokenPrincipal(user.getId()), null, List.of(new SimpleGrantedAuthority(role))));
+  }
+}
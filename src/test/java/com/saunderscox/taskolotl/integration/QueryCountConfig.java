@@ -0,0 +1,51 @@
+package com.saunderscox.taskolotl.integration;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's data source so every statement it executes is counted, whether issued by
+ * Hibernate or a {@code JdbcTemplate}. Counts are kept per thread, so scheduled jobs running during
+ * a test do not affect them; a {@code MockMvc} request runs on the test's own thread.
+ */
+@TestConfiguration
+public class QueryCountConfig {
+
+  @Bean
+  static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+          return ProxyDataSourceBuilder.create(dataSource)
+              .name(beanName)
+              .countQuery()
+              .build();
+        }
+        return bean;
+      }
+    };
+  }
+
+  /**
+   * Starts counting from zero on the current thread.
+   */
+  public static void reset() {
+    QueryCountHolder.clear();
+  }
+
+  /**
+   * Statements executed on the current thread since the last {@link #reset()}.
+   */
+  public static long count() {
+    QueryCount queryCount = QueryCountHolder.getGrandTotal();
+    return queryCount.getTotal();
+  }
+}
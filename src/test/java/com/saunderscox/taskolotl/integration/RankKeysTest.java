@@ -0,0 +1,61 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.entity.RankKeys;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RankKeysTest {
+
+  @Test
+  void between_ShouldSortStrictlyBetweenBounds() {
+    assertThat(RankKeys.between("a", "b")).isGreaterThan("a").isLessThan("b");
+    assertThat(RankKeys.between("a", "a1")).isGreaterThan("a").isLessThan("a1");
+    assertThat(RankKeys.between("zz", null)).isGreaterThan("zz");
+    assertThat(RankKeys.between(null, "01")).isLessThan("01");
+    assertThat(RankKeys.between(null, null)).isNotEmpty();
+  }
+
+  @Test
+  void between_ShouldRejectUnorderedBounds() {
+    assertThatThrownBy(() -> RankKeys.between("b", "a"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> RankKeys.between("a", "a"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void between_ShouldKeepFindingRoomWhenRepeatedlyInsertingAtTheSameSpot() {
+    String lower = "a";
+    String upper = "b";
+    for (int i = 0; i < 200; i++) {
+      String key = RankKeys.between(lower, upper);
+      assertThat(key).isGreaterThan(lower).isLessThan(upper).doesNotEndWith("0");
+      upper = key;
+    }
+  }
+
+  @Test
+  void spread_ShouldReturnAscendingDistinctKeysWithRoomBetweenNeighbours() {
+    String[] keys = RankKeys.spread(2_000);
+
+    assertThat(keys).hasSize(2_000).doesNotHaveDuplicates();
+    List<String> sorted = new ArrayList<>(Arrays.asList(keys));
+    sorted.sort(null);
+    assertThat(Arrays.asList(keys)).isEqualTo(sorted);
+
+    for (int i = 1; i < keys.length; i++) {
+      assertThat(RankKeys.between(keys[i - 1], keys[i])).hasSizeLessThanOrEqualTo(keys[i].length() + 1);
+    }
+  }
+
+  @Test
+  void spread_ShouldHandleEmptyBoard() {
+    assertThat(RankKeys.spread(0)).isEmpty();
+  }
+}
@@ -0,0 +1,159 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.config.security.TokenPrincipal;
+import com.saunderscox.taskolotl.entity.Board;
+import com.saunderscox.taskolotl.entity.BoardType;
+import com.saunderscox.taskolotl.entity.Comment;
+import com.saunderscox.taskolotl.entity.Task;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.BoardRepository;
+import com.saunderscox.taskolotl.repository.CommentRepository;
+import com.saunderscox.taskolotl.repository.TaskRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.BoardAccessService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Full-text search only returns documents on boards the caller owns or is a member of, and reflects
+ * committed changes, including comment tags that are only readable after the flush.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SearchTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private BoardRepository boardRepository;
+
+  @Autowired
+  private TaskRepository taskRepository;
+
+  @Autowired
+  private CommentRepository commentRepository;
+
+  @Autowired
+  private BoardAccessService boardAccessService;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  // One token for every searchable field, so searches only match this test's rows
+  private final String marker = "srch" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+  private final String tag = marker + "tag";
+  private User owner;
+  private User member;
+  private User outsider;
+  private UUID boardId;
+  private UUID taskId;
+  private UUID commentId;
+
+  @BeforeEach
+  void setUp() {
+    owner = createUser("owner");
+    member = createUser("member");
+    outsider = createUser("outsider");
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      Board board = Board.builder()
+          .title(marker + " board")
+          .boardType(BoardType.TASK)
+          .visible(true)
+          .build();
+      board.addOwner(userRepository.getReferenceById(owner.getId()));
+      board.addMember(userRepository.getReferenceById(member.getId()));
+      board = boardRepository.save(board);
+      boardAccessService.refreshBoard(board.getId());
+
+      Task task = taskRepository.save(Task.builder()
+          .title(marker + " task")
+          .board(board)
+          .owner(userRepository.getReferenceById(owner.getId()))
+          .build());
+      Comment comment = commentRepository.save(Comment.builder()
+          .author(userRepository.getReferenceById(member.getId()))
+          .boardItem(task)
+          .description(marker + " comment")
+          .tags(new HashSet<>(Set.of(tag)))
+          .build());
+
+      boardId = board.getId();
+      taskId = task.getId();
+      commentId = comment.getId();
+    });
+  }
+
+  @Test
+  void search_ShouldFindBoardItemAndCommentForMember() throws Exception {
+    mockMvc.perform(get("/api/search").param("query", marker).with(as(member)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[*].id").value(containsInAnyOrder(
+            boardId.toString(), taskId.toString(), commentId.toString())));
+  }
+
+  @Test
+  void search_ShouldReturnNoHitsForNonMember() throws Exception {
+    mockMvc.perform(get("/api/search").param("query", marker).with(as(outsider)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content").isEmpty())
+        .andExpect(jsonPath("$.page.totalElements").value(0));
+  }
+
+  @Test
+  void search_ShouldMatchCommentTags() throws Exception {
+    mockMvc.perform(get("/api/search").param("query", tag).with(as(owner)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[*].id").value(containsInAnyOrder(commentId.toString())));
+  }
+
+  @Test
+  void search_ShouldDropDeletedItemAndItsComments() throws Exception {
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      Task task = taskRepository.findById(taskId).orElseThrow();
+      task.getBoard().getBoardItems().remove(task);
+      taskRepository.delete(task);
+    });
+
+    mockMvc.perform(get("/api/search").param("query", marker).with(as(owner)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[*].id").value(containsInAnyOrder(boardId.toString())));
+  }
+
+  private User createUser(String role) {
+    String name = marker + "-" + role;
+    return userRepository.save(User.builder()
+        .username(name)
+        .email(name + "@example.com")
+        .build());
+  }
+
+  private static RequestPostProcessor as(User user) {
+    return authentication(new UsernamePasswordAuthenticationToken(
+        new TokenPrincipal(user.getId()), null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+  }
+}
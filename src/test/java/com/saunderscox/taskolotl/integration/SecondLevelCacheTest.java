@@ -0,0 +1,106 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.config.cache.CacheNames;
+import com.saunderscox.taskolotl.entity.Concept;
+import com.saunderscox.taskolotl.entity.Role;
+import com.saunderscox.taskolotl.entity.Skill;
+import com.saunderscox.taskolotl.repository.ConceptRepository;
+import com.saunderscox.taskolotl.repository.RoleRepository;
+import com.saunderscox.taskolotl.repository.SkillRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repeated lookups of reference entities must be answered from the second-level cache. Statistics are
+ * compared per entity and region rather than globally, since scheduled jobs may query meanwhile.
+ */
+@SpringBootTest
+class SecondLevelCacheTest {
+
+  @Autowired
+  private SkillRepository skillRepository;
+
+  @Autowired
+  private RoleRepository roleRepository;
+
+  @Autowired
+  private ConceptRepository conceptRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  void findById_ShouldNotQueryOnceCached() {
+    Skill skill = skillRepository.save(Skill.builder().name("Skill " + UUID.randomUUID()).build());
+    Role role = roleRepository.save(Role.builder().name("Role " + UUID.randomUUID()).build());
+    skillRepository.findById(skill.getId());
+    roleRepository.findById(role.getId());
+
+    long skillLoads = loadCount(Skill.class);
+    long roleLoads = loadCount(Role.class);
+    long skillHits = region(CacheNames.SKILL_ENTITIES).getHitCount();
+    long roleHits = region(CacheNames.ROLE_ENTITIES).getHitCount();
+
+    // Each call runs in its own transaction with a fresh persistence context
+    for (int i = 0; i < 3; i++) {
+      assertThat(skillRepository.findById(skill.getId())).isPresent();
+      assertThat(roleRepository.findById(role.getId())).isPresent();
+    }
+
+    assertThat(loadCount(Skill.class)).isEqualTo(skillLoads);
+    assertThat(loadCount(Role.class)).isEqualTo(roleLoads);
+    assertThat(region(CacheNames.SKILL_ENTITIES).getHitCount()).isEqualTo(skillHits + 3);
+    assertThat(region(CacheNames.ROLE_ENTITIES).getHitCount()).isEqualTo(roleHits + 3);
+  }
+
+  @Test
+  void collection_ShouldNotQueryOnceCached() {
+    Skill skill = skillRepository.save(Skill.builder().name("Skill " + UUID.randomUUID()).build());
+    conceptRepository.save(Concept.builder().name("Concept").skill(skill).build());
+    conceptRepository.save(Concept.builder().name("Other concept").skill(skill).build());
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    transaction.executeWithoutResult(status -> skillRepository.findById(skill.getId()).orElseThrow()
+        .getConcepts().size());
+
+    long collectionLoads = statistics.getCollectionStatistics(Skill.class.getName() + ".concepts").getLoadCount();
+    long hits = region(CacheNames.SKILL_CONCEPTS).getHitCount();
+
+    Integer size = transaction.execute(status -> skillRepository.findById(skill.getId()).orElseThrow()
+        .getConcepts().size());
+
+    assertThat(size).isEqualTo(2);
+    assertThat(statistics.getCollectionStatistics(Skill.class.getName() + ".concepts").getLoadCount())
+        .isEqualTo(collectionLoads);
+    assertThat(region(CacheNames.SKILL_CONCEPTS).getHitCount()).isEqualTo(hits + 1);
+  }
+
+  private long loadCount(Class<?> entityClass) {
+    return statistics.getEntityStatistics(entityClass.getName()).getLoadCount();
+  }
+
+  private CacheRegionStatistics region(String regionName) {
+    return statistics.getDomainDataRegionStatistics(regionName);
+  }
+}
@@ -0,0 +1,158 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saunderscox.taskolotl.config.security.TokenProps;
+import com.saunderscox.taskolotl.config.security.TokenRevocationStore;
+import com.saunderscox.taskolotl.dto.AuthResponse;
+import com.saunderscox.taskolotl.entity.Permission;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.RevokedTokenRepository;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.AuthService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Token revocations are persisted before they take effect in memory, expire with their bucket, and
+ * make a rotated refresh token unusable even when revoked by another instance.
+ */
+@SpringBootTest
+class TokenRevocationTest {
+
+  @Autowired
+  private TokenRevocationStore tokenRevocationStore;
+
+  @Autowired
+  private RevokedTokenRepository revokedTokenRepository;
+
+  @Autowired
+  private AuthService authService;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transaction;
+
+  @BeforeEach
+  void setUp() {
+    transaction = new TransactionTemplate(transactionManager);
+  }
+
+  @Test
+  void isRevoked_ShouldFindEveryRevokedIdAndNoOthers() {
+    Instant expiresAt = Instant.now().plus(1, ChronoUnit.HOURS);
+    List<UUID> revoked = IntStream.range(0, 500).mapToObj(i -> UUID.randomUUID()).toList();
+    transaction.executeWithoutResult(status ->
+        revoked.forEach(id -> tokenRevocationStore.revoke(id, expiresAt)));
+
+    // A Bloom filter may report false positives, but the exact set behind it must reject them
+    assertThat(revoked).allMatch(tokenRevocationStore::isRevoked);
+    assertThat(IntStream.range(0, 500).mapToObj(i -> UUID.randomUUID()))
+        .noneMatch(tokenRevocationStore::isRevoked);
+  }
+
+  @Test
+  void revoke_ShouldNotApplyWhenTransactionRollsBack() {
+    UUID tokenId = UUID.randomUUID();
+    Instant expiresAt = Instant.now().plus(1, ChronoUnit.HOURS);
+
+    transaction.executeWithoutResult(status -> {
+      assertThat(tokenRevocationStore.revoke(tokenId, expiresAt)).isTrue();
+      assertThat(tokenRevocationStore.isRevoked(tokenId)).isFalse();
+      status.setRollbackOnly();
+    });
+
+    assertThat(tokenRevocationStore.isRevoked(tokenId)).isFalse();
+    Boolean revokedAgain = transaction.execute(status -> tokenRevocationStore.revoke(tokenId, expiresAt));
+    assertThat(revokedAgain).isTrue();
+    assertThat(tokenRevocationStore.isRevoked(tokenId)).isTrue();
+  }
+
+  @Test
+  void purgeExpired_ShouldDropExpiredBucketsAndKeepLiveOnes() throws InterruptedException {
+    TokenProps tokenProps = new TokenProps();
+    tokenProps.setRevocationBucketWidth(10);
+    tokenProps.setRevocationExpectedInsertions(100);
+    TokenRevocationStore store = new TokenRevocationStore(revokedTokenRepository, tokenProps);
+    UUID expiring = UUID.randomUUID();
+    UUID live = UUID.randomUUID();
+    transaction.executeWithoutResult(status -> {
+      store.revoke(expiring, Instant.now().plusMillis(50));
+      store.revoke(live, Instant.now().plus(1, ChronoUnit.HOURS));
+    });
+    assertThat(store.isRevoked(expiring)).isTrue();
+
+    Thread.sleep(100);
+    store.purgeExpired();
+
+    assertThat(store.isRevoked(expiring)).isFalse();
+    assertThat(store.isRevoked(live)).isTrue();
+    assertThat(revokedTokenRepository.findByExpiresAtAfter(Instant.now()))
+        .extracting("tokenId")
+        .contains(live)
+        .doesNotContain(expiring);
+  }
+
+  @Test
+  void refreshAccessToken_ShouldRotateAndRejectReuse() {
+    AuthResponse issued = authService.userIdToAuthResponse(createUser().getId(), Permission.USER);
+
+    AuthResponse rotated = authService.refreshAccessToken(issued.getRefreshToken());
+
+    assertThat(rotated.getRefreshToken()).isNotEqualTo(issued.getRefreshToken());
+    assertThatThrownBy(() -> authService.refreshAccessToken(issued.getRefreshToken()))
+        .isInstanceOf(BadCredentialsException.class);
+    assertThat(authService.refreshAccessToken(rotated.getRefreshToken()).getAccessToken()).isNotBlank();
+  }
+
+  @Test
+  void refreshAccessToken_ShouldRejectTokenRevokedByAnotherInstance() {
+    AuthResponse issued = authService.userIdToAuthResponse(createUser().getId(), Permission.USER);
+    JsonNode claims = claims(issued.getRefreshToken());
+    TokenRevocationStore otherInstance = new TokenRevocationStore(revokedTokenRepository, new TokenProps());
+    transaction.executeWithoutResult(status -> otherInstance.revoke(
+        UUID.fromString(claims.get("jti").asText()), Instant.ofEpochSecond(claims.get("exp").asLong())));
+
+    assertThatThrownBy(() -> authService.refreshAccessToken(issued.getRefreshToken()))
+        .isInstanceOf(BadCredentialsException.class);
+  }
+
+  private User createUser() {
+    String name = "revocation-" + UUID.randomUUID();
+    return userRepository.save(User.builder()
+        .username(name)
+        .email(name + "@example.com")
+        .build());
+  }
+
+  private JsonNode claims(String token) {
+    try {
+      return objectMapper.readTree(Base64.getUrlDecoder().decode(token.split("\\.")[1]));
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.entity.UuidV7Generator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTest {
+
+  @Test
+  void next_ShouldSetVersionVariantAndTimestamp() {
+    long before = System.currentTimeMillis();
+    UUID id = UuidV7Generator.next();
+    long after = System.currentTimeMillis();
+
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+    assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, after + 1);
+  }
+
+  @Test
+  void next_ShouldIncreaseStrictlyInDatabaseOrder() {
+    // Databases order UUIDs bytewise, which matches the order of their hex strings
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      ids.add(UuidV7Generator.next().toString());
+    }
+
+    for (int i = 1; i < ids.size(); i++) {
+      assertThat(ids.get(i)).isGreaterThan(ids.get(i - 1));
+    }
+  }
+
+  @Test
+  void of_ShouldEncodeCreationTimeAndRepeatForSameSeed() {
+    Instant createdAt = Instant.parse("2024-05-01T12:00:00Z");
+
+    UUID id = UuidV7Generator.of(createdAt, new SplittableRandom(42));
+
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+    assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(createdAt.toEpochMilli());
+    assertThat(UuidV7Generator.of(createdAt, new SplittableRandom(42))).isEqualTo(id);
+    assertThat(UuidV7Generator.of(createdAt, new SplittableRandom(43))).isNotEqualTo(id);
+  }
+}
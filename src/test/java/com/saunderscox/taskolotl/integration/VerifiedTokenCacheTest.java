@@ -0,0 +1,132 @@
+package com.saunderscox.taskolotl.integration;
+
+import com.saunderscox.taskolotl.config.security.TokenRevocationStore;
+import com.saunderscox.taskolotl.config.security.VerifiedToken;
+import com.saunderscox.taskolotl.config.security.VerifiedTokenCache;
+import com.saunderscox.taskolotl.entity.Permission;
+import com.saunderscox.taskolotl.entity.User;
+import com.saunderscox.taskolotl.repository.UserRepository;
+import com.saunderscox.taskolotl.service.AuthService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verified access tokens are served from the cache until their own expiration, failed verifications
+ * are never cached, and a cached token is still checked for revocation.
+ */
+@SpringBootTest
+class VerifiedTokenCacheTest {
+
+  @Autowired
+  private VerifiedTokenCache verifiedTokenCache;
+
+  @Autowired
+  private AuthService authService;
+
+  @Autowired
+  private TokenRevocationStore tokenRevocationStore;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  void get_ShouldVerifyOnceAndServeRepeatedCallsFromCache() {
+    String token = "token-" + UUID.randomUUID();
+    VerifiedToken verified = verifiedToken(Instant.now().plus(Duration.ofHours(1)));
+    AtomicInteger verifications = new AtomicInteger();
+
+    VerifiedToken first = verifiedTokenCache.get(token, counting(verifications, verified));
+    VerifiedToken second = verifiedTokenCache.get(token, counting(verifications, verified));
+
+    assertThat(first).isSameAs(verified);
+    assertThat(second).isSameAs(verified);
+    assertThat(verifications).hasValue(1);
+  }
+
+  @Test
+  void get_ShouldVerifyAgainOnceTokenExpires() throws InterruptedException {
+    String token = "token-" + UUID.randomUUID();
+    VerifiedToken verified = verifiedToken(Instant.now().plusMillis(300));
+    AtomicInteger verifications = new AtomicInteger();
+    Function<String, VerifiedToken> expiringVerifier = t -> {
+      if (verifications.incrementAndGet() > 1) {
+        throw new CredentialsExpiredException("Token expired");
+      }
+      return verified;
+    };
+
+    assertThat(verifiedTokenCache.get(token, expiringVerifier)).isSameAs(verified);
+    assertThat(verifiedTokenCache.get(token, expiringVerifier)).isSameAs(verified);
+    assertThat(verifications).hasValue(1);
+
+    Thread.sleep(Duration.between(Instant.now(), verified.expiresAt()).plusMillis(50).toMillis());
+
+    assertThatThrownBy(() -> verifiedTokenCache.get(token, expiringVerifier))
+        .isInstanceOf(CredentialsExpiredException.class);
+    assertThat(verifications).hasValue(2);
+  }
+
+  @Test
+  void get_ShouldNotCacheFailedVerification() {
+    String token = "token-" + UUID.randomUUID();
+    VerifiedToken verified = verifiedToken(Instant.now().plus(Duration.ofHours(1)));
+    AtomicInteger verifications = new AtomicInteger();
+
+    assertThatThrownBy(() -> verifiedTokenCache.get(token, t -> {
+      verifications.incrementAndGet();
+      throw new BadCredentialsException("Invalid signature");
+    })).isInstanceOf(BadCredentialsException.class);
+
+    assertThat(verifiedTokenCache.get(token, counting(verifications, verified))).isSameAs(verified);
+    assertThat(verifications).hasValue(2);
+  }
+
+  @Test
+  void verifyAccessToken_ShouldServeCachedTokenUntilRevoked() {
+    String name = "vt-" + UUID.randomUUID().toString().substring(0, 8);
+    User user = userRepository.save(User.builder()
+        .username(name)
+        .email(name + "@example.com")
+        .build());
+    String token = authService.userIdToAuthResponse(user.getId(), Permission.ADMIN).getAccessToken();
+
+    VerifiedToken verified = authService.verifyAccessToken(token);
+    assertThat(verified.userId()).isEqualTo(user.getId());
+    assertThat(verified.permission()).isEqualTo(Permission.ADMIN);
+    assertThat(authService.verifyAccessToken(token)).isSameAs(verified);
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+        tokenRevocationStore.revoke(verified.tokenId(), verified.expiresAt()));
+
+    assertThatThrownBy(() -> authService.verifyAccessToken(token))
+        .isInstanceOf(BadCredentialsException.class);
+  }
+
+  private static VerifiedToken verifiedToken(Instant expiresAt) {
+    return new VerifiedToken(UUID.randomUUID(), UUID.randomUUID(), expiresAt, Permission.USER);
+  }
+
+  private static Function<String, VerifiedToken> counting(AtomicInteger verifications, VerifiedToken verified) {
+    return t -> {
+      verifications.incrementAndGet();
+      return verified;
+    };
+  }
+}